@@ -0,0 +1,342 @@
+package io.github.dr4c0nix.survivorgame;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.maps.MapLayer;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapTile;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.maps.tiled.tiles.AnimatedTiledMapTile;
+import com.badlogic.gdx.utils.Disposable;
+
+import java.util.ArrayList;
+
+/**
+ * Rendu des calques de tuiles statiques de la carte, précalculé au chargement.
+ *
+ * Les calques d'un groupe (fond ou premier plan) sont découpés en blocs de {@link #CHUNK_TILES}
+ * tuiles de côté ; chaque bloc est un cache de {@link SpriteCache} (sommets envoyés une seule fois au GPU).
+ * À chaque frame, seuls les blocs qui touchent la vue sont dessinés : les calques CSV ne sont plus
+ * parcourus. Les tuiles animées ne peuvent pas être figées : elles sont gardées à part et dessinées
+ * avec le SpriteBatch après les blocs de leur groupe.
+ */
+public class CachedMapRenderer implements Disposable {
+    /** Côté d'un bloc, en tuiles. */
+    public static final int CHUNK_TILES = 16;
+    static final int VERTEX_SIZE = 5;
+    static final int QUAD_SIZE = 4 * VERTEX_SIZE;
+    // position des coordonnées de texture dans un sommet
+    private static final int U = 3;
+    private static final int V = 4;
+    // sans indices, SpriteCache attend deux triangles (6 sommets) par image
+    private static final int[] TRIANGLE_CORNERS = {0, 1, 2, 2, 3, 0};
+
+    private final SpriteBatch batch;
+    private final SpriteCache cache;
+    private final int tileWidth;
+    private final int tileHeight;
+    private final int chunkColumns;
+    private final int chunkRows;
+    // identifiant de cache par groupe puis par bloc (ligne * chunkColumns + colonne), -1 si vide
+    private final int[][] chunkCaches;
+    private final ArrayList<ArrayList<AnimatedCell>> animatedCells = new ArrayList<ArrayList<AnimatedCell>>();
+
+    private final float[] quad = new float[QUAD_SIZE];
+    private final float[] triangles = new float[6 * VERTEX_SIZE];
+    private float viewX;
+    private float viewY;
+    private float viewWidth;
+    private float viewHeight;
+    private int visibleChunks = 0;
+
+    /** Tuile animée hors cache, avec sa position et la couleur de son calque. */
+    private static final class AnimatedCell {
+        final TiledMapTileLayer.Cell cell;
+        final float x;
+        final float y;
+        final float color;
+
+        AnimatedCell(TiledMapTileLayer.Cell cell, float x, float y, float color) {
+            this.cell = cell;
+            this.x = x;
+            this.y = y;
+            this.color = color;
+        }
+    }
+
+    /**
+     * Précalcule les groupes de calques donnés (noms absents ou calques masqués ignorés).
+     *
+     * @param map carte chargée (non possédée)
+     * @param batch batch des tuiles animées (non possédé)
+     * @param layerGroups groupes de calques, dans l'ordre de dessin de chaque groupe
+     */
+    public CachedMapRenderer(TiledMap map, SpriteBatch batch, String[]... layerGroups) {
+        this.batch = batch;
+        TiledMapTileLayer[][] groups = new TiledMapTileLayer[layerGroups.length][];
+        int mapWidth = 0;
+        int mapHeight = 0;
+        int width = 32;
+        int height = 32;
+        for (int g = 0; g < layerGroups.length; g++) {
+            groups[g] = new TiledMapTileLayer[layerGroups[g].length];
+            for (int l = 0; l < layerGroups[g].length; l++) {
+                MapLayer layer = map.getLayers().get(layerGroups[g][l]);
+                if (layer instanceof TiledMapTileLayer && layer.isVisible()) {
+                    TiledMapTileLayer tiles = (TiledMapTileLayer) layer;
+                    groups[g][l] = tiles;
+                    mapWidth = Math.max(mapWidth, tiles.getWidth());
+                    mapHeight = Math.max(mapHeight, tiles.getHeight());
+                    width = tiles.getTileWidth();
+                    height = tiles.getTileHeight();
+                }
+            }
+        }
+        this.tileWidth = width;
+        this.tileHeight = height;
+        this.chunkColumns = Math.max(1, (mapWidth + CHUNK_TILES - 1) / CHUNK_TILES);
+        this.chunkRows = Math.max(1, (mapHeight + CHUNK_TILES - 1) / CHUNK_TILES);
+        this.chunkCaches = new int[groups.length][chunkColumns * chunkRows];
+
+        this.cache = new SpriteCache(Math.max(1, countStaticTiles(groups)), false);
+        for (int g = 0; g < groups.length; g++) {
+            animatedCells.add(new ArrayList<AnimatedCell>());
+            for (int chunk = 0; chunk < chunkCaches[g].length; chunk++) {
+                chunkCaches[g][chunk] = bakeChunk(groups[g], g, chunk % chunkColumns, chunk / chunkColumns);
+            }
+        }
+    }
+
+    /** Nombre de tuiles statiques à réserver dans le SpriteCache. */
+    private static int countStaticTiles(TiledMapTileLayer[][] groups) {
+        int count = 0;
+        for (int g = 0; g < groups.length; g++) {
+            for (int l = 0; l < groups[g].length; l++) {
+                TiledMapTileLayer layer = groups[g][l];
+                if (layer == null) continue;
+                for (int x = 0; x < layer.getWidth(); x++) {
+                    for (int y = 0; y < layer.getHeight(); y++) {
+                        TiledMapTileLayer.Cell cell = layer.getCell(x, y);
+                        if (cell != null && cell.getTile() != null && !(cell.getTile() instanceof AnimatedTiledMapTile)) {
+                            count++;
+                        }
+                    }
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Fige les tuiles d'un bloc, calque par calque (l'ordre des calques est conservé dans le bloc).
+     *
+     * @return identifiant du cache, ou -1 si le bloc n'a aucune tuile statique
+     */
+    private int bakeChunk(TiledMapTileLayer[] layers, int group, int chunkX, int chunkY) {
+        boolean started = false;
+        for (int l = 0; l < layers.length; l++) {
+            TiledMapTileLayer layer = layers[l];
+            if (layer == null) continue;
+            float color = layerColor(layer);
+            float offsetX = layer.getRenderOffsetX();
+            float offsetY = -layer.getRenderOffsetY();
+            int endX = Math.min(layer.getWidth(), (chunkX + 1) * CHUNK_TILES);
+            int endY = Math.min(layer.getHeight(), (chunkY + 1) * CHUNK_TILES);
+            for (int y = chunkY * CHUNK_TILES; y < endY; y++) {
+                for (int x = chunkX * CHUNK_TILES; x < endX; x++) {
+                    TiledMapTileLayer.Cell cell = layer.getCell(x, y);
+                    if (cell == null || cell.getTile() == null) continue;
+                    float tileX = x * tileWidth + offsetX;
+                    float tileY = y * tileHeight + offsetY;
+                    if (cell.getTile() instanceof AnimatedTiledMapTile) {
+                        animatedCells.get(group).add(new AnimatedCell(cell, tileX, tileY, color));
+                        continue;
+                    }
+                    if (!started) {
+                        cache.beginCache();
+                        started = true;
+                    }
+                    TextureRegion region = cell.getTile().getTextureRegion();
+                    tileVertices(cell, region, tileX, tileY, color, quad);
+                    for (int v = 0; v < TRIANGLE_CORNERS.length; v++) {
+                        System.arraycopy(quad, TRIANGLE_CORNERS[v] * VERTEX_SIZE, triangles, v * VERTEX_SIZE, VERTEX_SIZE);
+                    }
+                    cache.add(region.getTexture(), triangles, 0, triangles.length);
+                }
+            }
+        }
+        return started ? cache.endCache() : -1;
+    }
+
+    /** Couleur compactée d'un calque (teinte et opacité), comme le rendu Tiled standard. */
+    private static float layerColor(TiledMapTileLayer layer) {
+        Color tint = layer.getCombinedTintColor();
+        return Color.toFloatBits(tint.r, tint.g, tint.b, tint.a * layer.getOpacity());
+    }
+
+    /**
+     * Remplit les 4 sommets (x, y, couleur, u, v) d'une tuile, retournements et rotations compris,
+     * dans le même ordre que OrthogonalTiledMapRenderer.
+     *
+     * @param cell cellule de la tuile
+     * @param region région dessinée
+     * @param x position X monde du coin bas-gauche
+     * @param y position Y monde du coin bas-gauche
+     * @param color couleur compactée
+     * @param out tableau d'au moins {@link #QUAD_SIZE} valeurs
+     */
+    static void tileVertices(TiledMapTileLayer.Cell cell, TextureRegion region, float x, float y, float color, float[] out) {
+        TiledMapTile tile = cell.getTile();
+        float x1 = x + tile.getOffsetX();
+        float y1 = y + tile.getOffsetY();
+        float x2 = x1 + region.getRegionWidth();
+        float y2 = y1 + region.getRegionHeight();
+        float u1 = region.getU();
+        float v1 = region.getV2();
+        float u2 = region.getU2();
+        float v2 = region.getV();
+
+        // coins : bas-gauche, haut-gauche, haut-droit, bas-droit
+        setVertex(out, 0, x1, y1, color, u1, v1);
+        setVertex(out, 1, x1, y2, color, u1, v2);
+        setVertex(out, 2, x2, y2, color, u2, v2);
+        setVertex(out, 3, x2, y1, color, u2, v1);
+        if (cell.getFlipHorizontally()) {
+            swap(out, 0, 2, U);
+            swap(out, 1, 3, U);
+        }
+        if (cell.getFlipVertically()) {
+            swap(out, 0, 2, V);
+            swap(out, 1, 3, V);
+        }
+        switch (cell.getRotation()) {
+            case TiledMapTileLayer.Cell.ROTATE_90:
+                rotate(out, U, 1);
+                rotate(out, V, 1);
+                break;
+            case TiledMapTileLayer.Cell.ROTATE_180:
+                rotate(out, U, 2);
+                rotate(out, V, 2);
+                break;
+            case TiledMapTileLayer.Cell.ROTATE_270:
+                rotate(out, U, 3);
+                rotate(out, V, 3);
+                break;
+            default:
+                break;
+        }
+    }
+
+    private static void setVertex(float[] out, int corner, float x, float y, float color, float u, float v) {
+        int o = corner * VERTEX_SIZE;
+        out[o] = x;
+        out[o + 1] = y;
+        out[o + 2] = color;
+        out[o + U] = u;
+        out[o + V] = v;
+    }
+
+    /** Échange une composante (U ou V) entre deux coins. */
+    private static void swap(float[] out, int a, int b, int component) {
+        int ia = a * VERTEX_SIZE + component;
+        int ib = b * VERTEX_SIZE + component;
+        float tmp = out[ia];
+        out[ia] = out[ib];
+        out[ib] = tmp;
+    }
+
+    /** Décale une composante de quarts de tour : le coin i prend la valeur du coin i + steps. */
+    private static void rotate(float[] out, int component, int steps) {
+        for (int s = 0; s < steps; s++) {
+            float first = out[component];
+            for (int corner = 0; corner < 3; corner++) {
+                out[corner * VERTEX_SIZE + component] = out[(corner + 1) * VERTEX_SIZE + component];
+            }
+            out[3 * VERTEX_SIZE + component] = first;
+        }
+    }
+
+    /**
+     * Mémorise la zone visible de la caméra pour les prochains rendus.
+     *
+     * @param camera caméra du jeu (déjà mise à jour)
+     */
+    public void setView(OrthographicCamera camera) {
+        viewWidth = camera.viewportWidth * camera.zoom;
+        viewHeight = camera.viewportHeight * camera.zoom;
+        viewX = camera.position.x - viewWidth * 0.5f;
+        viewY = camera.position.y - viewHeight * 0.5f;
+        cache.setProjectionMatrix(camera.combined);
+    }
+
+    /**
+     * Dessine un groupe de calques : blocs visibles du cache, puis tuiles animées visibles.
+     * Le SpriteBatch ne doit pas être ouvert.
+     *
+     * @param group indice du groupe (ordre du constructeur)
+     */
+    public void render(int group) {
+        int firstColumn = chunkIndex(viewX, tileWidth, chunkColumns);
+        int lastColumn = chunkIndex(viewX + viewWidth, tileWidth, chunkColumns);
+        int firstRow = chunkIndex(viewY, tileHeight, chunkRows);
+        int lastRow = chunkIndex(viewY + viewHeight, tileHeight, chunkRows);
+
+        Gdx.gl.glEnable(GL20.GL_BLEND);
+        Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        cache.begin();
+        int[] caches = chunkCaches[group];
+        if (group == 0) visibleChunks = 0;
+        for (int row = firstRow; row <= lastRow; row++) {
+            for (int column = firstColumn; column <= lastColumn; column++) {
+                int id = caches[row * chunkColumns + column];
+                if (id < 0) continue;
+                cache.draw(id);
+                visibleChunks++;
+            }
+        }
+        cache.end();
+
+        ArrayList<AnimatedCell> animated = animatedCells.get(group);
+        if (animated.isEmpty()) return;
+        AnimatedTiledMapTile.updateAnimationBaseTime();
+        batch.begin();
+        for (int i = 0; i < animated.size(); i++) {
+            AnimatedCell a = animated.get(i);
+            if (a.x > viewX + viewWidth || a.x + tileWidth < viewX || a.y > viewY + viewHeight || a.y + tileHeight < viewY) {
+                continue;
+            }
+            TextureRegion region = a.cell.getTile().getTextureRegion();
+            tileVertices(a.cell, region, a.x, a.y, a.color, quad);
+            batch.draw(region.getTexture(), quad, 0, QUAD_SIZE);
+        }
+        batch.end();
+    }
+
+    /**
+     * Bloc (colonne ou ligne) qui contient une coordonnée monde, borné à la carte.
+     *
+     * @param coordinate coordonnée monde (pixels)
+     * @param tileSize taille d'une tuile sur cet axe
+     * @param chunkCount nombre de blocs sur cet axe
+     * @return indice du bloc
+     */
+    static int chunkIndex(float coordinate, int tileSize, int chunkCount) {
+        int chunk = (int) Math.floor(coordinate / (tileSize * CHUNK_TILES));
+        return chunk < 0 ? 0 : (chunk >= chunkCount ? chunkCount - 1 : chunk);
+    }
+
+    /** Nombre de blocs dessinés à la dernière frame (tous groupes). */
+    public int getVisibleChunks() {
+        return visibleChunks;
+    }
+
+    @Override
+    public void dispose() {
+        cache.dispose();
+    }
+}
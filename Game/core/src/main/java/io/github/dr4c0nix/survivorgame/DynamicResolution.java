@@ -0,0 +1,102 @@
+package io.github.dr4c0nix.survivorgame;
+
+/**
+ * Échelle de rendu du monde (fraction de la résolution native), fixe ou ajustée automatiquement.
+ *
+ * En mode automatique, le temps de frame lissé est comparé à la cible : au-dessus de la marge haute
+ * l'échelle baisse tout de suite ; il faut rester sous la marge basse pendant {@link #STABLE_FRAMES}
+ * frames pour qu'elle remonte d'un cran. Avec la synchro verticale, le temps de frame ne descend jamais
+ * sous la cible : la remontée se fait donc à l'essai, et redescend si l'essai dépasse le budget.
+ * L'échelle varie par crans pour ne pas recréer le framebuffer du monde à chaque frame.
+ */
+public class DynamicResolution {
+    public static final float MIN_SCALE = 0.25f;
+    public static final float MAX_SCALE = 1f;
+    /** Cran de variation de l'échelle. */
+    public static final float STEP = 0.05f;
+    // au-dessus de target * OVER_BUDGET on baisse ; sous target * UNDER_BUDGET on peut remonter
+    static final float OVER_BUDGET = 1.15f;
+    static final float UNDER_BUDGET = 1.05f;
+    static final int STABLE_FRAMES = 120;
+    static final int COOLDOWN_FRAMES = 30;
+    private static final float SMOOTHING = 0.1f;
+
+    private final float targetFrameTime;
+    private boolean automatic;
+    private float scale;
+    private float smoothedFrameTime;
+    private int cooldown = 0;
+    private int stableFrames = 0;
+
+    /**
+     * @param targetFrameTime temps de frame visé en mode automatique (secondes)
+     */
+    public DynamicResolution(float targetFrameTime) {
+        this.targetFrameTime = targetFrameTime;
+        this.smoothedFrameTime = targetFrameTime;
+        this.scale = MAX_SCALE;
+    }
+
+    /**
+     * Applique une option d'échelle en pourcentage.
+     *
+     * @param percent pourcentage de la résolution native, ou {@link GameOptions#RENDER_SCALE_AUTO}
+     */
+    public void configure(int percent) {
+        automatic = percent == GameOptions.RENDER_SCALE_AUTO;
+        scale = automatic ? MAX_SCALE : quantize(percent / 100f);
+        smoothedFrameTime = targetFrameTime;
+        cooldown = 0;
+        stableFrames = 0;
+    }
+
+    /**
+     * Prend en compte la durée de la dernière frame (sans effet hors mode automatique).
+     *
+     * @param frameTime durée de la frame (secondes)
+     * @return échelle à utiliser pour la prochaine frame
+     */
+    public float update(float frameTime) {
+        if (!automatic) return scale;
+        smoothedFrameTime += (frameTime - smoothedFrameTime) * SMOOTHING;
+        if (cooldown > 0) {
+            cooldown--;
+            return scale;
+        }
+        if (smoothedFrameTime > targetFrameTime * OVER_BUDGET) {
+            setScaleAfterChange(scale - 2 * STEP);
+        } else if (smoothedFrameTime < targetFrameTime * UNDER_BUDGET) {
+            stableFrames++;
+            if (stableFrames >= STABLE_FRAMES && scale < MAX_SCALE) {
+                setScaleAfterChange(scale + STEP);
+            }
+        } else {
+            stableFrames = 0;
+        }
+        return scale;
+    }
+
+    private void setScaleAfterChange(float newScale) {
+        scale = quantize(newScale);
+        cooldown = COOLDOWN_FRAMES;
+        stableFrames = 0;
+        // la mesure lissée repart de la cible : l'effet du changement est mesuré à neuf
+        smoothedFrameTime = targetFrameTime;
+    }
+
+    /** Borne l'échelle et l'arrondit au cran le plus proche. */
+    static float quantize(float value) {
+        float steps = Math.round(value / STEP);
+        return Math.max(MIN_SCALE, Math.min(MAX_SCALE, steps * STEP));
+    }
+
+    /** Échelle courante (1 = résolution native). */
+    public float getScale() {
+        return scale;
+    }
+
+    /** Indique si l'échelle s'ajuste seule. */
+    public boolean isAutomatic() {
+        return automatic;
+    }
+}
@@ -0,0 +1,136 @@
+package io.github.dr4c0nix.survivorgame;
+
+/**
+ * Accumulateur de pas de temps fixe.
+ *
+ * Chaque frame, {@link #advance(float)} indique combien de ticks de simulation exécuter ;
+ * le reste de l'accumulateur donne le facteur d'interpolation ({@link #getAlpha()}) pour le rendu.
+ * Le rattrapage est borné : après un gel (chargement, fenêtre déplacée), on ne rejoue pas
+ * des dizaines de ticks d'un coup, le retard au-delà de la borne est abandonné.
+ *
+ * L'échelle de temps ({@link #setTimeScale(float)}) accélère ou ralentit la partie sans changer
+ * la durée d'un tick : à 16x, une frame exécute seize fois plus de ticks de même durée
+ * (collisions et déplacements restent ceux d'un tick normal) et la borne de rattrapage suit l'échelle.
+ */
+public class FixedTimestep {
+    public static final int DEFAULT_MAX_TICKS_PER_FRAME = 5;
+    // delta maximal pris en compte pour une frame (évite la "spirale de la mort")
+    private static final float MAX_FRAME_DELTA = 0.25f;
+    public static final float MIN_TIME_SCALE = 0.25f;
+    public static final float MAX_TIME_SCALE = 16f;
+
+    private float step;
+    private int tickRate;
+    private final int maxTicksPerFrame;
+    private float accumulator = 0f;
+    private long tickCount = 0;
+    private float timeScale = 1f;
+
+    /**
+     * Crée un accumulateur à la fréquence donnée, avec la borne de rattrapage par défaut.
+     *
+     * @param tickRate fréquence de simulation (Hz)
+     */
+    public FixedTimestep(int tickRate) {
+        this(tickRate, DEFAULT_MAX_TICKS_PER_FRAME);
+    }
+
+    /**
+     * Crée un accumulateur.
+     *
+     * @param tickRate fréquence de simulation (Hz)
+     * @param maxTicksPerFrame nombre maximal de ticks exécutés pour une seule frame
+     */
+    public FixedTimestep(int tickRate, int maxTicksPerFrame) {
+        this.maxTicksPerFrame = Math.max(1, maxTicksPerFrame);
+        setTickRate(tickRate);
+    }
+
+    /**
+     * Ajoute le temps de la frame et retourne le nombre de ticks à simuler.
+     *
+     * @param frameDelta temps écoulé depuis la frame précédente (secondes)
+     * @return nombre de ticks de durée {@link #getStep()} à exécuter
+     */
+    public int advance(float frameDelta) {
+        if (frameDelta > 0f) {
+            accumulator += Math.min(frameDelta, MAX_FRAME_DELTA) * timeScale;
+        }
+        int maxTicks = getMaxTicksPerFrame();
+        int ticks = (int) (accumulator / step);
+        if (ticks > maxTicks) {
+            ticks = maxTicks;
+            // retard abandonné : on garde moins d'un tick en réserve
+            accumulator = Math.min(accumulator - ticks * step, step * 0.999f);
+        } else {
+            accumulator -= ticks * step;
+        }
+        tickCount += ticks;
+        return ticks;
+    }
+
+    /**
+     * Facteur d'interpolation entre l'état du tick précédent (0) et celui du dernier tick (1).
+     *
+     * @return alpha dans [0, 1[
+     */
+    public float getAlpha() {
+        float alpha = accumulator / step;
+        return alpha < 0f ? 0f : (alpha > 1f ? 1f : alpha);
+    }
+
+    /** Durée d'un tick (secondes). */
+    public float getStep() {
+        return step;
+    }
+
+    /** Fréquence de simulation (Hz). */
+    public int getTickRate() {
+        return tickRate;
+    }
+
+    /**
+     * Change la fréquence de simulation (minimum 1 Hz).
+     *
+     * @param tickRate nouvelle fréquence (Hz)
+     */
+    public void setTickRate(int tickRate) {
+        this.tickRate = Math.max(1, tickRate);
+        this.step = 1f / this.tickRate;
+        if (accumulator > step) accumulator = 0f;
+    }
+
+    /**
+     * Nombre maximal de ticks exécutés pour une frame (borne de rattrapage multipliée par l'échelle de temps).
+     *
+     * @return borne effective
+     */
+    public int getMaxTicksPerFrame() {
+        return timeScale <= 1f ? maxTicksPerFrame : (int) Math.ceil(maxTicksPerFrame * timeScale);
+    }
+
+    /** Échelle de temps de la simulation (1 = temps réel). */
+    public float getTimeScale() {
+        return timeScale;
+    }
+
+    /**
+     * Change l'échelle de temps de la simulation.
+     *
+     * @param timeScale facteur appliqué au temps des frames (clamp {@link #MIN_TIME_SCALE}..{@link #MAX_TIME_SCALE})
+     */
+    public void setTimeScale(float timeScale) {
+        this.timeScale = Math.max(MIN_TIME_SCALE, Math.min(MAX_TIME_SCALE, timeScale));
+    }
+
+    /** Nombre total de ticks exécutés depuis la création ou le dernier reset. */
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    /** Vide l'accumulateur et le compteur de ticks. */
+    public void reset() {
+        accumulator = 0f;
+        tickCount = 0;
+    }
+}
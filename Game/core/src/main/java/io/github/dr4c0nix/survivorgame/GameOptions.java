@@ -23,6 +23,18 @@ public class GameOptions {
     private boolean fullscreen;
     private int musicVolume;
     private int gameDuration;
+    private int tickRate;
+    private LightingQuality lightingQuality;
+    private int renderScale;
+
+    public static final int DEFAULT_TICK_RATE = 60;
+    public static final int MIN_TICK_RATE = 20;
+    public static final int MAX_TICK_RATE = 240;
+
+    /** Échelle de rendu du monde ajustée automatiquement selon le temps de frame. */
+    public static final int RENDER_SCALE_AUTO = 0;
+    public static final int MIN_RENDER_SCALE = 25;
+    public static final int MAX_RENDER_SCALE = 100;
     
     private static GameOptions instance;
     
@@ -60,6 +72,9 @@ public class GameOptions {
         fullscreen = prefs.getBoolean("fullscreen", true);
         musicVolume = prefs.getInteger("musicVolume", 100);
         gameDuration = prefs.getInteger("gameDuration", 5);
+        tickRate = sanitizeTickRate(prefs.getInteger("tickRate", DEFAULT_TICK_RATE));
+        lightingQuality = LightingQuality.fromName(prefs.getString("lightingQuality", LightingQuality.HIGH.name()));
+        renderScale = sanitizeRenderScale(prefs.getInteger("renderScale", MAX_RENDER_SCALE));
     }
     
     /**
@@ -85,6 +100,9 @@ public class GameOptions {
         prefs.putBoolean("fullscreen", fullscreen);
         prefs.putInteger("musicVolume", musicVolume);
         prefs.putInteger("gameDuration", gameDuration);
+        prefs.putInteger("tickRate", tickRate);
+        prefs.putString("lightingQuality", lightingQuality.name());
+        prefs.putInteger("renderScale", renderScale);
         prefs.flush();
     }
     
@@ -99,6 +117,9 @@ public class GameOptions {
         fullscreen = true;
         musicVolume = 100;
         gameDuration = 5;
+        tickRate = DEFAULT_TICK_RATE;
+        lightingQuality = LightingQuality.HIGH;
+        renderScale = MAX_RENDER_SCALE;
         savePreferences();
     }
     
@@ -235,6 +256,76 @@ public class GameOptions {
         savePreferences();
     }
     
+    /**
+     * Retourne la fréquence de simulation (ticks par seconde).
+     *
+     * @return fréquence en Hz
+     */
+    public int getTickRate() {
+        return tickRate;
+    }
+
+    /**
+     * Définit la fréquence de simulation (clamp 20..240 Hz) et sauvegarde.
+     *
+     * @param rate fréquence souhaitée en Hz (ex: 30 ou 60)
+     */
+    public void setTickRate(int rate) {
+        tickRate = sanitizeTickRate(rate);
+        savePreferences();
+    }
+
+    /**
+     * Retourne le niveau de qualité de l'éclairage.
+     *
+     * @return niveau de qualité (HIGH par défaut)
+     */
+    public LightingQuality getLightingQuality() {
+        return lightingQuality;
+    }
+
+    /**
+     * Définit le niveau de qualité de l'éclairage (appliqué à la prochaine partie) et sauvegarde.
+     *
+     * @param quality niveau souhaité (null : HIGH)
+     */
+    public void setLightingQuality(LightingQuality quality) {
+        lightingQuality = quality != null ? quality : LightingQuality.HIGH;
+        savePreferences();
+    }
+
+    /**
+     * Retourne l'échelle de rendu du monde, en pourcentage de la résolution native.
+     *
+     * @return pourcentage (25..100), ou {@link #RENDER_SCALE_AUTO}
+     */
+    public int getRenderScale() {
+        return renderScale;
+    }
+
+    /**
+     * Définit l'échelle de rendu du monde (clamp 25..100 %, 0 pour le mode automatique) et sauvegarde.
+     *
+     * @param percent pourcentage de la résolution native, ou {@link #RENDER_SCALE_AUTO}
+     */
+    public void setRenderScale(int percent) {
+        renderScale = sanitizeRenderScale(percent);
+        savePreferences();
+    }
+
+    /** Mode automatique conservé, sinon clamp dans les bornes (valeur négative -> pleine résolution). */
+    private static int sanitizeRenderScale(int percent) {
+        if (percent == RENDER_SCALE_AUTO) return RENDER_SCALE_AUTO;
+        if (percent < 0) return MAX_RENDER_SCALE;
+        return Math.max(MIN_RENDER_SCALE, Math.min(MAX_RENDER_SCALE, percent));
+    }
+
+    /** Valeur absente ou invalide -> valeur par défaut, sinon clamp dans les bornes. */
+    private static int sanitizeTickRate(int rate) {
+        if (rate <= 0) return DEFAULT_TICK_RATE;
+        return Math.max(MIN_TICK_RATE, Math.min(MAX_TICK_RATE, rate));
+    }
+
     /**
      * Convertit un code de touche en chaîne lisible (ex: Keys.Z -> "Z").
      *
@@ -0,0 +1,61 @@
+package io.github.dr4c0nix.survivorgame;
+
+import com.badlogic.gdx.math.RandomXS128;
+
+/**
+ * Hasard d'une partie, entièrement dérivé d'une graine.
+ *
+ * Chaque système tire dans son propre flux ({@link RandomXS128}, sans allocation par tirage) :
+ * un changement dans le combat ne décale pas les apparitions, et une même graine rejoue
+ * exactement la même partie avec les mêmes entrées. Les graines des flux sont dérivées de la
+ * graine principale par SplitMix64 pour qu'elles soient bien décorrélées.
+ */
+public class GameRandom {
+    private final long seed;
+    private final RandomXS128 spawn;
+    private final RandomXS128 combat;
+    private final RandomXS128 upgrades;
+
+    /**
+     * @param seed graine de la partie
+     */
+    public GameRandom(long seed) {
+        this.seed = seed;
+        this.spawn = new RandomXS128(mix(seed + 1));
+        this.combat = new RandomXS128(mix(seed + 2));
+        this.upgrades = new RandomXS128(mix(seed + 3));
+    }
+
+    /** Tire une nouvelle graine pour une partie non rejouée. */
+    public static long newSeed() {
+        return mix(System.nanoTime() ^ System.currentTimeMillis());
+    }
+
+    /** Étape de mélange SplitMix64. */
+    static long mix(long z) {
+        z += 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /** Graine de la partie. */
+    public long getSeed() {
+        return seed;
+    }
+
+    /** Flux des apparitions (zone, type et position des ennemis). */
+    public RandomXS128 spawn() {
+        return spawn;
+    }
+
+    /** Flux du combat (coups critiques). */
+    public RandomXS128 combat() {
+        return combat;
+    }
+
+    /** Flux des améliorations (options proposées et leurs valeurs). */
+    public RandomXS128 upgrades() {
+        return upgrades;
+    }
+}
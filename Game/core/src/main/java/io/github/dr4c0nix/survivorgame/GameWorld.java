@@ -0,0 +1,689 @@
+package io.github.dr4c0nix.survivorgame;
+
+import com.badlogic.gdx.maps.MapLayer;
+import com.badlogic.gdx.maps.MapObject;
+import com.badlogic.gdx.maps.MapObjects;
+import com.badlogic.gdx.maps.objects.RectangleMapObject;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import io.github.dr4c0nix.survivorgame.entities.EnemyUpdater;
+import io.github.dr4c0nix.survivorgame.entities.EntityCommandBuffer;
+import io.github.dr4c0nix.survivorgame.entities.EntityFactory;
+import io.github.dr4c0nix.survivorgame.entities.LivingEntity;
+import io.github.dr4c0nix.survivorgame.entities.OrbCoalescer;
+import io.github.dr4c0nix.survivorgame.entities.OrbXp;
+import io.github.dr4c0nix.survivorgame.entities.PoolSizing;
+import io.github.dr4c0nix.survivorgame.entities.Projectile;
+import io.github.dr4c0nix.survivorgame.entities.SpawnManager;
+import io.github.dr4c0nix.survivorgame.entities.enemy.ClassicEnemy;
+import io.github.dr4c0nix.survivorgame.entities.player.Player;
+import io.github.dr4c0nix.survivorgame.weapon.WoodStick;
+
+import java.util.ArrayList;
+
+/**
+ * Cœur de la simulation d'une partie, sans aucun contexte graphique.
+ *
+ * Contient le joueur, la factory et ses pools, le spawn, le pathfinding, les collisions,
+ * les zones de déclenchement et le temps de jeu. {@link #tick(float)} avance la partie d'un pas ;
+ * les événements utiles au rendu (impacts, arène fermée, lumières, level-up, fin de partie)
+ * sont remontés à un {@link Listener} optionnel. Sans listener, le monde tourne seul (benchmarks, CI).
+ * Les systèmes d'un tick sont des jobs d'un {@link JobGraph} : ceux qui ne partagent aucun état
+ * (champ de flux et apparitions, par exemple) s'exécutent en même temps.
+ */
+public class GameWorld implements WorldContext {
+    public static final int TILE_SIZE = 32;
+    // côté d'une case des grilles de rendu : plus grand que le plus grand sprite d'entité
+    static final float RENDER_CELL_SIZE = 4 * TILE_SIZE;
+    private static final Vector2 NO_DIRECTION = new Vector2(0, 0);
+
+    // ressources du monde déclarées par les jobs du tick (voir registerJobs)
+    static final int RES_PLAYER = 1;
+    static final int RES_ENEMIES = 1 << 1;
+    static final int RES_PROJECTILES = 1 << 2;
+    static final int RES_ORBS = 1 << 3;
+    static final int RES_FLOW = 1 << 4;
+    static final int RES_SPAWN = 1 << 5;
+    static final int RES_COLLISIONS = 1 << 6;
+    static final int RES_COMMANDS = 1 << 7;
+
+    /**
+     * Événements de la simulation destinés à la présentation (écran, sons, effets).
+     */
+    public interface Listener {
+        /** Un projectile a infligé des dégâts à un ennemi. */
+        void onEnemyHit(Projectile projectile, ClassicEnemy enemy, float damageDealt, boolean crit);
+
+        /** Le joueur a quitté la zone de départ : l'arène est fermée derrière lui. */
+        void onArenaSealed();
+
+        /** Le joueur a franchi l'interrupteur de lumières. */
+        void onLightsToggled(boolean lightsEnabled);
+
+        /** Le joueur a gagné un niveau. */
+        void onLevelUp();
+
+        /** Le joueur est mort. */
+        void onGameOver();
+
+        /** La durée de la partie est atteinte. */
+        void onVictory();
+    }
+
+    private final TiledMap map;
+    private final float maxTime;
+    private final GameRandom random;
+    private Listener listener;
+
+    private Player player;
+    private Vector2 spawnPoint;
+    private EntityFactory entityFactory;
+    private EntityCommandBuffer commandBuffer;
+    private OrbCoalescer orbCoalescer;
+    private SpawnManager spawnManager;
+    private final EnemyUpdater enemyUpdater;
+    private final JobGraph jobs;
+    private PathfindingMap pathfindingMap;
+    private ArrayList<Rectangle> collisionRectangles;
+    // entités rangées par position de rendu (remplies par interpolate) pour ne dessiner que le visible
+    private SpatialGrid<ClassicEnemy> enemyGrid;
+    private SpatialGrid<Projectile> projectileGrid;
+    private SpatialGrid<OrbXp> orbGrid;
+
+    private Rectangle triggerRect;
+    private boolean wasInTrigger = false;
+    private Rectangle lightTogglerRect;
+    private boolean wasInLightToggler = false;
+    private boolean lightsEnabled = true;
+    private Rectangle comingFromR1;
+    private Rectangle comingFromR2;
+    private boolean ccomingFromR1 = true;
+    private boolean ccomingFromR2 = false;
+    // sondes de collision réutilisées par handleTriggers / handleLights
+    private final Rectangle headProbe = new Rectangle();
+    private final Rectangle feetProbe = new Rectangle();
+
+    private float elapsedTime = 0f;
+    private int tickCount = 0;
+    private boolean over = false;
+    // mesures par système (null : désactivées, aucun appel à System.nanoTime)
+    private SystemTimings timings;
+
+    /**
+     * Construit le monde à partir d'une carte déjà chargée.
+     *
+     * @param map carte Tiled (couches spawn, collisions, trigger, lightstoggler, mobspawn ; non possédée)
+     * @param maxTime durée de la partie (secondes)
+     * @param poolSizing dimensionnement des pools de la factory
+     */
+    public GameWorld(TiledMap map, float maxTime, PoolSizing poolSizing) {
+        this(map, maxTime, poolSizing, GameRandom.newSeed());
+    }
+
+    /**
+     * Construit le monde avec une graine imposée : mêmes entrées, même partie.
+     *
+     * @param map carte Tiled (couches spawn, collisions, trigger, lightstoggler, mobspawn ; non possédée)
+     * @param maxTime durée de la partie (secondes)
+     * @param poolSizing dimensionnement des pools de la factory
+     * @param seed graine de tout le hasard de la partie
+     */
+    public GameWorld(TiledMap map, float maxTime, PoolSizing poolSizing, long seed) {
+        this(map, maxTime, poolSizing, seed, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Construit le monde avec une graine et un nombre de threads de calcul imposés.
+     *
+     * @param map carte Tiled (couches spawn, collisions, trigger, lightstoggler, mobspawn ; non possédée)
+     * @param maxTime durée de la partie (secondes)
+     * @param poolSizing dimensionnement des pools de la factory
+     * @param seed graine de tout le hasard de la partie
+     * @param parallelism threads du graphe de jobs et de l'orientation des ennemis
+     *                    (1 : tout le tick sur le thread appelant)
+     */
+    public GameWorld(TiledMap map, float maxTime, PoolSizing poolSizing, long seed, int parallelism) {
+        this.map = map;
+        this.maxTime = maxTime;
+        this.random = new GameRandom(seed);
+        this.jobs = new JobGraph(parallelism);
+        // un seul pool pour tout le tick : l'orientation des ennemis se découpe dans les threads du graphe
+        this.enemyUpdater = new EnemyUpdater(jobs.getPool());
+        parseMap();
+        float worldWidth = pathfindingMap.getWidth() * TILE_SIZE;
+        float worldHeight = pathfindingMap.getHeight() * TILE_SIZE;
+        this.enemyGrid = new SpatialGrid<ClassicEnemy>(RENDER_CELL_SIZE, worldWidth, worldHeight);
+        this.projectileGrid = new SpatialGrid<Projectile>(RENDER_CELL_SIZE, worldWidth, worldHeight);
+        this.orbGrid = new SpatialGrid<OrbXp>(RENDER_CELL_SIZE, worldWidth, worldHeight);
+
+        this.entityFactory = new EntityFactory(this, poolSizing);
+        this.commandBuffer = new EntityCommandBuffer(entityFactory);
+        this.orbCoalescer = new OrbCoalescer(commandBuffer);
+
+        this.player = new Player(spawnPoint);
+        player.setGameplay(this);
+        player.setWeapon(new WoodStick(entityFactory));
+
+        this.spawnManager = new SpawnManager(this, entityFactory, map, random.spawn());
+        this.spawnManager.unlockSpawning();
+        registerJobs();
+    }
+
+    /** Lit le point d'apparition, les collisions, le pathfinding et les zones de déclenchement. */
+    private void parseMap() {
+        spawnPoint = new Vector2(0, 0);
+        MapLayer spawnLayer = map.getLayers().get("spawn");
+        if (spawnLayer != null) {
+            MapObject spawnObj = spawnLayer.getObjects().get("spawnpoint");
+            if (spawnObj != null) {
+                float x = spawnObj.getProperties().get("x", Float.class);
+                float y = spawnObj.getProperties().get("y", Float.class);
+                spawnPoint.set(x, y);
+            }
+        }
+
+        MapLayer collisionsLayer = map.getLayers().get("collisions");
+        collisionRectangles = new ArrayList<>();
+        if (collisionsLayer != null) {
+            for (MapObject obj : collisionsLayer.getObjects()) {
+                if (obj instanceof RectangleMapObject) {
+                    Rectangle r = ((RectangleMapObject) obj).getRectangle();
+                    collisionRectangles.add(new Rectangle(r));
+                }
+            }
+        }
+
+        if (map.getLayers().getCount() > 0 && map.getLayers().get(0) instanceof TiledMapTileLayer) {
+            TiledMapTileLayer layer = (TiledMapTileLayer) map.getLayers().get(0);
+            pathfindingMap = new PathfindingMap(layer.getWidth(), layer.getHeight());
+            for (int i = 0; i < collisionRectangles.size(); i++) {
+                markWalls(collisionRectangles.get(i));
+            }
+        } else {
+            pathfindingMap = new PathfindingMap(100, 100);
+        }
+
+        MapLayer triggerLayer = map.getLayers().get("trigger");
+        if (triggerLayer != null) {
+            MapObject triggerObj = triggerLayer.getObjects().get("trigger");
+            if (triggerObj instanceof RectangleMapObject) {
+                triggerRect = ((RectangleMapObject) triggerObj).getRectangle();
+            }
+        }
+
+        MapLayer togglerLayer = map.getLayers().get("lightstoggler");
+        if (togglerLayer != null) {
+            MapObjects togglerObjs = togglerLayer.getObjects();
+            for (MapObject obj : togglerObjs) {
+                if (!(obj instanceof RectangleMapObject) || obj.getName() == null) continue;
+                Rectangle rect = ((RectangleMapObject) obj).getRectangle();
+                if (obj.getName().equals("lightstoggler")) {
+                    lightTogglerRect = rect;
+                } else if (obj.getName().equals("comingfromr1")) {
+                    comingFromR1 = rect;
+                } else if (obj.getName().equals("comingfromr2")) {
+                    comingFromR2 = rect;
+                }
+            }
+        }
+    }
+
+    /** Marque comme murs du pathfinding toutes les cases couvertes par un rectangle. */
+    private void markWalls(Rectangle rect) {
+        if (pathfindingMap == null) return;
+        int startX = (int) (rect.x / TILE_SIZE);
+        int startY = (int) (rect.y / TILE_SIZE);
+        int endX = (int) ((rect.x + rect.width) / TILE_SIZE);
+        int endY = (int) ((rect.y + rect.height) / TILE_SIZE);
+        for (int x = startX; x <= endX; x++) {
+            for (int y = startY; y <= endY; y++) {
+                pathfindingMap.setWall(x, y);
+            }
+        }
+    }
+
+    /**
+     * Avance la simulation d'un pas.
+     *
+     * @param delta durée du pas (secondes)
+     * @return false si la partie est terminée (victoire ou mort du joueur)
+     */
+    public boolean tick(float delta) {
+        if (over) return false;
+        saveEntityPositions();
+
+        elapsedTime += delta;
+
+        if (elapsedTime >= maxTime) {
+            over = true;
+            if (listener != null) listener.onVictory();
+            return false;
+        }
+        tickCount++;
+
+        jobs.run(delta, timings);
+        if (timings != null) timings.endTick();
+
+        return !over;
+    }
+
+    /**
+     * Déclare les systèmes du tick dans le graphe de jobs, dans l'ordre logique du tick
+     * (le même que {@link SystemTimings}). Les masques décrivent l'état réellement touché :
+     * un job qui peut prévenir le listener ou lire les entrées reste sur le thread appelant, de même
+     * qu'un job qui peut faire grandir un pool (un nouvel objet charge son sprite, donc touche OpenGL).
+     */
+    private void registerJobs() {
+        addJob(SystemTimings.DIFFICULTY, RES_PLAYER, RES_SPAWN);
+        addJob(SystemTimings.SPAWN, RES_PLAYER | RES_COLLISIONS, RES_SPAWN | RES_ENEMIES | JobGraph.MAIN_THREAD);
+        addJob(SystemTimings.FLOW_FIELD, RES_PLAYER, RES_FLOW);
+        addJob(SystemTimings.PLAYER, RES_COLLISIONS, RES_PLAYER | RES_PROJECTILES | JobGraph.MAIN_THREAD);
+        addJob(SystemTimings.PROJECTILES, 0, RES_PROJECTILES);
+        addJob(SystemTimings.HITS, RES_COLLISIONS | RES_PLAYER,
+            RES_ENEMIES | RES_PROJECTILES | RES_COMMANDS | JobGraph.MAIN_THREAD);
+        addJob(SystemTimings.ENEMIES, RES_FLOW | RES_PLAYER | RES_COLLISIONS, RES_ENEMIES);
+        addJob(SystemTimings.CONTACTS, RES_ENEMIES, RES_PLAYER | RES_COMMANDS | JobGraph.MAIN_THREAD);
+        addJob(SystemTimings.TRIGGERS, RES_PLAYER, RES_COLLISIONS | RES_FLOW | JobGraph.MAIN_THREAD);
+        addJob(SystemTimings.ORBS, 0, RES_ORBS | RES_PLAYER | RES_COMMANDS | JobGraph.MAIN_THREAD);
+        addJob(SystemTimings.COALESCE, 0, RES_ORBS | RES_COMMANDS | JobGraph.MAIN_THREAD);
+        addJob(SystemTimings.COMMANDS, 0,
+            RES_COMMANDS | RES_ENEMIES | RES_PROJECTILES | RES_ORBS | JobGraph.MAIN_THREAD);
+    }
+
+    private void addJob(int system, int reads, int writes) {
+        int id = jobs.add(SystemTimings.getName(system), reads, writes, new SystemJob(system));
+        if (id != system) throw new IllegalStateException("Job " + SystemTimings.getName(system) + " déclaré hors ordre");
+    }
+
+    /** Exécute un système du tick. */
+    private void runSystem(int system, float delta) {
+        switch (system) {
+            case SystemTimings.DIFFICULTY:
+                updateDifficulty(delta);
+                break;
+            case SystemTimings.SPAWN:
+                spawnManager.update(delta, player);
+                break;
+            case SystemTimings.FLOW_FIELD:
+                updateFlowField();
+                break;
+            case SystemTimings.PLAYER:
+                player.update(delta);
+                break;
+            case SystemTimings.PROJECTILES:
+                entityFactory.updateProjectiles(delta);
+                break;
+            case SystemTimings.HITS:
+                resolveHits();
+                break;
+            case SystemTimings.ENEMIES:
+                // orientation en parallèle sur des positions figées, puis déplacements en série
+                enemyUpdater.update(entityFactory.getActiveEnemies(), delta);
+                break;
+            case SystemTimings.CONTACTS:
+                resolveContactsAndDeaths();
+                break;
+            case SystemTimings.TRIGGERS:
+                handleTriggers();
+                handleLights();
+                break;
+            case SystemTimings.ORBS:
+                updateOrbs(delta);
+                break;
+            case SystemTimings.COALESCE:
+                // Fusion périodique des orbes non ramassées (plafond du nombre d'orbes actives)
+                orbCoalescer.update(delta, entityFactory.getActiveOrbs());
+                break;
+            case SystemTimings.COMMANDS:
+                // Application unique des spawns / despawns différés du tick
+                commandBuffer.flush();
+                break;
+            default:
+                break;
+        }
+    }
+
+    /** Recalcule le champ de flux vers la case du joueur. */
+    private void updateFlowField() {
+        if (pathfindingMap != null && player != null) {
+            int px = (int) (player.getPosition().x / TILE_SIZE);
+            int py = (int) (player.getPosition().y / TILE_SIZE);
+            pathfindingMap.calculateFlow(px, py);
+        }
+    }
+
+    /** Applique les impacts des projectiles (murs et ennemis). */
+    private void resolveHits() {
+        ArrayList<Projectile> projectiles = entityFactory.getActiveProjectiles();
+        ArrayList<ClassicEnemy> enemies = entityFactory.getActiveEnemies();
+        for (int i = 0; i < projectiles.size(); i++) {
+            Projectile proj = projectiles.get(i);
+            if (isColliding(proj.getHitbox())) {
+                commandBuffer.despawnProjectile(proj);
+                continue;
+            }
+
+            for (int j = 0; j < enemies.size(); j++) {
+                ClassicEnemy enemy = enemies.get(j);
+                if (proj.getHitbox().overlaps(enemy.getHitbox())) {
+                    float baseDamage = proj.getDamage();
+                    float finalDamage = baseDamage;
+                    boolean crit = false;
+                    LivingEntity src = proj.getSource();
+                    if (src instanceof Player) {
+                        Player p = (Player) src;
+                        if (random.combat().nextFloat() * 100f <= p.getCritChance()) {
+                            finalDamage = baseDamage * p.getCritDamage();
+                            crit = true;
+                        }
+                    }
+                    float hpBefore = enemy.getHp();
+                    enemy.takeDamage(finalDamage);
+                    float damageDealt = hpBefore - enemy.getHp();
+                    if (listener != null && damageDealt > 0f) {
+                        listener.onEnemyHit(proj, enemy, damageDealt, crit);
+                    }
+                    commandBuffer.despawnProjectile(proj);
+                    break;
+                }
+            }
+        }
+    }
+
+    /** Dégâts de contact sur le joueur, puis orbes et despawn des ennemis morts. */
+    private void resolveContactsAndDeaths() {
+        ArrayList<ClassicEnemy> enemies = entityFactory.getActiveEnemies();
+        for (int i = 0; i < enemies.size(); i++) {
+            ClassicEnemy enemy = enemies.get(i);
+
+            if (player.getHitbox().overlaps(enemy.getHitbox())) {
+                player.takeDamage(enemy.getForce());
+            }
+
+            if (!enemy.isAlive()) {
+                float halfOrb = enemy.getXpOrbSize() * 0.5f;
+                float orbX = enemy.getPosition().x + enemy.getHitbox().width * 0.5f - halfOrb;
+                float orbY = enemy.getPosition().y + enemy.getHitbox().height * 0.5f - halfOrb;
+                commandBuffer.spawnOrb(orbX, orbY, enemy.getXpValue(), enemy.getXpOrbSize());
+                player.incrementMobKilled();
+                commandBuffer.despawnEnemy(enemy);
+            }
+        }
+    }
+
+    /** Anime les orbes et ramasse celles que le joueur touche. */
+    private void updateOrbs(float delta) {
+        ArrayList<OrbXp> orbs = entityFactory.getActiveOrbs();
+        for (int i = 0; i < orbs.size(); i++) {
+            OrbXp orb = orbs.get(i);
+            orb.update(delta);
+            if (orb.isAlive() && player.getHitbox().overlaps(orb.getHitbox())) {
+                player.addXp(orb.getXpValue());
+                orb.setAlive(false);
+                commandBuffer.despawnOrb(orb);
+            }
+        }
+    }
+
+    // public pour permettre le test unitaire
+    public void updateDifficulty(float delta) {
+        float timeFactor = 1.0f + (elapsedTime / 60f) * 0.1f;
+        float playerFactor = player.getDifficulter();
+        float totalDifficulty = timeFactor * playerFactor;
+        float baseSpawnInterval = 2.0f;
+        float newInterval = baseSpawnInterval / totalDifficulty;
+        if (newInterval < 0.1f) newInterval = 0.1f;
+        spawnManager.setSpawnInterval(newInterval);
+    }
+
+    /** Ferme l'arène quand le joueur a franchi la zone de départ (une seule fois). */
+    private void handleTriggers() {
+        if (triggerRect == null) return;
+        Rectangle head = headProbe.set(player.getPosition().x, player.getPosition().y + player.getHitbox().height - 2f, player.getHitbox().width, 2f);
+        boolean isInTrigger = head.overlaps(triggerRect);
+        if (isInTrigger) wasInTrigger = true;
+        if (wasInTrigger && !isInTrigger) {
+            collisionRectangles.add(triggerRect);
+            markWalls(triggerRect);
+            triggerRect = null;
+            wasInTrigger = false;
+            player.setAttacksEnabled(true);
+            if (listener != null) listener.onArenaSealed();
+        }
+    }
+
+    /** Bascule l'éclairage quand le joueur traverse l'interrupteur d'une salle à l'autre. */
+    private void handleLights() {
+        if (lightTogglerRect == null) return;
+        Rectangle feet = feetProbe.set(player.getPosition().x, player.getPosition().y, player.getHitbox().width, 5f);
+        boolean isInLightToggler = feet.overlaps(lightTogglerRect);
+        if (isInLightToggler) wasInLightToggler = true;
+        if (!isInLightToggler && wasInLightToggler) {
+            if ((ccomingFromR1 && comingFromR2 != null && feet.overlaps(comingFromR2))
+                || (ccomingFromR2 && comingFromR1 != null && feet.overlaps(comingFromR1))) {
+                lightsEnabled = !lightsEnabled;
+                ccomingFromR1 = !ccomingFromR1;
+                ccomingFromR2 = !ccomingFromR2;
+                if (listener != null) listener.onLightsToggled(lightsEnabled);
+            }
+            wasInLightToggler = false;
+        }
+    }
+
+    /** Mémorise la position de chaque entité mobile avant le tick (base de l'interpolation). */
+    private void saveEntityPositions() {
+        player.savePreviousPosition();
+        ArrayList<ClassicEnemy> enemies = entityFactory.getActiveEnemies();
+        for (int i = 0; i < enemies.size(); i++) {
+            enemies.get(i).savePreviousPosition();
+        }
+        ArrayList<Projectile> projectiles = entityFactory.getActiveProjectiles();
+        for (int i = 0; i < projectiles.size(); i++) {
+            projectiles.get(i).savePreviousPosition();
+        }
+    }
+
+    /**
+     * Place chaque entité mobile entre ses deux derniers états de simulation pour le rendu,
+     * et range les entités dans les grilles de rendu dans le même parcours.
+     *
+     * @param alpha facteur d'interpolation (0 = tick précédent, 1 = dernier tick)
+     */
+    public void interpolate(float alpha) {
+        player.interpolate(alpha);
+        enemyGrid.clear();
+        ArrayList<ClassicEnemy> enemies = entityFactory.getActiveEnemies();
+        for (int i = 0; i < enemies.size(); i++) {
+            ClassicEnemy enemy = enemies.get(i);
+            enemy.interpolate(alpha);
+            enemyGrid.insert(enemy);
+        }
+        projectileGrid.clear();
+        ArrayList<Projectile> projectiles = entityFactory.getActiveProjectiles();
+        for (int i = 0; i < projectiles.size(); i++) {
+            Projectile projectile = projectiles.get(i);
+            projectile.interpolate(alpha);
+            projectileGrid.insert(projectile);
+        }
+        orbGrid.clear();
+        ArrayList<OrbXp> orbs = entityFactory.getActiveOrbs();
+        for (int i = 0; i < orbs.size(); i++) {
+            orbGrid.insert(orbs.get(i));
+        }
+    }
+
+    /** Ennemis actifs rangés par position de rendu (à jour après {@link #interpolate(float)}). */
+    public SpatialGrid<ClassicEnemy> getEnemyGrid() {
+        return enemyGrid;
+    }
+
+    /** Projectiles actifs rangés par position de rendu (à jour après {@link #interpolate(float)}). */
+    public SpatialGrid<Projectile> getProjectileGrid() {
+        return projectileGrid;
+    }
+
+    /** Orbes actives rangées par position (à jour après {@link #interpolate(float)}). */
+    public SpatialGrid<OrbXp> getOrbGrid() {
+        return orbGrid;
+    }
+
+    @Override
+    public boolean isColliding(Rectangle rect) {
+        if (collisionRectangles == null || collisionRectangles.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < collisionRectangles.size(); i++) {
+            if (rect.overlaps(collisionRectangles.get(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Vector2 getDirection(int x, int y) {
+        if (pathfindingMap == null) return NO_DIRECTION;
+        int gx = x / TILE_SIZE;
+        int gy = y / TILE_SIZE;
+        return pathfindingMap.getDirection(gx, gy);
+    }
+
+    @Override
+    public int getFlowVersion() {
+        return pathfindingMap != null ? pathfindingMap.getVersion() : 0;
+    }
+
+    @Override
+    public void showLevelUpScreen() {
+        if (listener != null) listener.onLevelUp();
+    }
+
+    @Override
+    public void onGameOver() {
+        if (over) return;
+        over = true;
+        if (listener != null) listener.onGameOver();
+    }
+
+    @Override
+    public Player getPlayer() {
+        return player;
+    }
+
+    @Override
+    public ArrayList<ClassicEnemy> getActiveClassicEnemies() {
+        return entityFactory.getActiveEnemies();
+    }
+
+    @Override
+    public float getElapsedTime() {
+        return elapsedTime;
+    }
+
+    @Override
+    public EntityFactory getEntityFactory() {
+        return entityFactory;
+    }
+
+    /** Définit le listener des événements de la simulation (null : aucun). */
+    public void setListener(Listener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Active la mesure du temps passé dans chaque système.
+     *
+     * @param timings compteurs à alimenter (null : mesure désactivée)
+     */
+    public void setTimings(SystemTimings timings) {
+        this.timings = timings;
+    }
+
+    /** Nombre de ticks simulés depuis le début de la partie. */
+    public int getTickCount() {
+        return tickCount;
+    }
+
+    /** Hasard de la partie (graine et flux par système). */
+    public GameRandom getRandom() {
+        return random;
+    }
+
+    /** Graine de la partie (à afficher pour rejouer ou comparer deux builds). */
+    public long getSeed() {
+        return random.getSeed();
+    }
+
+    /** Durée de la partie (secondes). */
+    public float getMaxTime() {
+        return maxTime;
+    }
+
+    /** Indique si la partie est terminée (victoire ou mort). */
+    public boolean isOver() {
+        return over;
+    }
+
+    /** Indique si l'éclairage de la salle est allumé. */
+    public boolean isLightsEnabled() {
+        return lightsEnabled;
+    }
+
+    /** Carte de la partie. */
+    public TiledMap getMap() {
+        return map;
+    }
+
+    /** Point d'apparition du joueur. */
+    public Vector2 getSpawnPoint() {
+        return spawnPoint;
+    }
+
+    /** Grille de pathfinding (murs et champ de flux vers le joueur). */
+    public PathfindingMap getPathfindingMap() {
+        return pathfindingMap;
+    }
+
+    /** Zone de sortie de la salle de départ (null une fois l'arène fermée). */
+    public Rectangle getTriggerRect() {
+        return triggerRect;
+    }
+
+    /** Graphe des systèmes du tick (dépendances et ordonnancement). */
+    JobGraph getJobs() {
+        return jobs;
+    }
+
+    /** Gestionnaire d'apparition des ennemis. */
+    public SpawnManager getSpawnManager() {
+        return spawnManager;
+    }
+
+    /** Libère les ressources des entités du monde et les threads de calcul (la carte reste à la charge de l'appelant). */
+    public void dispose() {
+        jobs.dispose();
+        enemyUpdater.dispose();
+        if (player != null) {
+            try {
+                player.dispose();
+            } catch (Exception ignored) {
+            }
+        }
+    }
+
+    /** Job du graphe qui délègue à {@link #runSystem(int, float)}. */
+    private final class SystemJob implements JobGraph.Work {
+        private final int system;
+
+        SystemJob(int system) {
+            this.system = system;
+        }
+
+        @Override
+        public void run(float delta) {
+            runSystem(system, delta);
+        }
+    }
+}
@@ -3,12 +3,18 @@ package io.github.dr4c0nix.survivorgame;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.BitmapFontCache;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
-import com.badlogic.gdx.graphics.g2d.GlyphLayout; // ajout
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.graphics.g2d.GlyphLayout;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import io.github.dr4c0nix.survivorgame.entities.player.Player;
 
 /* 
@@ -29,7 +35,31 @@ public class Hud implements Screen {
     private float scaleY;
 
     private String currentIconPath = null;
-    private Texture iconTexture = null;
+    private TextureRegion iconRegion = null;
+
+    // valeurs affichées et lignes de texte : remises en page seulement si l'une d'elles change
+    private final TextLines text = new TextLines();
+    private final GlyphLayout hpLayout = new GlyphLayout();
+    private boolean layoutDirty = true;
+    private BitmapFontCache textCache;
+
+    // cadre statique (avatar, fonds des barres) cuit dans un framebuffer, redessiné au redimensionnement
+    private FrameBuffer frameBuffer;
+    private float frameX;
+    private float frameY;
+    private Texture pixel;
+
+    // géométrie du HUD, recalculée au redimensionnement
+    private float avatarCenterX;
+    private float avatarCenterY;
+    private float avatarRadius;
+    private float barsLeftX;
+    private float topTextY;
+    private float hpY;
+    private float xpY;
+    private float barWidth;
+    private float hpHeight;
+    private float xpHeight;
 
     public Hud(SpriteBatch sharedBatch) {
         this.batch = sharedBatch;
@@ -57,12 +87,6 @@ public class Hud implements Screen {
 
     @Override
     public void render(float delta) {
-        camera.update();
-
-        float hudX = 20 * scaleX;
-        float hudY = Gdx.graphics.getHeight() - 20 * scaleY;
-
-        float hpPercent = 0f;
         float xpPercent = 0f;
         String name = "Player";
         int level = 1;
@@ -70,83 +94,217 @@ public class Hud implements Screen {
         if (player != null) {
             hpMax = Math.max(player.getMaxHp(), 1f);
             hpCur = player.getHp();
-            hpPercent = hpCur / hpMax;
             xpPercent = (float) player.getXpactual() / Math.max(player.getExperienceToNextLevel(), 1);
             name = player.getDescription();
             level = player.getLevel();
 
             String newIconPath = player.getCurrentWeapon().getIconPath();
             if (!newIconPath.equals(currentIconPath)) {
-                if (iconTexture != null) {
-                    iconTexture.dispose();
-                }
-                iconTexture = new Texture(Gdx.files.internal(newIconPath));
+                iconRegion = Sprites.get(newIconPath);
                 currentIconPath = newIconPath;
             }
         }
+        float hpPercent = hpCur / hpMax;
 
-        float avatarCenterX = hudX + 55 * scaleX;
-        float avatarCenterY = hudY - 55 * scaleY;
-        float avatarRadius = 50 * Math.min(scaleX, scaleY);
+        if (layoutDirty) {
+            computeLayout();
+            bakeFrame();
+        }
+        boolean textDirty = text.update(name, level, hpCur, hpMax, (int) (xpPercent * 100));
+        if (textDirty || layoutDirty) rebuildText();
+        layoutDirty = false;
 
-        float barsLeftX = hudX + 130 * scaleX;
-        float topTextY = hudY - 10 * scaleY;
+        if (frameBuffer == null) drawFrameShapes();
 
-        float hp_W = 300 * scaleX;
-        float hp_H = 20 * scaleY;
-        float hp_X = barsLeftX;
-        float hp_Y = avatarCenterY + 10 * scaleY - (5 * scaleY);
+        batch.setProjectionMatrix(camera.combined);
+        batch.begin();
+        if (frameBuffer != null) {
+            batch.draw(frameBuffer.getColorBufferTexture(), frameX, frameY,
+                frameBuffer.getWidth(), frameBuffer.getHeight(), 0, 0,
+                frameBuffer.getWidth(), frameBuffer.getHeight(), false, true);
+        }
+        if (pixel != null) {
+            batch.setColor(Color.GREEN);
+            batch.draw(pixel, barsLeftX, hpY, barWidth * clamp01(hpPercent), hpHeight);
+            batch.setColor(Color.CYAN);
+            batch.draw(pixel, barsLeftX, xpY, barWidth * clamp01(xpPercent), xpHeight);
+            batch.setColor(Color.WHITE);
+        }
+        textCache.draw(batch);
 
-        float xp_W = hp_W;
-        float xp_H = 12 * scaleY;
-        float xp_X = barsLeftX;
-        float xp_Y = hp_Y - hp_H - 25 * scaleY;
+        if (iconRegion != null) {
+            float iconSize = avatarRadius * 0.8f;
+            batch.draw(iconRegion, avatarCenterX - iconSize / 2, avatarCenterY - iconSize / 2, iconSize, iconSize);
+        }
 
-        shape.setProjectionMatrix(camera.combined);
-        shape.begin(ShapeRenderer.ShapeType.Filled);
+        batch.end();
+    }
 
-        shape.setColor(Color.DARK_GRAY);
-        shape.circle(avatarCenterX, avatarCenterY, avatarRadius);
+    private static float clamp01(float value) {
+        return value < 0f ? 0f : (value > 1f ? 1f : value);
+    }
 
-        shape.setColor(Color.DARK_GRAY);
-        shape.rect(hp_X, hp_Y, hp_W, hp_H);
+    /** Recalcule la géométrie du HUD pour la taille d'écran courante. */
+    private void computeLayout() {
+        float hudX = 20 * scaleX;
+        float hudY = camera.viewportHeight - 20 * scaleY;
 
-        shape.setColor(Color.GREEN);
-        shape.rect(hp_X, hp_Y, hp_W * hpPercent, hp_H);
+        avatarCenterX = hudX + 55 * scaleX;
+        avatarCenterY = hudY - 55 * scaleY;
+        avatarRadius = 50 * Math.min(scaleX, scaleY);
 
-        shape.setColor(Color.DARK_GRAY);
-        shape.rect(xp_X, xp_Y, xp_W, xp_H);
-        shape.setColor(Color.CYAN);
-        shape.rect(xp_X, xp_Y, xp_W * xpPercent, xp_H);
+        barsLeftX = hudX + 130 * scaleX;
+        topTextY = hudY - 10 * scaleY;
 
-        shape.end();
+        barWidth = 300 * scaleX;
+        hpHeight = 20 * scaleY;
+        hpY = avatarCenterY + 10 * scaleY - (5 * scaleY);
+        xpHeight = 12 * scaleY;
+        xpY = hpY - hpHeight - 25 * scaleY;
+    }
 
-        batch.setProjectionMatrix(camera.combined);
-        batch.begin();
+    /** Remet en page les trois lignes de texte dans le cache de glyphes. */
+    private void rebuildText() {
         font.getData().setScale(1.2f * Math.min(scaleX, scaleY));
+        if (textCache == null) textCache = font.newFontCache();
+        textCache.clear();
+        text.build();
 
-        font.draw(batch, name + "  (Lvl " + level + ")", barsLeftX, topTextY);
+        textCache.addText(text.name, barsLeftX, topTextY);
 
-        String hpText = String.format("HP: %.2f / %.2f", hpCur, hpMax);
-        GlyphLayout hpLayout = new GlyphLayout(font, hpText);
-        float hpTextX = hp_X + (hp_W - hpLayout.width) * 0.5f;
-        float hpTextY = hp_Y + (hp_H + font.getCapHeight() * font.getScaleY()) * 0.5f;
-        font.draw(batch, hpLayout, hpTextX, hpTextY);
+        hpLayout.setText(font, text.hp);
+        float hpTextX = barsLeftX + (barWidth - hpLayout.width) * 0.5f;
+        float hpTextY = hpY + (hpHeight + font.getCapHeight() * font.getScaleY()) * 0.5f;
+        textCache.addText(hpLayout, hpTextX, hpTextY);
 
-        String xpText = "XP: " + (int)(xpPercent * 100) + "%";
-        font.draw(batch, xpText, xp_X, xp_Y + xp_H + 20 * scaleY);
+        textCache.addText(text.xp, barsLeftX, xpY + xpHeight + 20 * scaleY);
+    }
 
-        if (iconTexture != null) {
-            float iconSize = avatarRadius * 0.8f;
-            batch.draw(iconTexture, avatarCenterX - iconSize / 2, avatarCenterY - iconSize / 2, iconSize, iconSize);
+    /** Cuit l'avatar et les fonds des barres dans un framebuffer à la taille du cadre. */
+    private void bakeFrame() {
+        if (pixel == null) {
+            Pixmap white = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
+            white.setColor(Color.WHITE);
+            white.fill();
+            pixel = new Texture(white);
+            white.dispose();
+        }
+        if (frameBuffer != null) {
+            frameBuffer.dispose();
+            frameBuffer = null;
         }
 
-        batch.end();
+        frameX = (float) Math.floor(Math.min(avatarCenterX - avatarRadius, barsLeftX)) - 1f;
+        frameY = (float) Math.floor(Math.min(avatarCenterY - avatarRadius, xpY)) - 1f;
+        int width = (int) Math.ceil(Math.max(avatarCenterX + avatarRadius, barsLeftX + barWidth) - frameX) + 1;
+        int height = (int) Math.ceil(Math.max(avatarCenterY + avatarRadius, hpY + hpHeight) - frameY) + 1;
+        try {
+            frameBuffer = new FrameBuffer(Pixmap.Format.RGBA8888, Math.max(1, width), Math.max(1, height), false);
+        } catch (Exception e) {
+            // sans framebuffer, le cadre est redessiné à chaque frame
+            if (Gdx.app != null) Gdx.app.error("Hud", "Framebuffer du HUD indisponible", e);
+            return;
+        }
+
+        frameBuffer.begin();
+        Gdx.gl.glClearColor(0f, 0f, 0f, 0f);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+        Matrix4 projection = shape.getProjectionMatrix();
+        projection.setToOrtho2D(frameX, frameY, frameBuffer.getWidth(), frameBuffer.getHeight());
+        shape.setProjectionMatrix(projection);
+        shapeFrame();
+        frameBuffer.end();
+    }
+
+    /** Repli : dessine le cadre statique directement à l'écran. */
+    private void drawFrameShapes() {
+        shape.setProjectionMatrix(camera.combined);
+        shapeFrame();
+    }
+
+    private void shapeFrame() {
+        shape.begin(ShapeRenderer.ShapeType.Filled);
+        shape.setColor(Color.DARK_GRAY);
+        shape.circle(avatarCenterX, avatarCenterY, avatarRadius);
+        shape.rect(barsLeftX, hpY, barWidth, hpHeight);
+        shape.rect(barsLeftX, xpY, barWidth, xpHeight);
+        shape.end();
+    }
+
+    /**
+     * Ajoute une valeur avec deux décimales (équivalent de %.2f, sans allocation).
+     *
+     * @param out tampon de destination
+     * @param value valeur à formater
+     */
+    static void appendTwoDecimals(StringBuilder out, float value) {
+        long hundredths = Math.round(value * 100.0);
+        if (hundredths < 0) {
+            out.append('-');
+            hundredths = -hundredths;
+        }
+        out.append(hundredths / 100).append('.');
+        long decimals = hundredths % 100;
+        if (decimals < 10) out.append('0');
+        out.append(decimals);
+    }
+
+    /**
+     * Valeurs affichées par le HUD et leurs lignes de texte, sans aucun objet graphique.
+     * Les tampons sont réutilisés (pas de String.format ni de concaténation).
+     */
+    static final class TextLines {
+        final StringBuilder name = new StringBuilder(32);
+        final StringBuilder hp = new StringBuilder(32);
+        final StringBuilder xp = new StringBuilder(16);
+
+        private String shownName;
+        private int shownLevel;
+        private long shownHp;
+        private long shownHpMax;
+        private int shownXp;
+
+        /**
+         * Mémorise les valeurs affichées et indique si l'une d'elles a changé
+         * (PV comparés au centième, comme à l'affichage).
+         *
+         * @return true si le texte doit être remis en page
+         */
+        boolean update(String playerName, int level, float currentHp, float maxHp, int xpPercent) {
+            long hpHundredths = Math.round(currentHp * 100.0);
+            long maxHundredths = Math.round(maxHp * 100.0);
+            if (playerName.equals(shownName) && level == shownLevel && hpHundredths == shownHp
+                && maxHundredths == shownHpMax && xpPercent == shownXp) {
+                return false;
+            }
+            shownName = playerName;
+            shownLevel = level;
+            shownHp = hpHundredths;
+            shownHpMax = maxHundredths;
+            shownXp = xpPercent;
+            return true;
+        }
+
+        /** Réécrit les trois lignes (nom et niveau, PV, XP) à partir des valeurs mémorisées. */
+        void build() {
+            name.setLength(0);
+            name.append(shownName).append("  (Lvl ").append(shownLevel).append(')');
+
+            hp.setLength(0);
+            hp.append("HP: ");
+            appendTwoDecimals(hp, shownHp / 100f);
+            hp.append(" / ");
+            appendTwoDecimals(hp, shownHpMax / 100f);
+
+            xp.setLength(0);
+            xp.append("XP: ").append(shownXp).append('%');
+        }
     }
 
     @Override
     public void resize(int width, int height) {
         camera.setToOrtho(false, width, height);
+        layoutDirty = true;
         this.scaleX = (width / 1920f) * 1.2f;
         this.scaleY = (height / 1080f) * 1.2f;
     }
@@ -159,8 +317,7 @@ public class Hud implements Screen {
     public void dispose() {
         shape.dispose();
         font.dispose();
-        if (iconTexture != null) {
-            iconTexture.dispose();
-        }
+        if (frameBuffer != null) frameBuffer.dispose();
+        if (pixel != null) pixel.dispose();
     }
 }
\ No newline at end of file
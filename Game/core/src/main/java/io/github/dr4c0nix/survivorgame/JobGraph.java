@@ -0,0 +1,198 @@
+package io.github.dr4c0nix.survivorgame;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Ordonnanceur des systèmes d'un tick.
+ *
+ * Chaque système est un job nommé qui déclare les ressources du monde qu'il lit et qu'il écrit
+ * (masques de bits définis par l'appelant). L'ordre de déclaration est l'ordre logique du tick :
+ * un job attend tous les jobs déclarés avant lui avec lesquels il est en conflit
+ * (écriture/lecture, lecture/écriture ou écriture/écriture sur une même ressource).
+ * Les jobs sans conflit s'exécutent en même temps sur un pool de threads persistant ;
+ * le résultat est donc le même qu'en série, quel que soit le nombre de cœurs.
+ *
+ * Un job qui touche {@link #MAIN_THREAD} (listener, entrées, tout ce qui peut faire des appels OpenGL)
+ * s'exécute toujours sur le thread qui appelle {@link #run(float, SystemTimings)}.
+ * Les tâches sont réutilisées d'un tick à l'autre : un tick n'alloue rien.
+ */
+public class JobGraph {
+    /** Ressource réservée : état possédé par le thread appelant (listener, entrées, OpenGL). */
+    public static final int MAIN_THREAD = 1 << 31;
+
+    /** Travail d'un job pour un tick. */
+    public interface Work {
+        /**
+         * @param delta durée du tick (secondes)
+         */
+        void run(float delta);
+    }
+
+    private static final int[] NO_DEPENDENCIES = new int[0];
+
+    private final int parallelism;
+    private ForkJoinPool pool;
+    private JobTask[] jobs = new JobTask[16];
+    private int jobCount;
+
+    // paramètres du tick en cours, lus par les tâches
+    private float delta;
+    private SystemTimings timings;
+
+    /**
+     * @param parallelism nombre de threads de calcul (1 ou moins : tous les jobs en série sur le thread appelant)
+     */
+    public JobGraph(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Déclare un job ; les dépendances sont calculées immédiatement à partir des jobs déjà déclarés.
+     *
+     * @param name nom lisible (rapports de temps)
+     * @param reads ressources lues
+     * @param writes ressources écrites
+     * @param work travail du job
+     * @return identifiant du job (ordre de déclaration, utilisé comme indice dans {@link SystemTimings})
+     */
+    public int add(String name, int reads, int writes, Work work) {
+        if (jobCount == jobs.length) jobs = Arrays.copyOf(jobs, jobCount * 2);
+        int id = jobCount;
+        JobTask job = new JobTask(id, name, reads, writes, work);
+
+        int[] deps = new int[id];
+        int depCount = 0;
+        for (int i = 0; i < id; i++) {
+            if (conflicts(jobs[i], job)) deps[depCount++] = i;
+        }
+        job.dependencies = depCount == 0 ? NO_DEPENDENCIES : Arrays.copyOf(deps, depCount);
+
+        jobs[jobCount++] = job;
+        return id;
+    }
+
+    private static boolean conflicts(JobTask a, JobTask b) {
+        return (a.writes & (b.reads | b.writes)) != 0 || (a.reads & b.writes) != 0;
+    }
+
+    /**
+     * Exécute tous les jobs d'un tick et attend leur fin.
+     *
+     * @param delta durée du tick (secondes)
+     * @param timings compteurs alimentés avec le temps de chaque job (null : aucune mesure)
+     */
+    public void run(float delta, SystemTimings timings) {
+        this.delta = delta;
+        this.timings = timings;
+        if (parallelism <= 1) {
+            for (int i = 0; i < jobCount; i++) {
+                jobs[i].execute();
+            }
+            return;
+        }
+
+        ForkJoinPool pool = getPool();
+        for (int i = 0; i < jobCount; i++) {
+            jobs[i].reinitialize();
+        }
+        // dans l'ordre de déclaration : un job attend toujours des jobs déjà lancés, jamais l'inverse
+        for (int i = 0; i < jobCount; i++) {
+            JobTask job = jobs[i];
+            if (job.onMainThread) {
+                job.invoke();
+            } else {
+                pool.execute(job);
+            }
+        }
+        for (int i = 0; i < jobCount; i++) {
+            if (!jobs[i].onMainThread) jobs[i].join();
+        }
+    }
+
+    /**
+     * Retourne le pool de threads du graphe, créé au premier appel.
+     * Les systèmes qui parallélisent leur propre travail le partagent plutôt que d'ouvrir un second pool.
+     *
+     * @return pool de calcul, ou null si le graphe tourne en série
+     */
+    public ForkJoinPool getPool() {
+        if (parallelism <= 1) return null;
+        if (pool == null) pool = new ForkJoinPool(parallelism);
+        return pool;
+    }
+
+    /** Nombre de jobs déclarés. */
+    public int getJobCount() {
+        return jobCount;
+    }
+
+    /** Nom d'un job. */
+    public String getName(int job) {
+        return jobs[job].name;
+    }
+
+    /**
+     * Indique si un job doit attendre un autre job déclaré avant lui.
+     *
+     * @param job job concerné
+     * @param other job déclaré plus tôt
+     * @return true si {@code job} dépend directement de {@code other}
+     */
+    public boolean dependsOn(int job, int other) {
+        int[] deps = jobs[job].dependencies;
+        for (int i = 0; i < deps.length; i++) {
+            if (deps[i] == other) return true;
+        }
+        return false;
+    }
+
+    /** Indique si un job s'exécute toujours sur le thread appelant. */
+    public boolean isOnMainThread(int job) {
+        return jobs[job].onMainThread;
+    }
+
+    /** Arrête les threads de calcul (le graphe repasse en série s'il est réutilisé). */
+    public void dispose() {
+        if (pool != null) {
+            pool.shutdown();
+            pool = null;
+        }
+    }
+
+    /** Job réutilisable : attend ses dépendances, exécute son travail et mesure sa durée. */
+    private final class JobTask extends RecursiveAction {
+        final int id;
+        final String name;
+        final int reads;
+        final int writes;
+        final Work work;
+        final boolean onMainThread;
+        int[] dependencies;
+
+        JobTask(int id, String name, int reads, int writes, Work work) {
+            this.id = id;
+            this.name = name;
+            this.reads = reads;
+            this.writes = writes;
+            this.work = work;
+            this.onMainThread = ((reads | writes) & MAIN_THREAD) != 0;
+        }
+
+        @Override
+        protected void compute() {
+            for (int i = 0; i < dependencies.length; i++) {
+                jobs[dependencies[i]].join();
+            }
+            execute();
+        }
+
+        void execute() {
+            SystemTimings t = timings;
+            long start = t != null ? System.nanoTime() : 0L;
+            work.run(delta);
+            if (t != null) t.record(id, System.nanoTime() - start);
+        }
+    }
+}
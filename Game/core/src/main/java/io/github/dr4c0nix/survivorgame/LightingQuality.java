@@ -0,0 +1,60 @@
+package io.github.dr4c0nix.survivorgame;
+
+/**
+ * Niveaux de qualité de l'éclairage (passe box2dlights).
+ *
+ * Chaque niveau fixe le nombre de rayons par lumière, la réduction de la lightmap par rapport à l'écran,
+ * le nombre de passes de flou et les ombres douces. HIGH correspond au rendu d'origine du jeu.
+ */
+public enum LightingQuality {
+    LOW(16, 8, 0, false),
+    MEDIUM(32, 4, 1, true),
+    HIGH(64, 4, 1, true);
+
+    private final int rays;
+    private final int lightmapDivisor;
+    private final int blurPasses;
+    private final boolean soft;
+
+    LightingQuality(int rays, int lightmapDivisor, int blurPasses, boolean soft) {
+        this.rays = rays;
+        this.lightmapDivisor = lightmapDivisor;
+        this.blurPasses = blurPasses;
+        this.soft = soft;
+    }
+
+    /** Nombre de rayons d'une lumière ponctuelle. */
+    public int getRays() {
+        return rays;
+    }
+
+    /** Facteur de réduction de la lightmap (taille de l'écran divisée par ce facteur). */
+    public int getLightmapDivisor() {
+        return lightmapDivisor;
+    }
+
+    /** Nombre de passes de flou de la lightmap (0 : aucun flou). */
+    public int getBlurPasses() {
+        return blurPasses;
+    }
+
+    /** Ombres douces (bords des lumières adoucis). */
+    public boolean isSoft() {
+        return soft;
+    }
+
+    /**
+     * Retrouve un niveau à partir de son nom, sans tenir compte de la casse.
+     *
+     * @param name nom du niveau (ex. "low")
+     * @return niveau correspondant, ou HIGH si le nom est absent ou inconnu
+     */
+    public static LightingQuality fromName(String name) {
+        if (name != null) {
+            for (LightingQuality quality : values()) {
+                if (quality.name().equalsIgnoreCase(name.trim())) return quality;
+            }
+        }
+        return HIGH;
+    }
+}
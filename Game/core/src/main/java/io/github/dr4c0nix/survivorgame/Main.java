@@ -2,6 +2,7 @@ package io.github.dr4c0nix.survivorgame;
 
 import com.badlogic.gdx.Game;
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Screen;
 
 import io.github.dr4c0nix.survivorgame.screens.Gameplay;
 import io.github.dr4c0nix.survivorgame.screens.Menu;
@@ -10,6 +11,32 @@ import io.github.dr4c0nix.survivorgame.screens.Menu;
 public class Main extends Game {
     Menu menu;
     Gameplay gameplay;
+    private final String recordPath;
+    private final String replayPath;
+    private final float timeScale;
+
+    public Main() {
+        this(null, null);
+    }
+
+    /**
+     * @param recordPath fichier où enregistrer chaque partie jouée (null : aucun enregistrement)
+     * @param replayPath enregistrement rejoué à chaque lancement de partie (null : partie normale)
+     */
+    public Main(String recordPath, String replayPath) {
+        this(recordPath, replayPath, 1f);
+    }
+
+    /**
+     * @param recordPath fichier où enregistrer chaque partie jouée (null : aucun enregistrement)
+     * @param replayPath enregistrement rejoué à chaque lancement de partie (null : partie normale)
+     * @param timeScale échelle de temps initiale des parties (1 = temps réel, voir {@link FixedTimestep#setTimeScale(float)})
+     */
+    public Main(String recordPath, String replayPath, float timeScale) {
+        this.recordPath = recordPath;
+        this.replayPath = replayPath;
+        this.timeScale = timeScale;
+    }
 
     /**
      * Initialisation du jeu : crée les écrans et affiche le menu.
@@ -22,6 +49,32 @@ public class Main extends Game {
         setScreen(menu);
     }
 
+    /**
+     * Affiche un écran en adaptant le mode de rendu : les interfaces statiques (menu, pause, fins de partie)
+     * ne sont redessinées qu'à la demande (entrée, action scene2d en cours, redimensionnement),
+     * la partie est rendue en continu.
+     *
+     * @param screen écran à afficher
+     */
+    @Override
+    public void setScreen(Screen screen) {
+        boolean continuous = needsContinuousRendering(screen);
+        if (Gdx.graphics != null) Gdx.graphics.setContinuousRendering(continuous);
+        super.setScreen(screen);
+        // première image du nouvel écran, même sans entrée
+        if (Gdx.graphics != null && !continuous) Gdx.graphics.requestRendering();
+    }
+
+    /**
+     * Indique si un écran doit être redessiné à chaque image.
+     *
+     * @param screen écran affiché
+     * @return true pour la partie, false pour les interfaces scene2d statiques
+     */
+    static boolean needsContinuousRendering(Screen screen) {
+        return screen instanceof Gameplay;
+    }
+
     /**
      * Change l'écran courant de l'application.
      * Dispose l'ancienne instance pour libérer les ressources si nécessaire,
@@ -51,4 +104,28 @@ public class Main extends Game {
                 break;
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Fermeture du jeu : libère aussi les sprites partagés par toutes les parties.
+     */
+    @Override
+    public void dispose() {
+        super.dispose();
+        Sprites.dispose();
+    }
+
+    /** Fichier où enregistrer les parties (null : aucun). */
+    public String getRecordPath() {
+        return recordPath;
+    }
+
+    /** Enregistrement à rejouer (null : partie normale). */
+    public String getReplayPath() {
+        return replayPath;
+    }
+
+    /** Échelle de temps initiale des parties (1 = temps réel). */
+    public float getTimeScale() {
+        return timeScale;
+    }
+}
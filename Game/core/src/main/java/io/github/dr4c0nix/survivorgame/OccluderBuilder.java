@@ -0,0 +1,132 @@
+package io.github.dr4c0nix.survivorgame;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Construit la géométrie qui projette les ombres de l'éclairage à partir des rectangles de collision.
+ *
+ * Les rectangles se chevauchent et se touchent souvent : ils sont fusionnés par maillage glouton
+ * sur une grille compressée (une colonne / une ligne par bord distinct). L'union est donc exacte,
+ * même pour des rectangles non alignés sur les tuiles, avec beaucoup moins de formes à tester par rayon.
+ */
+public final class OccluderBuilder {
+
+    private OccluderBuilder() {
+    }
+
+    /**
+     * Fusionne des rectangles en un ensemble réduit de rectangles disjoints couvrant la même surface.
+     *
+     * @param rects rectangles d'origine (non modifiés)
+     * @return rectangles fusionnés
+     */
+    public static ArrayList<Rectangle> merge(List<Rectangle> rects) {
+        ArrayList<Rectangle> merged = new ArrayList<Rectangle>();
+        if (rects.isEmpty()) return merged;
+
+        float[] xs = edges(rects, true);
+        float[] ys = edges(rects, false);
+        int columns = xs.length - 1;
+        int rows = ys.length - 1;
+
+        // case (c, r) de la grille compressée : couverte par au moins un rectangle
+        boolean[][] filled = new boolean[columns][rows];
+        for (int i = 0; i < rects.size(); i++) {
+            Rectangle r = rects.get(i);
+            int c0 = Arrays.binarySearch(xs, r.x);
+            int c1 = Arrays.binarySearch(xs, r.x + r.width);
+            int r0 = Arrays.binarySearch(ys, r.y);
+            int r1 = Arrays.binarySearch(ys, r.y + r.height);
+            for (int c = c0; c < c1; c++) {
+                for (int row = r0; row < r1; row++) {
+                    filled[c][row] = true;
+                }
+            }
+        }
+
+        // maillage glouton : la plus longue bande horizontale, puis autant de lignes que possible
+        boolean[][] used = new boolean[columns][rows];
+        for (int row = 0; row < rows; row++) {
+            for (int c = 0; c < columns; c++) {
+                if (!filled[c][row] || used[c][row]) continue;
+                int endC = c + 1;
+                while (endC < columns && filled[endC][row] && !used[endC][row]) endC++;
+                int endRow = row + 1;
+                while (endRow < rows && spanFree(filled, used, c, endC, endRow)) endRow++;
+                for (int mc = c; mc < endC; mc++) {
+                    for (int mr = row; mr < endRow; mr++) {
+                        used[mc][mr] = true;
+                    }
+                }
+                merged.add(new Rectangle(xs[c], ys[row], xs[endC] - xs[c], ys[endRow] - ys[row]));
+            }
+        }
+        return merged;
+    }
+
+    /** Bords distincts et triés des rectangles sur un axe. */
+    private static float[] edges(List<Rectangle> rects, boolean horizontal) {
+        float[] values = new float[rects.size() * 2];
+        for (int i = 0; i < rects.size(); i++) {
+            Rectangle r = rects.get(i);
+            values[2 * i] = horizontal ? r.x : r.y;
+            values[2 * i + 1] = horizontal ? r.x + r.width : r.y + r.height;
+        }
+        Arrays.sort(values);
+        int count = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (count == 0 || values[i] != values[count - 1]) values[count++] = values[i];
+        }
+        return Arrays.copyOf(values, count);
+    }
+
+    /** Indique si les cases [startC, endC[ de la ligne sont couvertes et pas encore fusionnées. */
+    private static boolean spanFree(boolean[][] filled, boolean[][] used, int startC, int endC, int row) {
+        for (int c = startC; c < endC; c++) {
+            if (!filled[c][row] || used[c][row]) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Sort un point (une torche posée sur un mur) de l'obstacle qui le contient, par le bord le plus proche :
+     * une lumière placée dans un obstacle serait entièrement masquée.
+     *
+     * @param occluders obstacles fusionnés
+     * @param point point à déplacer (modifié)
+     * @param margin distance laissée entre le point et le bord
+     * @return true si le point est hors de tout obstacle à la fin
+     */
+    public static boolean moveOutside(List<Rectangle> occluders, Vector2 point, float margin) {
+        Rectangle container = containing(occluders, point);
+        if (container == null) return true;
+
+        float toLeft = point.x - container.x;
+        float toRight = container.x + container.width - point.x;
+        float toBottom = point.y - container.y;
+        float toTop = container.y + container.height - point.y;
+        float nearest = Math.min(Math.min(toLeft, toRight), Math.min(toBottom, toTop));
+        if (nearest == toBottom) {
+            point.y = container.y - margin;
+        } else if (nearest == toTop) {
+            point.y = container.y + container.height + margin;
+        } else if (nearest == toLeft) {
+            point.x = container.x - margin;
+        } else {
+            point.x = container.x + container.width + margin;
+        }
+        return containing(occluders, point) == null;
+    }
+
+    private static Rectangle containing(List<Rectangle> occluders, Vector2 point) {
+        for (int i = 0; i < occluders.size(); i++) {
+            if (occluders.get(i).contains(point)) return occluders.get(i);
+        }
+        return null;
+    }
+}
@@ -1,26 +1,36 @@
 package io.github.dr4c0nix.survivorgame;
 
-import com.badlogic.gdx.math.GridPoint2;
 import com.badlogic.gdx.math.Vector2;
-import java.util.LinkedList;
-import java.util.Queue;
 
 /**
  * Heatmap / Dijkstra simple sur grille. Recalcule distances depuis le joueur.
  * Les ennemis consultent distances pour sélectionner le voisin qui diminue la distance.
+ *
+ * Le champ n'est recalculé que si la cellule cible ou les murs ont changé ; chaque recalcul
+ * incrémente {@link #getVersion()}, ce qui permet aux ennemis de garder leur direction en cache.
  */
 public class PathfindingMap {
     private final int width;
     private final int height;
     private final int[][] terrain; 
     private final int[][] distances;
-    private final Queue<GridPoint2> bfsQueue = new LinkedList<>();
+    // file BFS circulaire de cellules encodées (x * height + y) : chaque cellule y entre au plus une fois
+    private final int[] bfsQueue;
+    private int queueHead;
+    private int queueTail;
+    // cible du dernier calcul et état des murs depuis ce calcul
+    private int flowTargetX = Integer.MIN_VALUE;
+    private int flowTargetY = Integer.MIN_VALUE;
+    private boolean wallsChanged = true;
+    private int version = 0;
 
     private static final int INF = 9999;
     private static final int[][] NEIGH = {
         {1,0},{-1,0},{0,1},{0,-1},
         {1,1},{1,-1},{-1,1},{-1,-1}
     };
+    // directions normalisées pré-calculées, dans le même ordre que NEIGH
+    private final Vector2[] neighDirections = new Vector2[NEIGH.length];
 
     /**
      * Crée une map de pathfinding de taille donnée.
@@ -33,6 +43,10 @@ public class PathfindingMap {
         this.height = height;
         this.terrain = new int[width][height];
         this.distances = new int[width][height];
+        this.bfsQueue = new int[Math.max(1, width * height)];
+        for (int i = 0; i < NEIGH.length; i++) {
+            neighDirections[i] = new Vector2(NEIGH[i][0], NEIGH[i][1]).nor();
+        }
     }
 
     /**
@@ -42,7 +56,21 @@ public class PathfindingMap {
      * @param y coordonnée Y de la cellule
      */
     public void setWall(int x, int y) {
-        if (isValid(x, y)) terrain[x][y] = 1;
+        if (isValid(x, y) && terrain[x][y] != 1) {
+            terrain[x][y] = 1;
+            wallsChanged = true;
+        }
+    }
+
+    /**
+     * Indique si la cellule (x,y) est un mur (les cellules hors grille sont considérées comme des murs).
+     *
+     * @param x coordonnée X de la cellule
+     * @param y coordonnée Y de la cellule
+     * @return true si la cellule est infranchissable
+     */
+    public boolean isWall(int x, int y) {
+        return !isValid(x, y) || terrain[x][y] == 1;
     }
 
     /**
@@ -52,39 +80,51 @@ public class PathfindingMap {
         for (int x = 0; x < width; x++)
             for (int y = 0; y < height; y++)
                 terrain[x][y] = 0;
+        wallsChanged = true;
     }
 
     /**
      * Recalcule la "heatmap" des distances depuis la cellule du joueur.
      * Utilise un parcours en largeur (BFS) et évite le "corner cutting" diagonal.
+     * Ne fait rien si le joueur est dans la même cellule qu'au dernier calcul et qu'aucun mur n'a changé.
      *
      * @param playerX coordonnée X du joueur (cellule)
      * @param playerY coordonnée Y du joueur (cellule)
      */
     public void calculateFlow(int playerX, int playerY) {
+        if (!wallsChanged && playerX == flowTargetX && playerY == flowTargetY) return;
+        flowTargetX = playerX;
+        flowTargetY = playerY;
+        wallsChanged = false;
+        version++;
+
         for (int x = 0; x < width; x++) {
             for (int y = 0; y < height; y++) {
                 distances[x][y] = INF;
             }
         }
 
-        bfsQueue.clear();
+        queueHead = 0;
+        queueTail = 0;
         if (!isValid(playerX, playerY)) return;
         if (terrain[playerX][playerY] == 1) return;
         distances[playerX][playerY] = 0;
-        bfsQueue.add(new GridPoint2(playerX, playerY));
-
-        GridPoint2 cur;
-        while ((cur = bfsQueue.poll()) != null) {
-            int dist = distances[cur.x][cur.y];
+        enqueue(playerX, playerY);
+
+        while (queueHead != queueTail) {
+            int cell = bfsQueue[queueHead];
+            queueHead = (queueHead + 1) % bfsQueue.length;
+            int cx = cell / height;
+            int cy = cell % height;
+            int dist = distances[cx][cy];
             for (int[] d : NEIGH) {
-                int nx = cur.x + d[0], ny = cur.y + d[1];
+                int nx = cx + d[0], ny = cy + d[1];
                 if (!isValid(nx, ny)) continue;
 
                 // block diagonal corner-cutting: if moving diagonally and both adjacent orthogonals are walls, skip
                 if (Math.abs(d[0]) == 1 && Math.abs(d[1]) == 1) {
-                    int ax = cur.x + d[0], ay = cur.y;      // horizontal neighbor
-                    int bx = cur.x,       by = cur.y + d[1]; // vertical neighbor
+                    int ax = cx + d[0], ay = cy;      // horizontal neighbor
+                    int bx = cx,       by = cy + d[1]; // vertical neighbor
                     boolean aIsWall = isValid(ax, ay) && terrain[ax][ay] == 1;
                     boolean bIsWall = isValid(bx, by) && terrain[bx][by] == 1;
                     if (aIsWall && bIsWall) continue;
@@ -110,12 +150,19 @@ public class PathfindingMap {
         if (terrain[x][y] == 1) return;
         if (distances[x][y] <= newDist) return;
         distances[x][y] = newDist;
-        bfsQueue.add(new GridPoint2(x, y));
+        enqueue(x, y);
+    }
+
+    /** Ajoute une cellule en fin de file BFS (sans allocation). */
+    private void enqueue(int x, int y) {
+        bfsQueue[queueTail] = x * height + y;
+        queueTail = (queueTail + 1) % bfsQueue.length;
     }
 
     /**
      * Retourne la direction normalisée vers un voisin qui diminue la distance jusqu'au joueur.
      * Préfère orthogonales. Retourne null si la cellule est inaccessible ou déjà au joueur.
+     * Le vecteur retourné est partagé (pré-calculé) : il ne doit pas être modifié par l'appelant.
      *
      * @param gx coordonnée X de la cellule d'origine (grille)
      * @param gy coordonnée Y de la cellule d'origine (grille)
@@ -130,23 +177,22 @@ public class PathfindingMap {
         if (cur == 0) return null;
 
         int best = cur;
-        int bestDx = 0, bestDy = 0;
+        int bestIndex = -1;
 
-        for (int[] d : NEIGH) {
+        for (int i = 0; i < NEIGH.length; i++) {
+            int[] d = NEIGH[i];
             int nx = gx + d[0], ny = gy + d[1];
             if (!isValid(nx, ny)) continue;
             if (terrain[nx][ny] == 1) continue;
             int nd = distances[nx][ny];
             if (nd < best) {
                 best = nd;
-                bestDx = d[0];
-                bestDy = d[1];
+                bestIndex = i;
             }
         }
 
-        if (best < cur) {
-            Vector2 v = new Vector2(bestDx, bestDy);
-            return v.nor();
+        if (bestIndex >= 0) {
+            return neighDirections[bestIndex];
         }
 
         return null;
@@ -175,6 +221,15 @@ public class PathfindingMap {
         return distances[x][y];
     }
 
+    /**
+     * Version du champ de flux, incrémentée à chaque recalcul effectif.
+     *
+     * @return version courante
+     */
+    public int getVersion() {
+        return version;
+    }
+
     /**
      * Largeur de la grille (en cellules).
      *
@@ -0,0 +1,169 @@
+package io.github.dr4c0nix.survivorgame;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import io.github.dr4c0nix.survivorgame.entities.Entity;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+
+/**
+ * File de dessin des entités d'une frame, triée avant d'être envoyée au SpriteBatch.
+ *
+ * Chaque soumission reçoit une clé 64 bits : couche (8 bits), profondeur (32 bits, les entités
+ * les plus hautes à l'écran d'abord, par bandes de {@link #DEPTH_BAND} pixels) puis texture (16 bits).
+ * Le tri par base 256 est stable et n'alloue rien une fois la capacité atteinte ; les passes dont
+ * l'octet est identique pour toutes les clés (couche souvent unique, textures peu nombreuses) sont sautées.
+ * À profondeur égale, les entités d'une même texture se suivent, ce qui limite les changements de texture.
+ */
+public class RenderQueue {
+    /** Hauteur d'une bande de profondeur (pixels) : dans une bande, l'ordre suit la texture. */
+    public static final float DEPTH_BAND = 2f;
+    private static final int RADIX_BITS = 8;
+    private static final int RADIX = 1 << RADIX_BITS;
+
+    private Entity[] items = new Entity[256];
+    private long[] keys = new long[256];
+    private int[] order = new int[256];
+    private long[] tmpKeys = new long[256];
+    private int[] tmpOrder = new int[256];
+    private final int[] counts = new int[RADIX];
+    private int size = 0;
+
+    // identifiant stable par texture (identité), attribué à la première soumission
+    private final IdentityHashMap<Texture, Integer> textureIds = new IdentityHashMap<Texture, Integer>();
+    private int textureSwitches = 0;
+
+    /** Vide la file (les tableaux sont conservés). */
+    public void clear() {
+        Arrays.fill(items, 0, size, null);
+        size = 0;
+    }
+
+    /**
+     * Ajoute une entité à dessiner.
+     *
+     * @param entity entité (dessinée par sa propre méthode draw)
+     * @param layer couche, de 0 à 255 (les couches basses sont dessinées d'abord)
+     */
+    public void submit(Entity entity, int layer) {
+        if (size == items.length) grow();
+        items[size] = entity;
+        keys[size] = sortKey(layer, entity.getRenderY(), textureId(entity.getCurrentFrame()));
+        order[size] = size;
+        size++;
+    }
+
+    private void grow() {
+        int capacity = items.length * 2;
+        items = Arrays.copyOf(items, capacity);
+        keys = Arrays.copyOf(keys, capacity);
+        order = Arrays.copyOf(order, capacity);
+        tmpKeys = new long[capacity];
+        tmpOrder = new int[capacity];
+    }
+
+    /** Identifiant de la texture d'une frame (0 si aucune frame, en test). */
+    private int textureId(TextureRegion frame) {
+        if (frame == null || frame.getTexture() == null) return 0;
+        Integer id = textureIds.get(frame.getTexture());
+        if (id == null) {
+            id = Integer.valueOf(textureIds.size() + 1);
+            textureIds.put(frame.getTexture(), id);
+        }
+        return id.intValue() & 0xFFFF;
+    }
+
+    /**
+     * Clé de tri : couche, puis profondeur (y décroissant), puis texture.
+     *
+     * @param layer couche (0..255)
+     * @param y position Y de rendu (bas du sprite)
+     * @param textureId identifiant de texture (0..65535)
+     * @return clé comparée comme un entier non signé
+     */
+    static long sortKey(int layer, float y, int textureId) {
+        // bande de -y, décalée pour être comparée sans signe
+        int depth = (int) Math.floor(-y / DEPTH_BAND) ^ Integer.MIN_VALUE;
+        return ((long) (layer & 0xFF) << 48) | ((depth & 0xFFFFFFFFL) << 16) | (textureId & 0xFFFF);
+    }
+
+    /** Trie la file par clé croissante (tri par base stable). */
+    public void sort() {
+        long[] srcKeys = keys;
+        int[] srcOrder = order;
+        long[] dstKeys = tmpKeys;
+        int[] dstOrder = tmpOrder;
+        for (int shift = 0; shift < 64 && size > 1; shift += RADIX_BITS) {
+            Arrays.fill(counts, 0);
+            for (int i = 0; i < size; i++) {
+                counts[(int) (srcKeys[i] >>> shift) & (RADIX - 1)]++;
+            }
+            // toutes les clés ont le même octet : la passe ne changerait rien
+            if (counts[(int) (srcKeys[0] >>> shift) & (RADIX - 1)] == size) continue;
+
+            int total = 0;
+            for (int d = 0; d < RADIX; d++) {
+                int count = counts[d];
+                counts[d] = total;
+                total += count;
+            }
+            for (int i = 0; i < size; i++) {
+                int slot = counts[(int) (srcKeys[i] >>> shift) & (RADIX - 1)]++;
+                dstKeys[slot] = srcKeys[i];
+                dstOrder[slot] = srcOrder[i];
+            }
+            long[] swapKeys = srcKeys;
+            srcKeys = dstKeys;
+            dstKeys = swapKeys;
+            int[] swapOrder = srcOrder;
+            srcOrder = dstOrder;
+            dstOrder = swapOrder;
+        }
+        if (srcKeys != keys) {
+            System.arraycopy(srcKeys, 0, keys, 0, size);
+            System.arraycopy(srcOrder, 0, order, 0, size);
+        }
+    }
+
+    /**
+     * Dessine la file dans l'ordre courant (appeler {@link #sort()} avant) ; le batch doit être ouvert.
+     *
+     * @param batch batch de dessin
+     */
+    public void draw(SpriteBatch batch) {
+        textureSwitches = 0;
+        Texture last = null;
+        for (int i = 0; i < size; i++) {
+            Entity entity = items[order[i]];
+            TextureRegion frame = entity.getCurrentFrame();
+            Texture texture = frame != null ? frame.getTexture() : null;
+            if (texture != null && texture != last) {
+                if (last != null) textureSwitches++;
+                last = texture;
+            }
+            entity.draw(batch);
+        }
+    }
+
+    /**
+     * Entité à une position de la file (ordre trié après {@link #sort()}).
+     *
+     * @param index position dans la file
+     * @return entité
+     */
+    public Entity get(int index) {
+        return items[order[index]];
+    }
+
+    /** Nombre d'entités dans la file. */
+    public int size() {
+        return size;
+    }
+
+    /** Changements de texture lors du dernier {@link #draw(SpriteBatch)}. */
+    public int getTextureSwitches() {
+        return textureSwitches;
+    }
+}
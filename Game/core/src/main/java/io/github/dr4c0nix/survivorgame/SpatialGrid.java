@@ -0,0 +1,127 @@
+package io.github.dr4c0nix.survivorgame;
+
+import io.github.dr4c0nix.survivorgame.entities.Entity;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * Grille uniforme grossière d'entités, reconstruite à chaque frame à partir des positions de rendu.
+ *
+ * Chaque entité est rangée dans la case de son coin bas-gauche ; une requête ne parcourt que les cases
+ * qui touchent le rectangle demandé (élargi d'une case vers le bas et la gauche, les entités étant plus
+ * petites qu'une case). Les cases sont des listes chaînées dans des tableaux d'entiers : aucune allocation
+ * une fois la capacité atteinte. Les entités hors de la grille sont rangées dans les cases du bord.
+ *
+ * @param <T> type d'entité rangée
+ */
+public class SpatialGrid<T extends Entity> {
+    private final float cellSize;
+    private final int columns;
+    private final int rows;
+    // première entrée de chaque case (-1 : vide), puis entrée suivante de la même case
+    private final int[] cellHead;
+    private int[] next;
+    private Object[] items;
+    private int size = 0;
+
+    /**
+     * Crée une grille couvrant la zone [0, width] x [0, height].
+     *
+     * @param cellSize côté d'une case (pixels), au moins la taille de la plus grande entité
+     * @param width largeur de la zone couverte (pixels)
+     * @param height hauteur de la zone couverte (pixels)
+     */
+    public SpatialGrid(float cellSize, float width, float height) {
+        this.cellSize = cellSize;
+        this.columns = Math.max(1, (int) Math.ceil(width / cellSize));
+        this.rows = Math.max(1, (int) Math.ceil(height / cellSize));
+        this.cellHead = new int[columns * rows];
+        this.next = new int[64];
+        this.items = new Object[64];
+        clear();
+    }
+
+    /** Vide la grille (les tableaux sont conservés). */
+    public void clear() {
+        Arrays.fill(cellHead, -1);
+        Arrays.fill(items, 0, size, null);
+        size = 0;
+    }
+
+    /**
+     * Range une entité dans la case de sa position de rendu.
+     *
+     * @param entity entité à ranger
+     */
+    public void insert(T entity) {
+        if (size == items.length) {
+            items = Arrays.copyOf(items, size * 2);
+            next = Arrays.copyOf(next, size * 2);
+        }
+        int cell = row(entity.getRenderY()) * columns + column(entity.getRenderX());
+        items[size] = entity;
+        next[size] = cellHead[cell];
+        cellHead[cell] = size;
+        size++;
+    }
+
+    /**
+     * Ajoute à out les entités dont la hitbox, à sa position de rendu, touche le rectangle donné.
+     *
+     * @param x coin bas-gauche X du rectangle
+     * @param y coin bas-gauche Y du rectangle
+     * @param width largeur du rectangle
+     * @param height hauteur du rectangle
+     * @param out liste complétée (non vidée)
+     * @return nombre d'entités ajoutées
+     */
+    @SuppressWarnings("unchecked")
+    public int query(float x, float y, float width, float height, ArrayList<? super T> out) {
+        int minColumn = column(x - cellSize);
+        int maxColumn = column(x + width);
+        int minRow = row(y - cellSize);
+        int maxRow = row(y + height);
+        int found = 0;
+        for (int r = minRow; r <= maxRow; r++) {
+            for (int c = minColumn; c <= maxColumn; c++) {
+                for (int i = cellHead[r * columns + c]; i >= 0; i = next[i]) {
+                    T entity = (T) items[i];
+                    float ex = entity.getRenderX();
+                    float ey = entity.getRenderY();
+                    if (ex <= x + width && ex + entity.getHitbox().width >= x
+                        && ey <= y + height && ey + entity.getHitbox().height >= y) {
+                        out.add(entity);
+                        found++;
+                    }
+                }
+            }
+        }
+        return found;
+    }
+
+    private int column(float x) {
+        int c = (int) Math.floor(x / cellSize);
+        return c < 0 ? 0 : (c >= columns ? columns - 1 : c);
+    }
+
+    private int row(float y) {
+        int r = (int) Math.floor(y / cellSize);
+        return r < 0 ? 0 : (r >= rows ? rows - 1 : r);
+    }
+
+    /** Nombre d'entités rangées depuis le dernier {@link #clear()}. */
+    public int size() {
+        return size;
+    }
+
+    /** Nombre de colonnes de la grille. */
+    public int getColumns() {
+        return columns;
+    }
+
+    /** Nombre de lignes de la grille. */
+    public int getRows() {
+        return rows;
+    }
+}
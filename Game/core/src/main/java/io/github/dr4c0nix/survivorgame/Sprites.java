@@ -0,0 +1,107 @@
+package io.github.dr4c0nix.survivorgame;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.ObjectSet;
+
+/**
+ * Sprites partagés du jeu (entités, armes, icônes du HUD).
+ *
+ * Les sprites sont lus dans l'atlas généré au build ({@link #ATLAS_PATH}, tâche {@code :tools:packTextures}) :
+ * une seule texture, donc le SpriteBatch n'a plus à changer de texture entre un Orc, un projectile et une orbe.
+ * Si l'atlas n'a pas été généré, chaque PNG est chargé une seule fois et partagé.
+ * Les régions appartiennent à ce cache : les entités ne doivent pas les libérer.
+ */
+public final class Sprites {
+    /** Atlas généré par le module tools, relatif au dossier assets. */
+    public static final String ATLAS_PATH = "atlas/sprites.atlas";
+
+    private static TextureAtlas atlas;
+    private static boolean atlasChecked = false;
+    private static final ObjectMap<String, TextureRegion> regions = new ObjectMap<String, TextureRegion>();
+    // textures chargées hors atlas, à libérer avec le cache
+    private static final ObjectMap<String, Texture> looseTextures = new ObjectMap<String, Texture>();
+    // chemins introuvables, pour ne pas relire le disque à chaque nouvelle entité
+    private static final ObjectSet<String> failedPaths = new ObjectSet<String>();
+
+    private Sprites() {
+    }
+
+    /**
+     * Retourne la région d'un sprite à partir de son chemin d'asset (ex. "Entity/Enemy/Orc/Orc.png").
+     * Doit être appelée sur le thread OpenGL (chargement de l'atlas ou d'un PNG) : les jobs du tick
+     * qui font grandir un pool sont donc liés au thread appelant (voir {@link GameWorld}).
+     * Un chemin en échec n'est tenté qu'une fois.
+     *
+     * @param path chemin du PNG relatif au dossier assets
+     * @return région partagée, ou null sans contexte graphique (tests) ou si le fichier est introuvable
+     */
+    public static synchronized TextureRegion get(String path) {
+        if (path == null || Gdx.files == null) return null;
+        TextureRegion region = regions.get(path);
+        if (region != null || failedPaths.contains(path)) return region;
+
+        try {
+            loadAtlas();
+            if (atlas != null) {
+                region = atlas.findRegion(regionName(path));
+            }
+            if (region == null) {
+                Texture texture = new Texture(Gdx.files.internal(path));
+                looseTextures.put(path, texture);
+                region = new TextureRegion(texture);
+            }
+        } catch (Exception e) {
+            if (Gdx.app != null) {
+                Gdx.app.error("Sprites", "Sprite introuvable : " + path, e);
+            }
+            failedPaths.add(path);
+            return null;
+        }
+        regions.put(path, region);
+        return region;
+    }
+
+    /** Charge l'atlas au premier appel s'il a été généré. */
+    private static void loadAtlas() {
+        if (atlasChecked) return;
+        atlasChecked = true;
+        if (Gdx.files.internal(ATLAS_PATH).exists()) {
+            atlas = new TextureAtlas(Gdx.files.internal(ATLAS_PATH));
+        } else if (Gdx.app != null) {
+            Gdx.app.log("Sprites", "Atlas absent (" + ATLAS_PATH + "), chargement des PNG séparés");
+        }
+    }
+
+    /**
+     * Nom de région dans l'atlas : le chemin sans son extension, comme l'écrit TexturePacker
+     * avec combineSubdirectories.
+     *
+     * @param path chemin du PNG
+     * @return nom de la région
+     */
+    static String regionName(String path) {
+        String name = path.replace('\\', '/');
+        int slash = name.lastIndexOf('/');
+        int dot = name.lastIndexOf('.');
+        return dot > slash ? name.substring(0, dot) : name;
+    }
+
+    /** Libère l'atlas et les textures chargées séparément (fermeture du jeu). */
+    public static synchronized void dispose() {
+        if (atlas != null) {
+            atlas.dispose();
+            atlas = null;
+        }
+        for (Texture texture : looseTextures.values()) {
+            texture.dispose();
+        }
+        looseTextures.clear();
+        regions.clear();
+        failedPaths.clear();
+        atlasChecked = false;
+    }
+}
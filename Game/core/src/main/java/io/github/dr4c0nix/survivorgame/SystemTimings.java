@@ -0,0 +1,112 @@
+package io.github.dr4c0nix.survivorgame;
+
+/**
+ * Temps passé dans chaque système de la simulation (spawn, flow field, joueur, ennemis...).
+ *
+ * Les systèmes sont indexés par des constantes entières : l'enregistrement d'un tick
+ * ne fait que des additions sur des tableaux (aucune allocation, aucune table de hachage).
+ * Usage type : {@code long t = System.nanoTime(); ...; t = timings.mark(SPAWN, t); ...}.
+ * Les constantes suivent l'ordre de déclaration des jobs de {@link GameWorld} dans son {@link JobGraph}.
+ * Deux systèmes peuvent être mesurés en même temps depuis des threads différents, jamais le même.
+ */
+public class SystemTimings {
+    public static final int DIFFICULTY = 0;
+    public static final int SPAWN = 1;
+    public static final int FLOW_FIELD = 2;
+    public static final int PLAYER = 3;
+    public static final int PROJECTILES = 4;
+    public static final int HITS = 5;
+    public static final int ENEMIES = 6;
+    public static final int CONTACTS = 7;
+    public static final int TRIGGERS = 8;
+    public static final int ORBS = 9;
+    public static final int COALESCE = 10;
+    public static final int COMMANDS = 11;
+    public static final int COUNT = 12;
+
+    private static final String[] NAMES = {
+        "difficulty", "spawn", "flow-field", "player", "projectiles", "hits",
+        "enemies", "contacts", "triggers", "orbs", "coalesce", "commands"
+    };
+
+    private final long[] totalNanos = new long[COUNT];
+    private final long[] maxNanos = new long[COUNT];
+    private long ticks;
+
+    /**
+     * Ajoute le temps écoulé depuis {@code start} au système donné.
+     *
+     * @param system indice du système (voir constantes)
+     * @param start instant de début ({@link System#nanoTime()})
+     * @return instant courant, à réutiliser comme début de la section suivante
+     */
+    public long mark(int system, long start) {
+        long now = System.nanoTime();
+        record(system, now - start);
+        return now;
+    }
+
+    /**
+     * Ajoute une durée déjà mesurée au système donné.
+     *
+     * @param system indice du système (voir constantes)
+     * @param nanos durée (nanosecondes)
+     */
+    public void record(int system, long nanos) {
+        totalNanos[system] += nanos;
+        if (nanos > maxNanos[system]) maxNanos[system] = nanos;
+    }
+
+    /** Compte un tick complet (base des moyennes). */
+    public void endTick() {
+        ticks++;
+    }
+
+    /** Remet tous les compteurs à zéro. */
+    public void reset() {
+        for (int i = 0; i < COUNT; i++) {
+            totalNanos[i] = 0;
+            maxNanos[i] = 0;
+        }
+        ticks = 0;
+    }
+
+    /** Nom lisible d'un système. */
+    public static String getName(int system) {
+        return NAMES[system];
+    }
+
+    /** Temps total passé dans un système (nanosecondes). */
+    public long getTotalNanos(int system) {
+        return totalNanos[system];
+    }
+
+    /** Pire temps d'un système sur un tick (nanosecondes). */
+    public long getMaxNanos(int system) {
+        return maxNanos[system];
+    }
+
+    /** Temps moyen par tick d'un système (microsecondes). */
+    public double getAverageMicros(int system) {
+        if (ticks == 0) return 0.0;
+        return totalNanos[system] / 1000.0 / ticks;
+    }
+
+    /** Nombre de ticks enregistrés. */
+    public long getTicks() {
+        return ticks;
+    }
+
+    /** Tableau lisible (une ligne par système : moyenne, max et part du temps total). */
+    public String describe() {
+        long total = 0;
+        for (int i = 0; i < COUNT; i++) total += totalNanos[i];
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < COUNT; i++) {
+            double share = total == 0 ? 0.0 : 100.0 * totalNanos[i] / total;
+            sb.append(String.format("  %-12s avg %8.2f us   max %8.2f us   %5.1f %%%n",
+                NAMES[i], getAverageMicros(i), maxNanos[i] / 1000.0, share));
+        }
+        return sb.toString();
+    }
+}
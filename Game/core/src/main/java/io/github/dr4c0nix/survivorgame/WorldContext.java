@@ -0,0 +1,61 @@
+package io.github.dr4c0nix.survivorgame;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import io.github.dr4c0nix.survivorgame.entities.EntityFactory;
+import io.github.dr4c0nix.survivorgame.entities.enemy.ClassicEnemy;
+import io.github.dr4c0nix.survivorgame.entities.player.Player;
+
+import java.util.ArrayList;
+
+/**
+ * Services du monde utilisés par les entités (joueur, ennemis, spawn, factory).
+ *
+ * Implémenté par {@link GameWorld} (simulation sans rendu) et par l'écran Gameplay, qui délègue à son monde.
+ * Les entités ne dépendent ainsi d'aucun contexte graphique.
+ */
+public interface WorldContext {
+
+    /**
+     * Teste si un rectangle touche un obstacle de la carte.
+     *
+     * @param rect rectangle à tester (coordonnées monde)
+     * @return true en cas de collision
+     */
+    boolean isColliding(Rectangle rect);
+
+    /** Joueur courant (peut être null pendant l'initialisation). */
+    Player getPlayer();
+
+    /**
+     * Direction du champ de flux vers le joueur au point donné.
+     *
+     * @param x coordonnée X monde (pixels)
+     * @param y coordonnée Y monde (pixels)
+     * @return direction normalisée partagée (ne pas modifier)
+     */
+    Vector2 getDirection(int x, int y);
+
+    /**
+     * Version du champ de flux : tant qu'elle ne change pas, {@link #getDirection(int, int)}
+     * renvoie la même direction pour une même case.
+     *
+     * @return version courante du champ
+     */
+    int getFlowVersion();
+
+    /** Liste des ennemis actifs (ne pas modifier). */
+    ArrayList<ClassicEnemy> getActiveClassicEnemies();
+
+    /** Temps de jeu écoulé (secondes). */
+    float getElapsedTime();
+
+    /** Factory des entités du monde. */
+    EntityFactory getEntityFactory();
+
+    /** Appelé par le joueur quand il gagne un niveau. */
+    void showLevelUpScreen();
+
+    /** Appelé par le joueur quand il meurt. */
+    void onGameOver();
+}
@@ -0,0 +1,308 @@
+package io.github.dr4c0nix.survivorgame.effects;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+/**
+ * Effets d'impact : chiffres de dégâts flottants et étincelles.
+ *
+ * Les effets vivent dans des tableaux de taille fixe (une colonne par propriété) : aucun objet n'est
+ * créé par impact. Quand un tableau est plein, les effets existants sont remplacés à tour de rôle.
+ * Les glyphes des chiffres 0-9 sont mis en cache une fois depuis la BitmapFont, puis dessinés
+ * directement dans le SpriteBatch courant (une seule passe, sans GlyphLayout ni String).
+ */
+public class HitEffects {
+    public static final int DEFAULT_NUMBER_CAPACITY = 256;
+    public static final int DEFAULT_SPARK_CAPACITY = 128;
+
+    private static final float NUMBER_LIFE = 0.6f;
+    private static final float CRIT_NUMBER_LIFE = 0.9f;
+    private static final float NUMBER_RISE_SPEED = 30f;
+    private static final float NUMBER_SCALE = 0.6f;
+    private static final float CRIT_NUMBER_SCALE = 0.95f;
+    private static final float SPARK_LIFE = 0.15f;
+    private static final float CRIT_SPARK_LIFE = 0.25f;
+    private static final float SPARK_SIZE = 16f;
+    private static final float CRIT_SPARK_SIZE = 26f;
+    // part finale de la vie pendant laquelle l'effet s'estompe
+    private static final float FADE_PORTION = 0.4f;
+    private static final Color NUMBER_COLOR = new Color(1f, 1f, 1f, 1f);
+    private static final Color CRIT_COLOR = new Color(1f, 0.55f, 0.1f, 1f);
+
+    // chiffres de dégâts
+    private final float[] numberX;
+    private final float[] numberY;
+    private final float[] numberAge;
+    private final int[] numberValue;
+    private final boolean[] numberCrit;
+    private int numberCount = 0;
+    private int nextNumberVictim = 0;
+
+    // étincelles
+    private final float[] sparkX;
+    private final float[] sparkY;
+    private final float[] sparkAge;
+    private final float[] sparkRotation;
+    private final boolean[] sparkCrit;
+    private final TextureRegion[] sparkRegion;
+    private int sparkCount = 0;
+    private int nextSparkVictim = 0;
+
+    // cache des glyphes 0-9
+    private final Texture[] digitTexture = new Texture[10];
+    private final float[] digitU = new float[10];
+    private final float[] digitV = new float[10];
+    private final float[] digitU2 = new float[10];
+    private final float[] digitV2 = new float[10];
+    private final float[] digitWidth = new float[10];
+    private final float[] digitHeight = new float[10];
+    private final float[] digitOffsetX = new float[10];
+    private final float[] digitOffsetY = new float[10];
+    private final float[] digitAdvance = new float[10];
+    private boolean glyphsCached = false;
+    private final int[] digitScratch = new int[10];
+
+    /** Crée le système avec les capacités par défaut. */
+    public HitEffects() {
+        this(DEFAULT_NUMBER_CAPACITY, DEFAULT_SPARK_CAPACITY);
+    }
+
+    /**
+     * Crée le système avec des capacités fixes.
+     *
+     * @param numberCapacity nombre maximal de chiffres affichés simultanément
+     * @param sparkCapacity nombre maximal d'étincelles affichées simultanément
+     */
+    public HitEffects(int numberCapacity, int sparkCapacity) {
+        numberX = new float[numberCapacity];
+        numberY = new float[numberCapacity];
+        numberAge = new float[numberCapacity];
+        numberValue = new int[numberCapacity];
+        numberCrit = new boolean[numberCapacity];
+
+        sparkX = new float[sparkCapacity];
+        sparkY = new float[sparkCapacity];
+        sparkAge = new float[sparkCapacity];
+        sparkRotation = new float[sparkCapacity];
+        sparkCrit = new boolean[sparkCapacity];
+        sparkRegion = new TextureRegion[sparkCapacity];
+    }
+
+    /**
+     * Met en cache les glyphes des chiffres de la police donnée.
+     * Sans police, les chiffres sont simulés mais pas dessinés (mode test).
+     *
+     * @param font police source (non possédée : elle n'est pas libérée ici)
+     */
+    public void setFont(BitmapFont font) {
+        glyphsCached = false;
+        if (font == null) return;
+        for (int d = 0; d < 10; d++) {
+            BitmapFont.Glyph glyph = font.getData().getGlyph((char) ('0' + d));
+            if (glyph == null) return;
+            digitTexture[d] = font.getRegion(glyph.page).getTexture();
+            digitU[d] = glyph.u;
+            digitV[d] = glyph.v;
+            digitU2[d] = glyph.u2;
+            digitV2[d] = glyph.v2;
+            digitWidth[d] = glyph.width;
+            digitHeight[d] = glyph.height;
+            digitOffsetX[d] = glyph.xoffset;
+            digitOffsetY[d] = glyph.yoffset;
+            digitAdvance[d] = glyph.xadvance;
+        }
+        glyphsCached = true;
+    }
+
+    /**
+     * Ajoute un chiffre de dégâts flottant.
+     *
+     * @param x centre horizontal (monde)
+     * @param y ligne de base (monde)
+     * @param amount dégâts affichés
+     * @param crit true pour un coup critique (plus grand, orange, plus long)
+     */
+    public void spawnDamageNumber(float x, float y, int amount, boolean crit) {
+        int i;
+        if (numberCount < numberX.length) {
+            i = numberCount++;
+        } else {
+            if (numberX.length == 0) return;
+            i = nextNumberVictim;
+            nextNumberVictim = (nextNumberVictim + 1) % numberX.length;
+        }
+        numberX[i] = x;
+        numberY[i] = y;
+        numberAge[i] = 0f;
+        numberValue[i] = Math.max(0, amount);
+        numberCrit[i] = crit;
+    }
+
+    /**
+     * Ajoute une étincelle d'impact.
+     *
+     * @param x centre horizontal (monde)
+     * @param y centre vertical (monde)
+     * @param region texture de l'étincelle (ex: frame du projectile), peut être null
+     * @param rotation rotation en degrés
+     * @param crit true pour un coup critique (plus grande et plus longue)
+     */
+    public void spawnSpark(float x, float y, TextureRegion region, float rotation, boolean crit) {
+        int i;
+        if (sparkCount < sparkX.length) {
+            i = sparkCount++;
+        } else {
+            if (sparkX.length == 0) return;
+            i = nextSparkVictim;
+            nextSparkVictim = (nextSparkVictim + 1) % sparkX.length;
+        }
+        sparkX[i] = x;
+        sparkY[i] = y;
+        sparkAge[i] = 0f;
+        sparkRotation[i] = rotation;
+        sparkCrit[i] = crit;
+        sparkRegion[i] = region;
+    }
+
+    /**
+     * Fait vieillir les effets, fait monter les chiffres et retire les effets expirés.
+     *
+     * @param delta temps écoulé (secondes)
+     */
+    public void update(float delta) {
+        for (int i = numberCount - 1; i >= 0; i--) {
+            numberAge[i] += delta;
+            numberY[i] += NUMBER_RISE_SPEED * delta;
+            if (numberAge[i] >= (numberCrit[i] ? CRIT_NUMBER_LIFE : NUMBER_LIFE)) {
+                removeNumber(i);
+            }
+        }
+        for (int i = sparkCount - 1; i >= 0; i--) {
+            sparkAge[i] += delta;
+            if (sparkAge[i] >= (sparkCrit[i] ? CRIT_SPARK_LIFE : SPARK_LIFE)) {
+                removeSpark(i);
+            }
+        }
+    }
+
+    /**
+     * Dessine tous les effets dans le batch courant (déjà commencé, en coordonnées monde).
+     *
+     * @param batch batch de rendu
+     */
+    public void draw(SpriteBatch batch) {
+        if (numberCount == 0 && sparkCount == 0) return;
+        float r = batch.getColor().r, g = batch.getColor().g, b = batch.getColor().b, a = batch.getColor().a;
+
+        for (int i = 0; i < sparkCount; i++) {
+            TextureRegion region = sparkRegion[i];
+            if (region == null) continue;
+            float life = sparkCrit[i] ? CRIT_SPARK_LIFE : SPARK_LIFE;
+            float progress = sparkAge[i] / life;
+            float size = (sparkCrit[i] ? CRIT_SPARK_SIZE : SPARK_SIZE) * (0.6f + 0.4f * progress);
+            Color tint = sparkCrit[i] ? CRIT_COLOR : NUMBER_COLOR;
+            batch.setColor(tint.r, tint.g, tint.b, 1f - progress);
+            batch.draw(region, sparkX[i] - size * 0.5f, sparkY[i] - size * 0.5f, size * 0.5f, size * 0.5f,
+                size, size, 1f, 1f, sparkRotation[i]);
+        }
+
+        if (glyphsCached) {
+            for (int i = 0; i < numberCount; i++) {
+                drawNumber(batch, i);
+            }
+        }
+
+        batch.setColor(r, g, b, a);
+    }
+
+    /** Dessine un chiffre de dégâts, centré sur sa position, avec les glyphes en cache. */
+    private void drawNumber(SpriteBatch batch, int i) {
+        boolean crit = numberCrit[i];
+        float life = crit ? CRIT_NUMBER_LIFE : NUMBER_LIFE;
+        float scale = crit ? CRIT_NUMBER_SCALE : NUMBER_SCALE;
+        float remaining = 1f - numberAge[i] / life;
+        float alpha = remaining < FADE_PORTION ? remaining / FADE_PORTION : 1f;
+        Color color = crit ? CRIT_COLOR : NUMBER_COLOR;
+        batch.setColor(color.r, color.g, color.b, alpha);
+
+        // décomposition en chiffres, du moins au plus significatif
+        int value = numberValue[i];
+        int digits = 0;
+        do {
+            digitScratch[digits++] = value % 10;
+            value /= 10;
+        } while (value > 0 && digits < digitScratch.length);
+
+        float width = 0f;
+        for (int k = 0; k < digits; k++) {
+            width += digitAdvance[digitScratch[k]] * scale;
+        }
+
+        float penX = numberX[i] - width * 0.5f;
+        float baseY = numberY[i];
+        for (int k = digits - 1; k >= 0; k--) {
+            int d = digitScratch[k];
+            batch.draw(digitTexture[d],
+                penX + digitOffsetX[d] * scale, baseY + digitOffsetY[d] * scale,
+                digitWidth[d] * scale, digitHeight[d] * scale,
+                digitU[d], digitV[d], digitU2[d], digitV2[d]);
+            penX += digitAdvance[d] * scale;
+        }
+    }
+
+    private void removeNumber(int i) {
+        int last = --numberCount;
+        numberX[i] = numberX[last];
+        numberY[i] = numberY[last];
+        numberAge[i] = numberAge[last];
+        numberValue[i] = numberValue[last];
+        numberCrit[i] = numberCrit[last];
+        if (nextNumberVictim >= numberCount) nextNumberVictim = 0;
+    }
+
+    private void removeSpark(int i) {
+        int last = --sparkCount;
+        sparkX[i] = sparkX[last];
+        sparkY[i] = sparkY[last];
+        sparkAge[i] = sparkAge[last];
+        sparkRotation[i] = sparkRotation[last];
+        sparkCrit[i] = sparkCrit[last];
+        sparkRegion[i] = sparkRegion[last];
+        sparkRegion[last] = null;
+        if (nextSparkVictim >= sparkCount) nextSparkVictim = 0;
+    }
+
+    /** Supprime tous les effets en cours. */
+    public void clear() {
+        numberCount = 0;
+        sparkCount = 0;
+        nextNumberVictim = 0;
+        nextSparkVictim = 0;
+        for (int i = 0; i < sparkRegion.length; i++) {
+            sparkRegion[i] = null;
+        }
+    }
+
+    /** Nombre de chiffres de dégâts actifs. */
+    public int getActiveNumberCount() {
+        return numberCount;
+    }
+
+    /** Nombre d'étincelles actives. */
+    public int getActiveSparkCount() {
+        return sparkCount;
+    }
+
+    /** Valeur affichée par le chiffre d'indice donné (pour les tests). */
+    int getNumberValue(int index) {
+        return numberValue[index];
+    }
+
+    /** Indique si le chiffre d'indice donné est un critique (pour les tests). */
+    boolean isNumberCrit(int index) {
+        return numberCrit[index];
+    }
+}
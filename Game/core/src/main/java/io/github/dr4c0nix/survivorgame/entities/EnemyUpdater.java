@@ -0,0 +1,155 @@
+package io.github.dr4c0nix.survivorgame.entities;
+
+import io.github.dr4c0nix.survivorgame.entities.enemy.ClassicEnemy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Mise à jour des ennemis en deux phases.
+ *
+ * Phase 1 (parallèle, par paquets) : chaque ennemi calcule sa direction
+ * ({@link ClassicEnemy#computeSteering()}) en ne lisant que des données figées pendant la phase :
+ * champ de flux, joueur et positions de début de tick des autres ennemis.
+ * Phase 2 (série, dans l'ordre de la liste) : chaque ennemi se déplace et glisse sur les murs
+ * ({@link ClassicEnemy#applyMovement(float)}).
+ * Les ennemis loin du joueur suivent un niveau de détail réduit (voir {@link io.github.dr4c0nix.survivorgame.entities.enemy.Enemy}).
+ *
+ * Aucun ennemi ne bouge pendant la phase 1 : le résultat ne dépend ni du nombre de cœurs
+ * ni de l'ordonnancement des threads, une même graine donne la même partie.
+ * Les tâches sont réutilisées d'un tick à l'autre. Le pool est soit partagé avec l'appelant
+ * (graphe de jobs du tick), soit propre à l'updater et créé au premier tick assez chargé
+ * pour valoir la peine d'être parallélisé.
+ */
+public class EnemyUpdater {
+    // taille d'un paquet d'ennemis traité par une tâche
+    static final int CHUNK_SIZE = 32;
+    // en dessous, le coût de synchronisation dépasse le gain : tout est fait sur le thread appelant
+    static final int PARALLEL_THRESHOLD = 96;
+
+    private final int parallelism;
+    private ForkJoinPool pool;
+    // false : pool prêté par l'appelant, jamais arrêté ici
+    private final boolean ownsPool;
+    private final RootTask root = new RootTask();
+    private SteeringChunk[] chunks = new SteeringChunk[0];
+    private int chunkCount;
+    private ArrayList<ClassicEnemy> current;
+
+    /**
+     * @param parallelism nombre de threads de calcul (1 ou moins : tout en série)
+     */
+    public EnemyUpdater(int parallelism) {
+        this.parallelism = parallelism;
+        this.ownsPool = true;
+    }
+
+    /**
+     * Crée un updater qui oriente les ennemis sur un pool existant, sans créer de threads.
+     *
+     * @param sharedPool pool de l'appelant (null : tout en série) ; il reste à la charge de l'appelant
+     */
+    public EnemyUpdater(ForkJoinPool sharedPool) {
+        this.parallelism = sharedPool != null ? sharedPool.getParallelism() : 1;
+        this.pool = sharedPool;
+        this.ownsPool = false;
+    }
+
+    /** Crée un updater qui utilise tous les cœurs disponibles. */
+    public static EnemyUpdater forAvailableCores() {
+        return new EnemyUpdater(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Met à jour tous les ennemis actifs.
+     *
+     * @param enemies ennemis actifs (non modifiée pendant l'appel)
+     * @param delta durée du tick (secondes)
+     */
+    public void update(ArrayList<ClassicEnemy> enemies, float delta) {
+        int n = enemies.size();
+        if (parallelism > 1 && n >= PARALLEL_THRESHOLD) {
+            steerInParallel(enemies);
+        } else {
+            for (int i = 0; i < n; i++) {
+                enemies.get(i).computeSteering();
+            }
+        }
+
+        for (int i = 0; i < n; i++) {
+            enemies.get(i).applyMovement(delta);
+        }
+    }
+
+    private void steerInParallel(ArrayList<ClassicEnemy> enemies) {
+        if (pool == null) pool = new ForkJoinPool(parallelism);
+        int n = enemies.size();
+        chunkCount = (n + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        if (chunks.length < chunkCount) {
+            int old = chunks.length;
+            chunks = Arrays.copyOf(chunks, Math.max(chunkCount, old * 2));
+            for (int c = old; c < chunks.length; c++) chunks[c] = new SteeringChunk();
+        }
+        for (int c = 0; c < chunkCount; c++) {
+            chunks[c].reinitialize();
+            chunks[c].start = c * CHUNK_SIZE;
+            chunks[c].end = Math.min(n, (c + 1) * CHUNK_SIZE);
+        }
+        current = enemies;
+        root.reinitialize();
+        try {
+            // déjà sur un thread du pool (job du graphe) : les paquets sont poussés dans sa file
+            if (ForkJoinTask.getPool() == pool) {
+                root.invoke();
+            } else {
+                pool.invoke(root);
+            }
+        } finally {
+            current = null;
+        }
+    }
+
+    /** Nombre de paquets du dernier tick parallèle (0 : jamais parallélisé). */
+    int getLastChunkCount() {
+        return chunkCount;
+    }
+
+    /** Arrête les threads de calcul s'ils appartiennent à l'updater (un pool partagé est laissé à l'appelant). */
+    public void dispose() {
+        if (pool != null && ownsPool) {
+            pool.shutdown();
+            pool = null;
+        }
+    }
+
+    /** Lance tous les paquets du tick et attend leur fin. */
+    private final class RootTask extends RecursiveAction {
+        @Override
+        protected void compute() {
+            for (int c = 1; c < chunkCount; c++) {
+                chunks[c].fork();
+            }
+            chunks[0].compute();
+            for (int c = 1; c < chunkCount; c++) {
+                chunks[c].join();
+            }
+        }
+    }
+
+    /** Oriente les ennemis d'un intervalle de la liste. */
+    private final class SteeringChunk extends RecursiveAction {
+        int start;
+        int end;
+
+        @Override
+        protected void compute() {
+            ArrayList<ClassicEnemy> enemies = current;
+            for (int i = start; i < end; i++) {
+                enemies.get(i).computeSteering();
+            }
+        }
+    }
+}
@@ -1,11 +1,11 @@
 package io.github.dr4c0nix.survivorgame.entities;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
+import io.github.dr4c0nix.survivorgame.Sprites;
 
 /**
  * Classe abstraite Entity qui sert de base pour toutes les entités du jeu. (joueurs, ennemis, projectiles, Xp)
@@ -22,8 +22,13 @@ public abstract class Entity {
     protected Rectangle hitbox;
     protected float movementSpeed;
     protected boolean isAlive = true;
+    // texture propre à l'entité (libérée par dispose) ; les sprites chargés par Sprites sont partagés
     protected Texture texture;
     protected TextureRegion currentFrame;
+    // position au tick de simulation précédent, et position interpolée utilisée pour le rendu
+    protected final Vector2 previousPosition = new Vector2();
+    protected final Vector2 renderPosition = new Vector2();
+    private boolean interpolated = false;
 
     /**
      * Constructeur de l'entité.
@@ -39,20 +44,11 @@ public abstract class Entity {
     public Entity(Vector2 spawnPoint, float hitboxWidth, float hitboxHeight, String texturePath) {
         this.position = spawnPoint;
         this.hitbox = new Rectangle(spawnPoint.x, spawnPoint.y, hitboxWidth, hitboxHeight);
+        this.previousPosition.set(spawnPoint);
+        this.renderPosition.set(spawnPoint);
 
-        // Condition pour ne charger la texture que si un contexte graphique est disponible
-        if (texturePath != null && Gdx.files != null) {
-            try {
-                this.texture = new Texture(Gdx.files.internal(texturePath));
-                // Ne créer la TextureRegion que si la texture a été chargée avec succès
-                this.currentFrame = new TextureRegion(this.texture);
-            } catch (Exception e) {
-                // Gdx.app est aussi nul en test, donc on ne peut pas logger ici.
-                // On laisse simplement les textures à null.
-                this.texture = null;
-                this.currentFrame = null;
-            }
-        }
+        // Région partagée (atlas) : null sans contexte graphique, donc en test
+        this.currentFrame = Sprites.get(texturePath);
     }
 
     /**
@@ -66,7 +62,7 @@ public abstract class Entity {
     public void draw(SpriteBatch batch) {
         if (!isAlive) return;
         if (currentFrame != null) {
-            batch.draw(currentFrame, position.x, position.y, hitbox.width, hitbox.height);
+            batch.draw(currentFrame, getRenderX(), getRenderY(), hitbox.width, hitbox.height);
         }
     }
 
@@ -93,8 +89,53 @@ public abstract class Entity {
      * @param value La nouvelle position
      */
     public void setPosition(Vector2 value) {
-        this.position.set(value);
-        this.hitbox.setPosition(value.x, value.y);
+        setPosition(value.x, value.y);
+    }
+
+    /**
+     * Définit la nouvelle position de l'entité (sans Vector2 intermédiaire) et met à jour la hitbox.
+     * Il s'agit d'une téléportation : l'interpolation repart de cette position.
+     * @param x La nouvelle position X
+     * @param y La nouvelle position Y
+     */
+    public void setPosition(float x, float y) {
+        this.position.set(x, y);
+        this.hitbox.setPosition(x, y);
+        this.previousPosition.set(x, y);
+        this.renderPosition.set(x, y);
+    }
+
+    /**
+     * Mémorise la position courante comme état du tick précédent.
+     * À appeler au début de chaque tick de simulation, avant tout déplacement.
+     */
+    public void savePreviousPosition() {
+        this.previousPosition.set(this.position);
+    }
+
+    /**
+     * Calcule la position de rendu entre le tick précédent et le tick courant.
+     * @param alpha facteur d'interpolation (0 = tick précédent, 1 = tick courant)
+     */
+    public void interpolate(float alpha) {
+        this.renderPosition.set(this.previousPosition).lerp(this.position, alpha);
+        this.interpolated = true;
+    }
+
+    /**
+     * Position X utilisée pour le rendu (interpolée si {@link #interpolate(float)} a été appelée).
+     * @return La position X de rendu
+     */
+    public float getRenderX() {
+        return interpolated ? renderPosition.x : position.x;
+    }
+
+    /**
+     * Position Y utilisée pour le rendu (interpolée si {@link #interpolate(float)} a été appelée).
+     * @return La position Y de rendu
+     */
+    public float getRenderY() {
+        return interpolated ? renderPosition.y : position.y;
     }
 
     /**
@@ -181,7 +222,7 @@ public abstract class Entity {
      * Libère les ressources utilisées par l'entité.
      *
      * Cette méthode doit être appelée quand l'entité n'est plus utilisée
-     * pour éviter les fuites de mémoire.
+     * pour éviter les fuites de mémoire. La frame partagée ({@link Sprites}) n'est pas libérée ici.
      */
     public void dispose() {
         if (texture != null) {
@@ -0,0 +1,114 @@
+package io.github.dr4c0nix.survivorgame.entities;
+
+import io.github.dr4c0nix.survivorgame.entities.enemy.ClassicEnemy;
+import java.util.ArrayList;
+
+/**
+ * Tampon de commandes d'entités (spawn / despawn différés).
+ * Les systèmes y ajoutent leurs demandes pendant l'itération des listes actives,
+ * puis un unique flush() en fin de frame les applique à l'EntityFactory.
+ *
+ * Le stockage est réutilisé d'une frame à l'autre : aucune allocation en régime établi.
+ */
+public class EntityCommandBuffer {
+    private static final int INITIAL_CAPACITY = 64;
+    // x, y, xpValue, orbSize pour chaque orbe à faire apparaître
+    private static final int ORB_STRIDE = 4;
+
+    private final EntityFactory entityFactory;
+
+    private final ArrayList<Projectile> projectilesToRelease = new ArrayList<>(INITIAL_CAPACITY);
+    private final ArrayList<ClassicEnemy> enemiesToRelease = new ArrayList<>(INITIAL_CAPACITY);
+    private final ArrayList<OrbXp> orbsToRelease = new ArrayList<>(INITIAL_CAPACITY);
+
+    private float[] orbSpawns = new float[INITIAL_CAPACITY * ORB_STRIDE];
+    private int orbSpawnCount = 0;
+
+    /**
+     * Constructeur.
+     *
+     * @param entityFactory factory sur laquelle les commandes seront appliquées
+     */
+    public EntityCommandBuffer(EntityFactory entityFactory) {
+        this.entityFactory = entityFactory;
+    }
+
+    /** Demande la libération d'un projectile en fin de frame. */
+    public void despawnProjectile(Projectile projectile) {
+        if (projectile == null) return;
+        projectilesToRelease.add(projectile);
+    }
+
+    /** Demande la libération d'un ennemi en fin de frame. */
+    public void despawnEnemy(ClassicEnemy enemy) {
+        if (enemy == null) return;
+        enemiesToRelease.add(enemy);
+    }
+
+    /** Demande la libération d'une orbe en fin de frame. */
+    public void despawnOrb(OrbXp orb) {
+        if (orb == null) return;
+        orbsToRelease.add(orb);
+    }
+
+    /**
+     * Demande l'apparition d'une orbe d'XP en fin de frame.
+     *
+     * @param x position X de l'orbe
+     * @param y position Y de l'orbe
+     * @param xpValue valeur d'XP portée par l'orbe
+     * @param orbSize taille visuelle de l'orbe
+     */
+    public void spawnOrb(float x, float y, int xpValue, float orbSize) {
+        int offset = orbSpawnCount * ORB_STRIDE;
+        if (offset + ORB_STRIDE > orbSpawns.length) {
+            float[] grown = new float[orbSpawns.length * 2];
+            System.arraycopy(orbSpawns, 0, grown, 0, orbSpawns.length);
+            orbSpawns = grown;
+        }
+        orbSpawns[offset] = x;
+        orbSpawns[offset + 1] = y;
+        orbSpawns[offset + 2] = xpValue;
+        orbSpawns[offset + 3] = orbSize;
+        orbSpawnCount++;
+    }
+
+    /**
+     * Applique toutes les commandes en attente : libérations d'abord, puis apparitions
+     * (les orbes libérées peuvent ainsi être réutilisées immédiatement par le pool).
+     */
+    public void flush() {
+        for (int i = 0; i < projectilesToRelease.size(); i++) {
+            entityFactory.releaseProjectile(projectilesToRelease.get(i));
+        }
+        for (int i = 0; i < enemiesToRelease.size(); i++) {
+            entityFactory.releaseEnemy(enemiesToRelease.get(i));
+        }
+        for (int i = 0; i < orbsToRelease.size(); i++) {
+            entityFactory.releaseOrbXp(orbsToRelease.get(i));
+        }
+        for (int i = 0; i < orbSpawnCount; i++) {
+            int offset = i * ORB_STRIDE;
+            entityFactory.obtainOrbXp(orbSpawns[offset], orbSpawns[offset + 1], (int) orbSpawns[offset + 2], orbSpawns[offset + 3]);
+        }
+        clear();
+    }
+
+    /** Vide le tampon sans appliquer les commandes (la capacité est conservée). */
+    public void clear() {
+        projectilesToRelease.clear();
+        enemiesToRelease.clear();
+        orbsToRelease.clear();
+        orbSpawnCount = 0;
+    }
+
+    /** Indique si aucune commande n'est en attente. */
+    public boolean isEmpty() {
+        return projectilesToRelease.isEmpty() && enemiesToRelease.isEmpty() && orbsToRelease.isEmpty() && orbSpawnCount == 0;
+    }
+
+    /** Nombre de commandes en attente (toutes catégories confondues). */
+    public int getPendingCount() {
+        return projectilesToRelease.size() + enemiesToRelease.size() + orbsToRelease.size() + orbSpawnCount;
+    }
+}
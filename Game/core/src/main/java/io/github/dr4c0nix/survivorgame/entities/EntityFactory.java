@@ -10,7 +10,7 @@ import io.github.dr4c0nix.survivorgame.entities.enemy.ClassicEnemy;
 import io.github.dr4c0nix.survivorgame.entities.enemy.Demon;
 import io.github.dr4c0nix.survivorgame.entities.enemy.Orc;
 import io.github.dr4c0nix.survivorgame.entities.enemy.Skull;
-import io.github.dr4c0nix.survivorgame.screens.Gameplay;
+import io.github.dr4c0nix.survivorgame.WorldContext;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
@@ -21,7 +21,8 @@ import java.util.Map;
  * Fournit méthodes pour obtenir / libérer et dessiner les entités actives.
  */
 public class EntityFactory {
-    private Gameplay gameplay; 
+    private WorldContext gameplay; 
+    private final PoolSizing poolSizing;
 
     private Pool<OrbXp> orbXpPool;
     private static final float ORB_DEFAULT_SIZE = 12f;
@@ -30,17 +31,21 @@ public class EntityFactory {
 
     private final ArrayList<ClassicEnemy> activeEnemies = new ArrayList<>();
     private final ArrayList<ClassicEnemy> createdEnemies = new ArrayList<>();
-    private Pool<Projectile> projectilePool;
+    // un pool de projectiles par texture (chaque arme a sa propre texture de projectile)
+    private final Map<String, Pool<Projectile>> projectilePools = new HashMap<>();
     private final ArrayList<Projectile> activeProjectiles = new ArrayList<>();
     private final ArrayList<Projectile> createdProjectiles = new ArrayList<>();
-    private String projectileTexturePath;
-    private float projectileWidth;
-    private float projectileHeight;
     
     // pools par type (ajoute manuellement chaque pool dans initializePools)
     private final Map<String, Pool<ClassicEnemy>> enemyPools = new HashMap<>();
     private final Map<ClassicEnemy, String> instanceToType = new HashMap<>();
     private final Map<String, Vector2> enemyHitboxSizes = new HashMap<>();
+
+    // télémétrie des pools (une entrée par pool, dans l'ordre de création)
+    private final ArrayList<PoolStats> poolStats = new ArrayList<>();
+    private PoolStats orbPoolStats;
+    private final Map<String, PoolStats> enemyPoolStats = new HashMap<>();
+    private final Map<String, PoolStats> projectilePoolStats = new HashMap<>();
     
     private static final int INITIAL_POOL_SIZE = 64;
     private static final int MAX_POOL_SIZE = 512;
@@ -50,8 +55,20 @@ public class EntityFactory {
     // private static final String CLASSIC_TEXTURE = "personages/Jhonny/Jhonny-boss/Jhonny-boss.png";
     // private Texture classicEnemyTexture;
 
-    public EntityFactory(Gameplay gameplay) {
+    public EntityFactory(WorldContext gameplay) {
+        this(gameplay, new PoolSizing(null));
+    }
+
+    /**
+     * Constructeur avec dimensionnement adaptatif : les pools sont pré-remplis
+     * d'après le pic d'utilisation de la partie précédente.
+     *
+     * @param gameplay monde associé aux ennemis
+     * @param poolSizing dimensionnement persistant des pools
+     */
+    public EntityFactory(WorldContext gameplay, PoolSizing poolSizing) {
         this.gameplay = gameplay;
+        this.poolSizing = poolSizing;
         initializePools();
     }
 
@@ -65,6 +82,7 @@ public class EntityFactory {
                 return orb;
             }
         };
+        this.orbPoolStats = registerPool("orb", orbXpPool);
 
         // --- Pool pour les Orcs ---
         Pool<ClassicEnemy> orcPoolLocal = new Pool<ClassicEnemy>(INITIAL_POOL_SIZE, MAX_POOL_SIZE) {
@@ -78,6 +96,7 @@ public class EntityFactory {
             }
         };
         enemyPools.put("Orc", orcPoolLocal);
+        enemyPoolStats.put("Orc", registerPool("enemy:Orc", orcPoolLocal));
 
         Pool<ClassicEnemy> demonPoolLocal = new Pool<ClassicEnemy>(INITIAL_POOL_SIZE, MAX_POOL_SIZE) {
             @Override
@@ -89,6 +108,7 @@ public class EntityFactory {
             }
         };
         enemyPools.put("Demon", demonPoolLocal);
+        enemyPoolStats.put("Demon", registerPool("enemy:Demon", demonPoolLocal));
 
         Pool<ClassicEnemy> skullPoolLocal = new Pool<ClassicEnemy>(INITIAL_POOL_SIZE, MAX_POOL_SIZE) {
             @Override
@@ -100,6 +120,31 @@ public class EntityFactory {
             }
         };
         enemyPools.put("Skull", skullPoolLocal);
+        enemyPoolStats.put("Skull", registerPool("enemy:Skull", skullPoolLocal));
+
+        // Pools de projectiles : un par type connu, créés (et pré-remplis) avant la partie plutôt qu'au premier tir
+        ProjectileType[] projectileTypes = ProjectileType.values();
+        for (int i = 0; i < projectileTypes.length; i++) {
+            ProjectileType type = projectileTypes[i];
+            ensureProjectilePool(type.getTexturePath(), type.getWidth(), type.getHeight());
+        }
+    }
+
+    /**
+     * Crée les compteurs d'un pool et le pré-remplit selon le dimensionnement adaptatif.
+     *
+     * @param name nom du pool (clé de persistance)
+     * @param pool pool à suivre
+     * @return compteurs du pool
+     */
+    private PoolStats registerPool(String name, Pool<?> pool) {
+        PoolStats stats = new PoolStats(name);
+        poolStats.add(stats);
+        int prewarm = poolSizing.getPrewarmSize(name, pool.max);
+        if (prewarm > 0) {
+            pool.fill(prewarm);
+        }
+        return stats;
     }
 
     /**
@@ -119,6 +164,7 @@ public class EntityFactory {
             return null;
         }
 
+        enemyPoolStats.get(type).recordObtain(pool);
         ClassicEnemy enemy = pool.obtain();
         
         if (!activeEnemies.contains(enemy)) {
@@ -131,18 +177,26 @@ public class EntityFactory {
         return enemy;
     }
 
-    private void ensureProjectilePool(String texturePath, float width, float height) {
-        this.projectileTexturePath = texturePath;
-        this.projectileWidth = width;
-        this.projectileHeight = height;
-        this.projectilePool = new Pool<Projectile>(INITIAL_PROJECTILE_POOL_SIZE, MAX_PROJECTILE_POOL_SIZE) {
-            @Override
-            protected Projectile newObject() {
-                Projectile projectile = new Projectile(projectileTexturePath, projectileWidth, projectileHeight);
-                createdProjectiles.add(projectile);
-                return projectile;
-            }
-        };
+    /**
+     * Retourne le pool de projectiles associé à une texture, en le créant au premier appel.
+     * Les pools des {@link ProjectileType} sont créés à la construction ; une texture inconnue
+     * obtient encore son pool au premier tir. Les appels suivants réutilisent le même pool.
+     */
+    private Pool<Projectile> ensureProjectilePool(final String texturePath, final float width, final float height) {
+        Pool<Projectile> pool = projectilePools.get(texturePath);
+        if (pool == null) {
+            pool = new Pool<Projectile>(INITIAL_PROJECTILE_POOL_SIZE, MAX_PROJECTILE_POOL_SIZE) {
+                @Override
+                protected Projectile newObject() {
+                    Projectile projectile = new Projectile(texturePath, width, height);
+                    createdProjectiles.add(projectile);
+                    return projectile;
+                }
+            };
+            projectilePools.put(texturePath, pool);
+            projectilePoolStats.put(texturePath, registerPool("projectile:" + texturePath, pool));
+        }
+        return pool;
     }
 
     /**
@@ -165,7 +219,9 @@ public class EntityFactory {
     public void releaseEnemy(ClassicEnemy enemy) {
         if (enemy == null) return;
         activeEnemies.remove(enemy);
-        String type = instanceToType.remove(enemy);
+        // get plutôt que remove : l'association instance -> type est stable, la conserver évite
+        // de réallouer une entrée de HashMap à chaque réutilisation de l'ennemi
+        String type = instanceToType.get(enemy);
         if (type == null) {
             for (Pool<ClassicEnemy> p : enemyPools.values()) {
                 try { 
@@ -179,7 +235,10 @@ public class EntityFactory {
             return;
         }
         Pool<ClassicEnemy> pool = enemyPools.get(type);
-        if (pool != null) pool.free(enemy);
+        if (pool != null) {
+            enemyPoolStats.get(type).recordFree(pool);
+            pool.free(enemy);
+        }
     }
 
     /**
@@ -191,6 +250,20 @@ public class EntityFactory {
      * @return instance d'OrbXp activée
      */
     public OrbXp obtainOrbXp(Vector2 position, int xpValue, float orbSize) {
+        return obtainOrbXp(position.x, position.y, xpValue, orbSize);
+    }
+
+    /**
+     * Variante sans Vector2 : crée (ou réutilise) une orbe XP aux coordonnées données.
+     *
+     * @param x position X d'apparition
+     * @param y position Y d'apparition
+     * @param xpValue valeur d'XP à donner
+     * @param orbSize taille visuelle de l'orbe
+     * @return instance d'OrbXp activée
+     */
+    public OrbXp obtainOrbXp(float x, float y, int xpValue, float orbSize) {
+        orbPoolStats.recordObtain(orbXpPool);
         OrbXp orb = orbXpPool.obtain();
         if (!activeOrbs.contains(orb)) {
             activeOrbs.add(orb);
@@ -198,7 +271,7 @@ public class EntityFactory {
         orb.setXpValue(xpValue);
         orb.setSize(orbSize);
         orb.setAlive(true);
-        orb.setPosition(new Vector2(position));
+        orb.setPosition(x, y);
         return orb;
     }
 
@@ -206,6 +279,7 @@ public class EntityFactory {
     public void releaseOrbXp(OrbXp orb) {
         if (orb == null) return;
         activeOrbs.remove(orb);
+        orbPoolStats.recordFree(orbXpPool);
         orbXpPool.free(orb);
     }
 
@@ -225,9 +299,11 @@ public class EntityFactory {
      * @return projectile activé
      */
     public Projectile obtainProjectile(Vector2 position, Vector2 direction, float speed, float range, int damage, float projectileSize, float projectileBaseWidth, float projectileBaseHeight, String texturePath, LivingEntity source) {
-        ensureProjectilePool(texturePath, projectileBaseWidth, projectileBaseHeight);
-        Projectile projectile = projectilePool.obtain();
-        projectile.init(new Vector2(position), new Vector2(direction), speed, range, damage, projectileSize, source);
+        Pool<Projectile> pool = ensureProjectilePool(texturePath, projectileBaseWidth, projectileBaseHeight);
+        projectilePoolStats.get(texturePath).recordObtain(pool);
+        Projectile projectile = pool.obtain();
+        // init copie position et direction : les appelants peuvent passer des vecteurs temporaires réutilisés
+        projectile.init(position, direction, speed, range, damage, projectileSize, source);
         activeProjectiles.add(projectile);
         return projectile;
     }
@@ -245,8 +321,8 @@ public class EntityFactory {
 
     /** Dessine les projectiles actifs. */
     public void drawActiveProjectiles(SpriteBatch batch) {
-        for (Projectile projectile : activeProjectiles) {
-            projectile.draw(batch);
+        for (int i = 0; i < activeProjectiles.size(); i++) {
+            activeProjectiles.get(i).draw(batch);
         }
     }
 
@@ -258,14 +334,40 @@ public class EntityFactory {
             removeProjectileAt(index);
         } else {
             projectile.reset();
-            projectilePool.free(projectile);
+            freeProjectile(projectile);
         }
     }
 
     private void removeProjectileAt(int index) {
         Projectile projectile = activeProjectiles.remove(index);
         projectile.reset();
-        projectilePool.free(projectile);
+        freeProjectile(projectile);
+    }
+
+    /** Rend un projectile au pool de sa texture (ignoré si le pool a été vidé par dispose). */
+    private void freeProjectile(Projectile projectile) {
+        Pool<Projectile> pool = projectilePools.get(projectile.getTexturePath());
+        if (pool == null) return;
+        projectilePoolStats.get(projectile.getTexturePath()).recordFree(pool);
+        pool.free(projectile);
+    }
+
+    /** Retourne les compteurs de tous les pools, dans l'ordre de création. */
+    public ArrayList<PoolStats> getPoolStats() {
+        return poolStats;
+    }
+
+    /**
+     * Journalise les compteurs de chaque pool et enregistre leurs pics d'utilisation
+     * pour pré-remplir les pools à la prochaine partie.
+     */
+    public void savePoolSizing() {
+        for (int i = 0; i < poolStats.size(); i++) {
+            PoolStats stats = poolStats.get(i);
+            if (Gdx.app != null) Gdx.app.log("EntityFactory", stats.describe());
+            poolSizing.record(stats);
+        }
+        poolSizing.save();
     }
 
     public ArrayList<Projectile> getActiveProjectiles() {
@@ -311,10 +413,10 @@ public class EntityFactory {
             }
         }
         createdProjectiles.clear();
-        if (projectilePool != null) {
-            projectilePool.clear();
-            projectilePool = null;
+        for (Pool<Projectile> pool : projectilePools.values()) {
+            pool.clear();
         }
+        projectilePools.clear();
 
         // La texture n'est plus gérée par la factory, donc on supprime l'appel à dispose ici.
         // if (classicEnemyTexture != null) {
@@ -330,6 +432,7 @@ public class EntityFactory {
         }
         createdEnemies.clear();
         enemyHitboxSizes.clear();
+        instanceToType.clear();
     }
 
     public Pool<OrbXp> getOrbXpPool() {
@@ -0,0 +1,235 @@
+package io.github.dr4c0nix.survivorgame.entities;
+
+import java.util.ArrayList;
+
+/**
+ * Fusionne les orbes d'XP proches pour limiter le nombre d'orbes actives.
+ *
+ * Une passe sur grille (cellules de la taille du rayon de fusion) est lancée à basse fréquence,
+ * ou plus tôt si le nombre d'orbes vivantes dépasse le plafond (au plus une fois par {@link #FORCED_COOLDOWN}).
+ * Le rayon n'est élargi que tant que la passe précédente a fait baisser le nombre d'orbes :
+ * des orbes trop dispersées pour fusionner ne coûtent donc qu'une passe de temps en temps. Chaque orbe absorbée cède son XP à sa voisine :
+ * la position devient la moyenne pondérée par l'XP et la taille conserve l'aire totale (plafonnée).
+ * Les orbes absorbées sont libérées via le tampon de commandes.
+ */
+public class OrbCoalescer {
+    public static final int DEFAULT_MAX_ORBS = 150;
+    public static final float DEFAULT_MERGE_RADIUS = 40f;
+    public static final float DEFAULT_INTERVAL = 0.5f;
+    public static final float DEFAULT_MAX_ORB_SIZE = 28f;
+    // nombre de passes supplémentaires (rayon doublé à chaque fois) si le plafond est toujours dépassé
+    private static final int MAX_ESCALATIONS = 3;
+    /** Délai minimal entre deux passes forcées par le plafond (secondes). */
+    public static final float FORCED_COOLDOWN = 0.1f;
+    // table de hachage des cellules (puissance de 2)
+    private static final int BUCKET_COUNT = 1024;
+
+    private final EntityCommandBuffer commandBuffer;
+
+    private int maxOrbs = DEFAULT_MAX_ORBS;
+    private float mergeRadius = DEFAULT_MERGE_RADIUS;
+    private float interval = DEFAULT_INTERVAL;
+    private float maxOrbSize = DEFAULT_MAX_ORB_SIZE;
+    private float timer = 0f;
+    private float forcedCooldown = 0f;
+
+    // grille réutilisée : tête de liste par bucket, puis chaînage par indice d'orbe
+    private final int[] bucketHeads = new int[BUCKET_COUNT];
+    private int[] nextInBucket = new int[256];
+    private int mergedCount = 0;
+    private int passCount = 0;
+
+    /**
+     * Constructeur.
+     *
+     * @param commandBuffer tampon utilisé pour libérer les orbes absorbées
+     */
+    public OrbCoalescer(EntityCommandBuffer commandBuffer) {
+        this.commandBuffer = commandBuffer;
+    }
+
+    /**
+     * Appelé chaque frame : lance une passe de fusion si l'intervalle est écoulé
+     * ou si le nombre d'orbes vivantes dépasse le plafond.
+     *
+     * @param delta temps écoulé (secondes)
+     * @param orbs orbes actives
+     */
+    public void update(float delta, ArrayList<OrbXp> orbs) {
+        timer += delta;
+        if (forcedCooldown > 0f) forcedCooldown -= delta;
+        if (timer < interval) {
+            // les orbes ramassées ou absorbées restent dans la liste jusqu'au flush : seules les vivantes comptent
+            if (forcedCooldown > 0f || countAlive(orbs) <= maxOrbs) return;
+            forcedCooldown = FORCED_COOLDOWN;
+        }
+        timer = 0f;
+
+        int before = countAlive(orbs);
+        int alive = coalesce(orbs, mergeRadius);
+        float radius = mergeRadius;
+        for (int i = 0; i < MAX_ESCALATIONS && alive > maxOrbs && alive < before; i++) {
+            before = alive;
+            radius *= 2f;
+            alive = coalesce(orbs, radius);
+        }
+    }
+
+    private static int countAlive(ArrayList<OrbXp> orbs) {
+        int alive = 0;
+        for (int i = 0; i < orbs.size(); i++) {
+            if (orbs.get(i).isAlive()) alive++;
+        }
+        return alive;
+    }
+
+    /**
+     * Passe de fusion sur grille : chaque orbe est fusionnée dans la première orbe conservée
+     * trouvée à moins de {@code radius} dans les cellules voisines.
+     *
+     * @param orbs orbes actives
+     * @param radius rayon de fusion (pixels, entre centres)
+     * @return nombre d'orbes encore vivantes après la passe
+     */
+    public int coalesce(ArrayList<OrbXp> orbs, float radius) {
+        passCount++;
+        int count = orbs.size();
+        if (count < 2 || radius <= 0f) return count;
+        if (nextInBucket.length < count) {
+            nextInBucket = new int[Math.max(count, nextInBucket.length * 2)];
+        }
+        for (int b = 0; b < BUCKET_COUNT; b++) {
+            bucketHeads[b] = -1;
+        }
+
+        float radius2 = radius * radius;
+        float inverseCell = 1f / radius;
+        int alive = 0;
+
+        for (int i = 0; i < count; i++) {
+            OrbXp orb = orbs.get(i);
+            if (!orb.isAlive()) continue;
+            float half = orb.getOrbSize() * 0.5f;
+            float cx = orb.getPosition().x + half;
+            float cy = orb.getPosition().y + half;
+            int cellX = (int) Math.floor(cx * inverseCell);
+            int cellY = (int) Math.floor(cy * inverseCell);
+
+            OrbXp target = findNeighbour(orbs, cellX, cellY, cx, cy, radius2);
+            if (target != null) {
+                merge(target, orb);
+                continue;
+            }
+
+            int bucket = bucketOf(cellX, cellY);
+            nextInBucket[i] = bucketHeads[bucket];
+            bucketHeads[bucket] = i;
+            alive++;
+        }
+        return alive;
+    }
+
+    /** Cherche une orbe conservée à portée dans les 9 cellules autour de (cellX, cellY). */
+    private OrbXp findNeighbour(ArrayList<OrbXp> orbs, int cellX, int cellY, float cx, float cy, float radius2) {
+        for (int dx = -1; dx <= 1; dx++) {
+            for (int dy = -1; dy <= 1; dy++) {
+                int index = bucketHeads[bucketOf(cellX + dx, cellY + dy)];
+                while (index >= 0) {
+                    OrbXp other = orbs.get(index);
+                    float half = other.getOrbSize() * 0.5f;
+                    float ox = other.getPosition().x + half - cx;
+                    float oy = other.getPosition().y + half - cy;
+                    if (ox * ox + oy * oy <= radius2) {
+                        return other;
+                    }
+                    index = nextInBucket[index];
+                }
+            }
+        }
+        return null;
+    }
+
+    /** Absorbe {@code absorbed} dans {@code target} puis demande sa libération. */
+    private void merge(OrbXp target, OrbXp absorbed) {
+        int targetXp = target.getXpValue();
+        int absorbedXp = absorbed.getXpValue();
+        int totalXp = targetXp + absorbedXp;
+
+        float targetHalf = target.getOrbSize() * 0.5f;
+        float absorbedHalf = absorbed.getOrbSize() * 0.5f;
+        float tx = target.getPosition().x + targetHalf;
+        float ty = target.getPosition().y + targetHalf;
+        float ax = absorbed.getPosition().x + absorbedHalf;
+        float ay = absorbed.getPosition().y + absorbedHalf;
+
+        float weight = totalXp > 0 ? (float) absorbedXp / totalXp : 0.5f;
+        float centerX = tx + (ax - tx) * weight;
+        float centerY = ty + (ay - ty) * weight;
+
+        // aire conservée : s = sqrt(s1² + s2²), plafonnée pour rester lisible
+        float size = (float) Math.sqrt(target.getOrbSize() * target.getOrbSize() + absorbed.getOrbSize() * absorbed.getOrbSize());
+        if (size > maxOrbSize) size = Math.max(maxOrbSize, target.getOrbSize());
+
+        target.setXpValue(totalXp);
+        target.setSize(size);
+        target.setPosition(centerX - size * 0.5f, centerY - size * 0.5f);
+
+        absorbed.setAlive(false);
+        commandBuffer.despawnOrb(absorbed);
+        mergedCount++;
+    }
+
+    private static int bucketOf(int cellX, int cellY) {
+        return (cellX * 73856093 ^ cellY * 19349663) & (BUCKET_COUNT - 1);
+    }
+
+    /** Plafond d'orbes actives au-delà duquel une fusion est forcée. */
+    public int getMaxOrbs() {
+        return maxOrbs;
+    }
+
+    /** Définit le plafond d'orbes actives (minimum 1). */
+    public void setMaxOrbs(int maxOrbs) {
+        this.maxOrbs = Math.max(1, maxOrbs);
+    }
+
+    /** Rayon de fusion (pixels, entre centres). */
+    public float getMergeRadius() {
+        return mergeRadius;
+    }
+
+    /** Définit le rayon de fusion (pixels, entre centres). */
+    public void setMergeRadius(float mergeRadius) {
+        this.mergeRadius = Math.max(0f, mergeRadius);
+    }
+
+    /** Intervalle entre deux passes de fusion (secondes). */
+    public float getInterval() {
+        return interval;
+    }
+
+    /** Définit l'intervalle entre deux passes de fusion (secondes). */
+    public void setInterval(float interval) {
+        this.interval = Math.max(0f, interval);
+    }
+
+    /** Taille maximale d'une orbe fusionnée (pixels). */
+    public float getMaxOrbSize() {
+        return maxOrbSize;
+    }
+
+    /** Définit la taille maximale d'une orbe fusionnée (pixels). */
+    public void setMaxOrbSize(float maxOrbSize) {
+        this.maxOrbSize = maxOrbSize;
+    }
+
+    /** Nombre de passes de fusion lancées depuis la création (escalades comprises). */
+    public int getPassCount() {
+        return passCount;
+    }
+
+    /** Nombre total d'orbes absorbées depuis la création. */
+    public int getMergedCount() {
+        return mergedCount;
+    }
+}
@@ -91,7 +91,7 @@ public class OrbXp extends Entity implements Poolable {
     public void reset() {
         setXpValue(0);
         setAlive(false);
-        setPosition(new Vector2(0, 0));
+        setPosition(0f, 0f);
         // target = null;
         // isSeeking = false;
     }
@@ -0,0 +1,88 @@
+package io.github.dr4c0nix.survivorgame.entities;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Preferences;
+
+/**
+ * Dimensionnement adaptatif des pools de l'EntityFactory.
+ *
+ * En fin de partie, le high-water mark de chaque pool est sauvegardé dans les Preferences ("pool-sizing") ;
+ * une partie plus calme n'efface pas le pic des précédentes, qui ne s'oublie que de 10 % par partie.
+ * À la partie suivante, chaque pool est pré-rempli à hauteur de ce pic (+25 %), plafonné à sa taille max,
+ * pour éviter les créations d'objets en pleine partie.
+ */
+public class PoolSizing {
+    private static final String PREFS_NAME = "pool-sizing";
+    private static final String KEY_ADAPTIVE = "adaptive";
+    private static final float HEADROOM = 1.25f;
+    // part du pic précédent conservée à chaque enregistrement
+    private static final float DECAY = 0.9f;
+
+    private final Preferences prefs;
+    private boolean adaptive;
+
+    /**
+     * Constructeur.
+     *
+     * @param prefs préférences de stockage (null : mode adaptatif désactivé, rien n'est persisté)
+     */
+    public PoolSizing(Preferences prefs) {
+        this.prefs = prefs;
+        this.adaptive = prefs != null && prefs.getBoolean(KEY_ADAPTIVE, true);
+    }
+
+    /**
+     * Charge le dimensionnement depuis les Preferences de l'application.
+     *
+     * @return instance prête à l'emploi (désactivée si aucune application n'est disponible)
+     */
+    public static PoolSizing load() {
+        if (Gdx.app == null) return new PoolSizing(null);
+        return new PoolSizing(Gdx.app.getPreferences(PREFS_NAME));
+    }
+
+    /**
+     * Taille de pré-remplissage conseillée pour un pool.
+     *
+     * @param poolName nom du pool (voir {@link PoolStats#getName()})
+     * @param max taille maximale du pool
+     * @return nombre d'objets à créer d'avance (0 si mode adaptatif inactif ou pas d'historique)
+     */
+    public int getPrewarmSize(String poolName, int max) {
+        if (!adaptive) return 0;
+        int highWater = prefs.getInteger(poolName, 0);
+        if (highWater <= 0) return 0;
+        return Math.min(max, (int) Math.ceil(highWater * HEADROOM));
+    }
+
+    /**
+     * Enregistre le pic d'utilisation d'un pool pour la prochaine partie (sans flush).
+     * Le pic retenu est le plus grand entre celui de la partie et 90 % du pic déjà enregistré.
+     *
+     * @param stats compteurs du pool
+     */
+    public void record(PoolStats stats) {
+        if (prefs == null || stats == null) return;
+        int previous = prefs.getInteger(stats.getName(), 0);
+        prefs.putInteger(stats.getName(), Math.max(stats.getHighWater(), (int) (previous * DECAY)));
+    }
+
+    /** Écrit les préférences sur disque. */
+    public void save() {
+        if (prefs == null) return;
+        prefs.flush();
+    }
+
+    /** Indique si le pré-remplissage adaptatif est actif. */
+    public boolean isAdaptive() {
+        return adaptive;
+    }
+
+    /** Active ou désactive le pré-remplissage adaptatif (persisté). */
+    public void setAdaptive(boolean adaptive) {
+        if (prefs == null) return;
+        this.adaptive = adaptive;
+        prefs.putBoolean(KEY_ADAPTIVE, adaptive);
+        prefs.flush();
+    }
+}
@@ -0,0 +1,104 @@
+package io.github.dr4c0nix.survivorgame.entities;
+
+import com.badlogic.gdx.utils.Pool;
+
+/**
+ * Compteurs d'utilisation d'un pool de l'EntityFactory.
+ *
+ * obtains / frees : appels à obtain et free ;
+ * misses : obtains qui ont dû créer un nouvel objet (pool vide) ;
+ * highWater : nombre maximal d'objets sortis simultanément ;
+ * discarded : objets rendus alors que le pool était plein (donc perdus pour le GC).
+ */
+public class PoolStats {
+    private final String name;
+    private long obtains;
+    private long frees;
+    private long misses;
+    private long discarded;
+    private int inUse;
+    private int highWater;
+
+    /**
+     * Constructeur.
+     *
+     * @param name nom du pool (ex: "enemy:Orc")
+     */
+    public PoolStats(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Enregistre un obtain. À appeler juste avant {@code pool.obtain()}.
+     *
+     * @param pool pool sur lequel l'objet va être obtenu
+     */
+    public void recordObtain(Pool<?> pool) {
+        obtains++;
+        if (pool.getFree() == 0) misses++;
+        inUse++;
+        if (inUse > highWater) highWater = inUse;
+    }
+
+    /**
+     * Enregistre un free. À appeler juste avant {@code pool.free(object)}.
+     *
+     * @param pool pool qui va recevoir l'objet
+     */
+    public void recordFree(Pool<?> pool) {
+        frees++;
+        if (pool.getFree() >= pool.max) discarded++;
+        if (inUse > 0) inUse--;
+    }
+
+    /** Remet tous les compteurs à zéro. */
+    public void reset() {
+        obtains = 0;
+        frees = 0;
+        misses = 0;
+        discarded = 0;
+        inUse = 0;
+        highWater = 0;
+    }
+
+    /** Nom du pool. */
+    public String getName() {
+        return name;
+    }
+
+    /** Nombre d'obtains. */
+    public long getObtains() {
+        return obtains;
+    }
+
+    /** Nombre de frees. */
+    public long getFrees() {
+        return frees;
+    }
+
+    /** Nombre d'obtains ayant nécessité une création d'objet. */
+    public long getMisses() {
+        return misses;
+    }
+
+    /** Nombre d'objets jetés car le pool était plein. */
+    public long getDiscarded() {
+        return discarded;
+    }
+
+    /** Nombre d'objets actuellement sortis du pool. */
+    public int getInUse() {
+        return inUse;
+    }
+
+    /** Nombre maximal d'objets sortis simultanément. */
+    public int getHighWater() {
+        return highWater;
+    }
+
+    /** Résumé lisible pour les logs. */
+    public String describe() {
+        return name + ": obtains=" + obtains + " frees=" + frees + " misses=" + misses
+            + " highWater=" + highWater + " discarded=" + discarded;
+    }
+}
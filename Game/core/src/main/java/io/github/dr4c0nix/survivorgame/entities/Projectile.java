@@ -23,6 +23,7 @@ public class Projectile extends Entity implements Poolable {
     protected final float baseWidth;
     protected final float baseHeight;
     protected float rotationAngle;
+    protected final String texturePath;
 
     /**
      * Constructeur : initialise la taille de base et marque le projectile inactif.
@@ -35,6 +36,7 @@ public class Projectile extends Entity implements Poolable {
         super(new Vector2(0, 0), width, height, texturePath);
         this.baseWidth = width;
         this.baseHeight = height;
+        this.texturePath = texturePath;
         this.setAlive(false);
     }
 
@@ -65,9 +67,8 @@ public class Projectile extends Entity implements Poolable {
         float scaledHeight = baseHeight * projectileSize;
         float halfWidth = scaledWidth * 0.5f;
         float halfHeight = scaledHeight * 0.5f;
-        
-        Vector2 newPos = new Vector2(spawnCenter.x - halfWidth, spawnCenter.y - halfHeight);
-        this.setPosition(newPos);
+
+        this.setPosition(spawnCenter.x - halfWidth, spawnCenter.y - halfHeight);
         this.getHitbox().setSize(scaledWidth, scaledHeight);
         this.setAlive(true);
     }
@@ -101,7 +102,7 @@ public class Projectile extends Entity implements Poolable {
         velocity.setZero();
         direction.setZero();
         setAlive(false);
-        setPosition(new Vector2(0, 0));
+        setPosition(0f, 0f);
         getHitbox().setSize(baseWidth, baseHeight);
         setRotationAngle(0f);
     }
@@ -115,7 +116,7 @@ public class Projectile extends Entity implements Poolable {
     @Override
     public void draw(SpriteBatch batch) {
         if (!isAlive()) return;
-        batch.draw(getCurrentFrame(), getPosition().x, getPosition().y, getHitbox().width * 0.5f, getHitbox().height * 0.5f, getHitbox().width, getHitbox().height, 1f, 1f, rotationAngle);
+        batch.draw(getCurrentFrame(), getRenderX(), getRenderY(), getHitbox().width * 0.5f, getHitbox().height * 0.5f, getHitbox().width, getHitbox().height, 1f, 1f, rotationAngle);
     }
 
     /** Définit les dégâts du projectile. */
@@ -193,6 +194,11 @@ public class Projectile extends Entity implements Poolable {
         return baseHeight;
     }
 
+    /** Retourne le chemin de texture du projectile (clé de son pool). */
+    public String getTexturePath() {
+        return texturePath;
+    }
+
     /** Retourne l'angle de rotation du projectile. */
     public float getRotationAngle() {
         return rotationAngle;
@@ -0,0 +1,39 @@
+package io.github.dr4c0nix.survivorgame.entities;
+
+/**
+ * Projectiles connus du jeu : texture et taille de base de chacun.
+ *
+ * Les armes tirent ces projectiles ; l'EntityFactory crée et pré-remplit un pool par entrée
+ * dès sa construction, sans dépendre des classes d'armes.
+ */
+public enum ProjectileType {
+    WOOD_STICK("Weapon/WoodStick/woodstick-effect.png", 19f, 12f),
+    DAGGER("Weapon/Dagger/dagger-effect.png", 10f, 21f),
+    SWORD("Weapon/Sword/sword-effect.png", 32f, 8f),
+    FIRE_WAND("Weapon/FireWand/firewand-effect.png", 17f, 32f);
+
+    private final String texturePath;
+    private final float width;
+    private final float height;
+
+    ProjectileType(String texturePath, float width, float height) {
+        this.texturePath = texturePath;
+        this.width = width;
+        this.height = height;
+    }
+
+    /** Chemin de la texture du projectile (clé de son pool). */
+    public String getTexturePath() {
+        return texturePath;
+    }
+
+    /** Largeur de base du projectile. */
+    public float getWidth() {
+        return width;
+    }
+
+    /** Hauteur de base du projectile. */
+    public float getHeight() {
+        return height;
+    }
+}
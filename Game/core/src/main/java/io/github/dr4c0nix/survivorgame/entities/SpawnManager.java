@@ -6,12 +6,15 @@ import com.badlogic.gdx.maps.MapObject;
 import com.badlogic.gdx.maps.objects.RectangleMapObject;
 import com.badlogic.gdx.maps.tiled.TiledMap;
 import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.RandomXS128;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import io.github.dr4c0nix.survivorgame.entities.enemy.ClassicEnemy;
 import io.github.dr4c0nix.survivorgame.entities.player.Player;
-import io.github.dr4c0nix.survivorgame.screens.Gameplay;
+import io.github.dr4c0nix.survivorgame.WorldContext;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Gère la logique d'apparition (spawn) des ennemis sur la carte.
@@ -20,12 +23,20 @@ import java.util.ArrayList;
 public class SpawnManager {
     private static final int MAX_SPAWN_ATTEMPTS = 10;
 
-    private final Gameplay gameplay;
+    private final WorldContext gameplay;
     private final EntityFactory entityFactory;
+    private final RandomXS128 random;
     private final ArrayList<Rectangle> room1Areas = new ArrayList<>();
     private final ArrayList<Rectangle> room2Areas = new ArrayList<>();
     private final ArrayList<Rectangle> corridorAreas = new ArrayList<>();
 
+    // état de travail réutilisé d'une vague à l'autre (aucune allocation par tentative de spawn)
+    private final ArrayList<Rectangle> selectedZones = new ArrayList<>();
+    private final Map<String, Vector2> hitboxSizeCache = new HashMap<>();
+    private final Rectangle spawnProbe = new Rectangle();
+    private final Vector2 spawnPosition = new Vector2();
+    private ArrayList<String> enemyTypes;
+
     private boolean spawningUnlocked = false;
     private float spawnTimer = 0f;
     private float spawnInterval = 2f;
@@ -33,13 +44,26 @@ public class SpawnManager {
     /**
      * Constructeur : conserve gameplay, factory et parse la map pour zones de spawn.
      *
-     * @param gameplay instance Gameplay
+     * @param gameplay contexte du monde (collisions, temps écoulé)
+     * @param entityFactory factory d'entités
+     * @param map carte TiledMap (peut être null pour tests)
+     */
+    public SpawnManager(WorldContext gameplay, EntityFactory entityFactory, TiledMap map) {
+        this(gameplay, entityFactory, map, new RandomXS128());
+    }
+
+    /**
+     * Constructeur avec un flux aléatoire imposé (parties rejouables).
+     *
+     * @param gameplay contexte du monde (collisions, temps écoulé)
      * @param entityFactory factory d'entités
      * @param map carte TiledMap (peut être null pour tests)
+     * @param random flux utilisé pour la zone, le type et la position des apparitions
      */
-    public SpawnManager(Gameplay gameplay, EntityFactory entityFactory, TiledMap map) {
+    public SpawnManager(WorldContext gameplay, EntityFactory entityFactory, TiledMap map, RandomXS128 random) {
         this.gameplay = gameplay;
         this.entityFactory = entityFactory;
+        this.random = random;
         parseMobSpawnLayer(map);
     }
 
@@ -117,8 +141,12 @@ public class SpawnManager {
         ArrayList<Rectangle> zones = selectZones(player);
         if (zones.isEmpty()) return;
 
-        ArrayList<String> types = entityFactory.getAvailableEnemyTypes();
-        if (types.isEmpty()) return;
+        // les types d'ennemis sont fixés à la construction de la factory : on les lit une seule fois
+        if (enemyTypes == null || enemyTypes.isEmpty()) {
+            enemyTypes = entityFactory.getAvailableEnemyTypes();
+        }
+        ArrayList<String> types = enemyTypes;
+        if (types == null || types.isEmpty()) return;
 
         int desired = computeSpawnBatch(player);
         int spawned = 0;
@@ -130,7 +158,8 @@ public class SpawnManager {
 
     /** Sélectionne les zones d'apparition appropriées en fonction de la position du joueur. */
     private ArrayList<Rectangle> selectZones(Player player) {
-        ArrayList<Rectangle> result = new ArrayList<>();
+        ArrayList<Rectangle> result = selectedZones;
+        result.clear();
         boolean inRoom1 = isPlayerInsideAreas(room1Areas, player);
         boolean inRoom2 = isPlayerInsideAreas(room2Areas, player);
         boolean inCorridor = isPlayerInsideAreas(corridorAreas, player);
@@ -149,33 +178,37 @@ public class SpawnManager {
     /** Tente de faire apparaître un ennemi dans les zones candidates. */
     private boolean trySpawnOne(ArrayList<Rectangle> candidates, ArrayList<String> types) {
         for (int attempt = 0; attempt < MAX_SPAWN_ATTEMPTS; attempt++) {
-            Rectangle zone = candidates.get(MathUtils.random(candidates.size() - 1));
-            String type = types.get(MathUtils.random(types.size() - 1));
-
-            Vector2 size = entityFactory.getEnemyHitboxSize(type);
+            Rectangle zone = candidates.get(random.nextInt(candidates.size()));
+            String type = types.get(random.nextInt(types.size()));
 
+            Vector2 size = hitboxSizeCache.get(type);
             if (size == null) {
-                ClassicEnemy proto = entityFactory.obtainEnemy(type, new Vector2(-10000f, -10000f));
-                if (proto != null) {
-                    entityFactory.releaseEnemy(proto);
-                    size = entityFactory.getEnemyHitboxSize(type);
+                size = entityFactory.getEnemyHitboxSize(type);
+
+                if (size == null) {
+                    ClassicEnemy proto = entityFactory.obtainEnemy(type, spawnPosition.set(-10000f, -10000f));
+                    if (proto != null) {
+                        entityFactory.releaseEnemy(proto);
+                        size = entityFactory.getEnemyHitboxSize(type);
+                    }
                 }
-            }
 
-            if (size == null) continue;
+                if (size == null) continue;
+                hitboxSizeCache.put(type, size);
+            }
 
             float width = size.x;
             float height = size.y;
 
             if (zone.width < width || zone.height < height) continue;
 
-            float x = MathUtils.random(zone.x, zone.x + zone.width - width);
-            float y = MathUtils.random(zone.y, zone.y + zone.height - height);
+            float x = zone.x + random.nextFloat() * (zone.width - width);
+            float y = zone.y + random.nextFloat() * (zone.height - height);
 
-            Rectangle probe = new Rectangle(x, y, width, height);
-            if (gameplay.isColliding(probe)) continue;
+            spawnProbe.set(x, y, width, height);
+            if (gameplay.isColliding(spawnProbe)) continue;
 
-            ClassicEnemy enemy = entityFactory.obtainEnemy(type, new Vector2(x, y));
+            ClassicEnemy enemy = entityFactory.obtainEnemy(type, spawnPosition.set(x, y));
             if (enemy == null) return false;
 
             if (gameplay.isColliding(enemy.getHitbox())) {
@@ -202,8 +235,8 @@ public class SpawnManager {
     /** Vérifie si le joueur est à l'intérieur de l'une des zones données. */
     private boolean isPlayerInsideAreas(ArrayList<Rectangle> areas, Player player) {
         Rectangle playerRect = player.getHitbox();
-        for (Rectangle area : areas) {
-            if (area.overlaps(playerRect)) return true;
+        for (int i = 0; i < areas.size(); i++) {
+            if (areas.get(i).overlaps(playerRect)) return true;
         }
         return false;
     }
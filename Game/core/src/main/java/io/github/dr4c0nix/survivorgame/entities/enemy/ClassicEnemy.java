@@ -2,7 +2,7 @@ package io.github.dr4c0nix.survivorgame.entities.enemy;
 
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Pool.Poolable;
-import io.github.dr4c0nix.survivorgame.screens.Gameplay;
+import io.github.dr4c0nix.survivorgame.WorldContext;
 
 /**
  * Classe abstraite pour les ennemis "classiques" (poolable).
@@ -21,10 +21,10 @@ public abstract class ClassicEnemy extends Enemy implements Poolable {
      * @param armor         armure
      * @param force         force (dégâts)
      * @param texturePath   chemin de la texture
-     * @param gameplay      référence à Gameplay (peut être null à la construction)
+     * @param gameplay      contexte du monde (peut être null à la construction)
      * @param movementSpeed vitesse de déplacement
      */
-    public ClassicEnemy(Vector2 spawnPoint, float hitboxWidth, float hitboxHeight, int xpDrop, float hp, int armor, float force, String texturePath, Gameplay gameplay, float movementSpeed) {
+    public ClassicEnemy(Vector2 spawnPoint, float hitboxWidth, float hitboxHeight, int xpDrop, float hp, int armor, float force, String texturePath, WorldContext gameplay, float movementSpeed) {
         super(spawnPoint, hitboxWidth, hitboxHeight, xpDrop, hp, armor, force, texturePath);
         this.gameplay = gameplay;
         setMovementSpeed(movementSpeed);
@@ -48,6 +48,7 @@ public abstract class ClassicEnemy extends Enemy implements Poolable {
         this.setPosition(spawnPoint);
         this.setAlive(true);
         this.setCurrentHp(this.getMaxHp());
+        resetSimulationLod();
     }
 
     /**
@@ -58,6 +59,7 @@ public abstract class ClassicEnemy extends Enemy implements Poolable {
     public void reset() {
         this.setCurrentHp(this.getMaxHp());
         this.setAlive(false);
-        this.setPosition(new Vector2(0f, 0f));
+        this.setPosition(0f, 0f);
+        resetSimulationLod();
     }
 }
\ No newline at end of file
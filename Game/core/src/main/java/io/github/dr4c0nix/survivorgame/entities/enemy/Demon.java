@@ -12,7 +12,7 @@ public class Demon extends ClassicEnemy {
     private final Vector2 lastPos = new Vector2();
 
     /**
-     * Constructeur : initialise les statistiques et la hitbox si la texture est chargée.
+     * Constructeur : initialise les statistiques et la hitbox si le sprite est chargé.
      */
     public Demon() {
         super(
@@ -36,8 +36,8 @@ public class Demon extends ClassicEnemy {
 
         lastPos.set(position);
 
-        if (this.texture != null) {
-            this.hitbox.setSize(this.texture.getWidth(), this.texture.getHeight());
+        if (this.currentFrame != null) {
+            this.hitbox.setSize(this.currentFrame.getRegionWidth(), this.currentFrame.getRegionHeight());
         }
     }
 
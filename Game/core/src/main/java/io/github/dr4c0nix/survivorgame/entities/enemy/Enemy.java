@@ -1,25 +1,42 @@
 package io.github.dr4c0nix.survivorgame.entities.enemy;
 
 // import java.util.Vector;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 
 import io.github.dr4c0nix.survivorgame.entities.LivingEntity;
 import io.github.dr4c0nix.survivorgame.entities.OrbXp;
 import io.github.dr4c0nix.survivorgame.entities.player.Player;
-import io.github.dr4c0nix.survivorgame.screens.Gameplay;
+import io.github.dr4c0nix.survivorgame.WorldContext;
 
 /**
  * Classe de base pour tous les ennemis du jeu.
  * Contient la logique de déplacement, séparation (pour éviter la superposition)
  * et l'orbe d'XP associée à l'ennemi.
+ *
+ * Niveau de détail de simulation : au-delà de {@link #NEAR_RADIUS} du joueur (centre de la caméra),
+ * un ennemi n'est orienté qu'un tick sur {@link #FAR_INTERVAL} avec le temps accumulé entre-temps,
+ * sans séparation et avec une collision grossière. Près du joueur, la simulation reste complète.
  */
 public abstract class Enemy extends LivingEntity {
+    /** Rayon de simulation complète autour du joueur : demi-diagonale de la vue au zoom maximal (800x600) plus une marge. */
+    public static final float NEAR_RADIUS = 640f;
+    /** Un ennemi lointain n'est orienté et déplacé qu'un tick sur FAR_INTERVAL. */
+    public static final int FAR_INTERVAL = 4;
+    // plafond du temps accumulé par un ennemi lointain (évite de traverser un mur en un seul pas)
+    static final float MAX_PENDING_DELTA = 0.25f;
     protected OrbXp xpDrop;
-    protected Gameplay gameplay;
+    protected WorldContext gameplay;
 
-    private final Vector2 tmpVector = new Vector2();
-    private final Vector2 velocity = new Vector2();
-    private final Vector2 separation = new Vector2();
+    // direction (champ de flux en cache + séparation)
+    private final Steering steering = new Steering();
+    // direction calculée par computeSteering, pas encore appliquée
+    private boolean steered = false;
+    // niveau de détail : loin du joueur, tick sauté (temps accumulé) et rang dans l'intervalle
+    private boolean far = false;
+    private boolean deferred = false;
+    private int farPhase = 0;
+    private float pendingDelta = 0f;
 
     /**
      * Constructeur.
@@ -39,11 +56,11 @@ public abstract class Enemy extends LivingEntity {
     }
 
     /**
-     * Associe l'objet Gameplay pour permettre l'accès au joueur, collisions et pathfinding.
+     * Associe le monde (GameWorld ou Gameplay) pour permettre l'accès au joueur, collisions et pathfinding.
      *
-     * @param gameplay instance de Gameplay
+     * @param gameplay contexte du monde
      */
-    public void setGameplay(Gameplay gameplay) {
+    public void setGameplay(WorldContext gameplay) {
         this.gameplay = gameplay;
     }
 
@@ -74,6 +91,21 @@ public abstract class Enemy extends LivingEntity {
      */
     @Override
     public void update(float delta) {
+        computeSteering();
+        applyMovement(delta);
+    }
+
+    /**
+     * Phase 1 de la mise à jour : calcule la direction de déplacement (pathfinding ou direct
+     * vers le joueur, plus séparation entre ennemis).
+     *
+     * Ne fait que lire le monde (champ de flux, joueur, positions des autres ennemis) et n'écrit
+     * que dans cet ennemi : plusieurs ennemis peuvent être orientés en parallèle tant qu'aucun
+     * ne bouge avant la fin de la phase.
+     */
+    public void computeSteering() {
+        steered = false;
+        deferred = false;
         if (!isAlive() || gameplay == null) return;
         
         Player player = gameplay.getPlayer();
@@ -82,58 +114,100 @@ public abstract class Enemy extends LivingEntity {
         float centerX = getPosition().x + getHitbox().width / 2;
         float centerY = getPosition().y + getHitbox().height / 2;
 
-        // 1. Obtenir la direction idéale (via Pathfinding ou direct vers joueur)
-        Vector2 desiredDir = gameplay.getDirection((int) centerX, (int) centerY);
-        
-        if (desiredDir == null) {
-            tmpVector.set(player.getPosition()).add(player.getHitbox().width/2, player.getHitbox().height/2);
-            tmpVector.sub(centerX, centerY).nor();
-            velocity.set(tmpVector);
+        // 0. Niveau de détail : un ennemi lointain n'est orienté qu'un tick sur FAR_INTERVAL
+        Rectangle playerBox = player.getHitbox();
+        float toPlayerX = playerBox.x + playerBox.width / 2 - centerX;
+        float toPlayerY = playerBox.y + playerBox.height / 2 - centerY;
+        far = toPlayerX * toPlayerX + toPlayerY * toPlayerY > NEAR_RADIUS * NEAR_RADIUS;
+        if (far) {
+            int phase = farPhase;
+            farPhase = phase + 1 == FAR_INTERVAL ? 0 : phase + 1;
+            if (phase != 0) {
+                deferred = true;
+                return;
+            }
         } else {
-            velocity.set(desiredDir);
+            farPhase = 0;
         }
 
-        // 2. Force de séparation : Évite que les ennemis se superposent trop
-        calculateSeparationForce(separation);
-        velocity.add(separation).nor(); 
-
-        // 3. Appliquer le mouvement avec glissement sur les murs
-        float moveDist = getMovementSpeed() * delta;
-        moveAndSlide(velocity.x * moveDist, velocity.y * moveDist, moveDist);
-        tickImmunity(delta);
+        // 1-2. Direction idéale (champ de flux en cache ou direct vers le joueur), séparation inutile hors de la vue
+        steering.steer(this, gameplay, player, centerX, centerY, !far);
+        steered = true;
     }
 
     /**
-     * Calcule une force de séparation pour éviter la superposition des ennemis proches.
-     * Remplit outSeparation avec le vecteur de séparation (somme des forces).
+     * Phase 2 de la mise à jour : déplace l'ennemi selon la direction calculée par
+     * {@link #computeSteering()} (glissement sur les murs) et fait avancer l'immunité.
      *
-     * @param outSeparation vecteur de sortie modifié par la méthode
+     * @param delta temps écoulé depuis la dernière frame (en secondes)
      */
-    private void calculateSeparationForce(Vector2 outSeparation) {
-        outSeparation.set(0, 0);
-        int count = 0;
-        float separationRadius = getHitbox().width;
-
-        // Note: ceci ne prend en compte que les ClassicEnemy pour la séparation.
-        // Pour inclure les Boss, il faudra une liste plus générique dans Gameplay.
-        for (ClassicEnemy other : gameplay.getActiveClassicEnemies()) {
-            if (other == this || !other.isAlive()) continue;
-
-            float dst2 = getPosition().dst2(other.getPosition());
-            if (dst2 > 0 && dst2 < separationRadius * separationRadius) {
-                // Vecteur qui fuit l'autre ennemi
-                tmpVector.set(getPosition()).sub(other.getPosition()).nor();
-                // Plus on est proche, plus la force est grande
-                tmpVector.scl(1f / (float)Math.sqrt(dst2)); 
-                outSeparation.add(tmpVector);
-                count++;
-                // On ne vérifie pas tous les ennemis, 5 suffisent pour l'effet de foule
-                if (count > 5) break; 
-            }
+    public void applyMovement(float delta) {
+        if (deferred) {
+            // tick sauté par un ennemi lointain : le temps sera rattrapé au prochain déplacement
+            deferred = false;
+            pendingDelta = Math.min(pendingDelta + delta, MAX_PENDING_DELTA);
+            tickImmunity(delta);
+            return;
         }
-        if (count > 0) {
-            outSeparation.scl(1.5f); 
+        if (!steered) return;
+        steered = false;
+
+        // 3. Appliquer le mouvement avec glissement sur les murs (grossier hors de la vue)
+        float moveDist = getMovementSpeed() * (delta + pendingDelta);
+        pendingDelta = 0f;
+        Vector2 velocity = steering.getVelocity();
+        if (far) {
+            moveCoarse(velocity.x * moveDist, velocity.y * moveDist);
+        } else {
+            moveAndSlide(velocity.x * moveDist, velocity.y * moveDist, moveDist);
         }
+        tickImmunity(delta);
+    }
+
+    /** Indique si l'ennemi était hors du rayon de simulation complète à sa dernière orientation. */
+    public boolean isFar() {
+        return far;
+    }
+
+    /** Remet le niveau de détail à zéro (ennemi activé ou rendu au pool). */
+    protected void resetSimulationLod() {
+        steered = false;
+        deferred = false;
+        far = false;
+        farPhase = 0;
+        pendingDelta = 0f;
+        steering.invalidate();
+    }
+
+    /** Composant de direction de l'ennemi. */
+    public Steering getSteering() {
+        return steering;
+    }
+
+    /**
+     * Déplacement grossier des ennemis lointains : un seul test de collision pour le pas complet,
+     * puis chaque axe seul en cas de mur, sans rattraper la distance perdue.
+     *
+     * @param dx déplacement souhaité sur X
+     * @param dy déplacement souhaité sur Y
+     */
+    private void moveCoarse(float dx, float dy) {
+        float startX = getPosition().x;
+        float startY = getPosition().y;
+        getPosition().set(startX + dx, startY + dy);
+        getHitbox().setPosition(getPosition().x, getPosition().y);
+        if (!gameplay.isColliding(getHitbox())) return;
+
+        getPosition().y = startY;
+        getHitbox().y = startY;
+        if (!gameplay.isColliding(getHitbox())) return;
+
+        getPosition().set(startX, startY + dy);
+        getHitbox().setPosition(startX, getPosition().y);
+        if (!gameplay.isColliding(getHitbox())) return;
+
+        getPosition().y = startY;
+        getHitbox().y = startY;
     }
 
     /**
@@ -34,8 +34,8 @@ public class Orc extends ClassicEnemy {
 
         lastPos.set(position);
 
-        if (this.texture != null) {
-            this.hitbox.setSize(this.texture.getWidth(), this.texture.getHeight());
+        if (this.currentFrame != null) {
+            this.hitbox.setSize(this.currentFrame.getRegionWidth(), this.currentFrame.getRegionHeight());
         }
     }
 
@@ -12,7 +12,7 @@ public class Skull extends ClassicEnemy {
     private final Vector2 lastPos = new Vector2();
 
     /**
-     * Constructeur : initialise les stats par défaut et la hitbox si la texture est chargée.
+     * Constructeur : initialise les stats par défaut et la hitbox si le sprite est chargé.
      */
     public Skull() {
         super(
@@ -36,8 +36,8 @@ public class Skull extends ClassicEnemy {
 
         lastPos.set(position);
 
-        if (this.texture != null) {
-            this.hitbox.setSize(this.texture.getWidth(), this.texture.getHeight());
+        if (this.currentFrame != null) {
+            this.hitbox.setSize(this.currentFrame.getRegionWidth(), this.currentFrame.getRegionHeight());
         }
     }
 
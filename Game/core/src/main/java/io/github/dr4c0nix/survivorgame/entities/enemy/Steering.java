@@ -0,0 +1,132 @@
+package io.github.dr4c0nix.survivorgame.entities.enemy;
+
+import com.badlogic.gdx.math.Vector2;
+import io.github.dr4c0nix.survivorgame.GameWorld;
+import io.github.dr4c0nix.survivorgame.WorldContext;
+import io.github.dr4c0nix.survivorgame.entities.player.Player;
+
+import java.util.ArrayList;
+
+/**
+ * Composant de direction d'un ennemi : champ de flux (ou direct vers le joueur) plus séparation.
+ *
+ * La direction du champ ne dépend que de la case de l'ennemi et de la version du champ
+ * ({@link WorldContext#getFlowVersion()}) : elle est gardée en cache et n'est redemandée au monde
+ * que si l'une des deux change. La plupart des ennemis restent plusieurs ticks dans la même case.
+ * Chaque ennemi possède son composant : l'orientation en parallèle reste sans partage d'état.
+ */
+public class Steering {
+    // au-delà de ce nombre de voisins, la poussée ne change plus vraiment l'effet de foule
+    private static final int MAX_NEIGHBOURS = 5;
+
+    private final Vector2 velocity = new Vector2();
+    private final Vector2 separation = new Vector2();
+    private final Vector2 tmpVector = new Vector2();
+
+    // dernière réponse du champ de flux et sa clé (case, version)
+    private final Vector2 cachedFlow = new Vector2();
+    private boolean cacheValid = false;
+    private boolean cachedFlowMissing = false;
+    private int cachedTileX;
+    private int cachedTileY;
+    private int cachedVersion;
+    private int flowQueries = 0;
+
+    /**
+     * Calcule la direction normalisée de l'ennemi.
+     *
+     * @param self ennemi orienté
+     * @param world monde (champ de flux, autres ennemis)
+     * @param player joueur poursuivi
+     * @param centerX centre X de l'ennemi (pixels)
+     * @param centerY centre Y de l'ennemi (pixels)
+     * @param separate true pour ajouter la poussée des voisins
+     * @return direction calculée (vecteur du composant, valable jusqu'au prochain appel)
+     */
+    public Vector2 steer(Enemy self, WorldContext world, Player player, float centerX, float centerY, boolean separate) {
+        // 1. Direction idéale : champ de flux (en cache) ou direct vers le joueur
+        if (flowDirection(world, (int) centerX, (int) centerY)) {
+            velocity.set(cachedFlow);
+        } else {
+            velocity.set(player.getPosition()).add(player.getHitbox().width / 2, player.getHitbox().height / 2);
+            velocity.sub(centerX, centerY).nor();
+        }
+
+        // 2. Force de séparation : évite que les ennemis se superposent trop
+        if (separate) {
+            calculateSeparationForce(self, world.getActiveClassicEnemies(), separation);
+            velocity.add(separation);
+        }
+        return velocity.nor();
+    }
+
+    /**
+     * Direction du champ de flux pour la case du point donné, redemandée au monde seulement si
+     * la case ou la version du champ a changé.
+     *
+     * @return true si le champ donne une direction (copiée dans cachedFlow)
+     */
+    private boolean flowDirection(WorldContext world, int x, int y) {
+        int tileX = x / GameWorld.TILE_SIZE;
+        int tileY = y / GameWorld.TILE_SIZE;
+        int version = world.getFlowVersion();
+        if (!cacheValid || tileX != cachedTileX || tileY != cachedTileY || version != cachedVersion) {
+            Vector2 flow = world.getDirection(x, y);
+            flowQueries++;
+            cachedFlowMissing = flow == null;
+            if (flow != null) cachedFlow.set(flow);
+            cachedTileX = tileX;
+            cachedTileY = tileY;
+            cachedVersion = version;
+            cacheValid = true;
+        }
+        return !cachedFlowMissing;
+    }
+
+    /**
+     * Calcule une force de séparation pour éviter la superposition des ennemis proches.
+     * Remplit outSeparation avec le vecteur de séparation (somme des forces).
+     */
+    private void calculateSeparationForce(Enemy self, ArrayList<ClassicEnemy> others, Vector2 outSeparation) {
+        outSeparation.set(0, 0);
+        int count = 0;
+        float separationRadius = self.getHitbox().width;
+
+        // Note: ceci ne prend en compte que les ClassicEnemy pour la séparation.
+        // Pour inclure les Boss, il faudra une liste plus générique dans le monde.
+        for (int i = 0; i < others.size(); i++) {
+            ClassicEnemy other = others.get(i);
+            if (other == self || !other.isAlive()) continue;
+
+            float dst2 = self.getPosition().dst2(other.getPosition());
+            if (dst2 > 0 && dst2 < separationRadius * separationRadius) {
+                // Vecteur qui fuit l'autre ennemi
+                tmpVector.set(self.getPosition()).sub(other.getPosition()).nor();
+                // Plus on est proche, plus la force est grande
+                tmpVector.scl(1f / (float) Math.sqrt(dst2));
+                outSeparation.add(tmpVector);
+                count++;
+                // On ne vérifie pas tous les ennemis, quelques-uns suffisent pour l'effet de foule
+                if (count > MAX_NEIGHBOURS) break;
+            }
+        }
+        if (count > 0) {
+            outSeparation.scl(1.5f);
+        }
+    }
+
+    /** Dernière direction calculée. */
+    public Vector2 getVelocity() {
+        return velocity;
+    }
+
+    /** Oublie la direction du champ en cache (ennemi réactivé ailleurs). */
+    public void invalidate() {
+        cacheValid = false;
+    }
+
+    /** Nombre de requêtes réellement faites au champ de flux depuis la création. */
+    public int getFlowQueries() {
+        return flowQueries;
+    }
+}
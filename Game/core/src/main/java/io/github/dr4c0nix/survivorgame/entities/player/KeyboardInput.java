@@ -0,0 +1,23 @@
+package io.github.dr4c0nix.survivorgame.entities.player;
+
+import com.badlogic.gdx.Gdx;
+import io.github.dr4c0nix.survivorgame.GameOptions;
+
+/**
+ * Commandes de déplacement lues au clavier, selon les touches configurées dans {@link GameOptions}.
+ */
+public class KeyboardInput implements PlayerInput {
+    public static final KeyboardInput INSTANCE = new KeyboardInput();
+
+    @Override
+    public int pollDirections(Player player) {
+        if (Gdx.input == null) return 0;
+        GameOptions options = GameOptions.getInstance();
+        int directions = 0;
+        if (Gdx.input.isKeyPressed(options.getKeyUp())) directions |= UP;
+        if (Gdx.input.isKeyPressed(options.getKeyDown())) directions |= DOWN;
+        if (Gdx.input.isKeyPressed(options.getKeyLeft())) directions |= LEFT;
+        if (Gdx.input.isKeyPressed(options.getKeyRight())) directions |= RIGHT;
+        return directions;
+    }
+}
@@ -1,15 +1,14 @@
 package io.github.dr4c0nix.survivorgame.entities.player;
 
 import io.github.dr4c0nix.survivorgame.entities.LivingEntity;
-import io.github.dr4c0nix.survivorgame.GameOptions;
 import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.graphics.Color; 
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import io.github.dr4c0nix.survivorgame.screens.Gameplay;
+import io.github.dr4c0nix.survivorgame.Sprites;
+import io.github.dr4c0nix.survivorgame.WorldContext;
 import io.github.dr4c0nix.survivorgame.weapon.Weapon;
 
 /**
@@ -26,8 +25,9 @@ public class Player extends LivingEntity {
     protected float difficulter;
     protected String description;
     protected Weapon currentWeapon;
-    protected Gameplay gameplay;
+    protected WorldContext gameplay;
     protected int mobKilled;
+    private PlayerInput input = KeyboardInput.INSTANCE;
 
     private TextureRegion[] staticFrames;
     private TextureRegion[] downFrames;
@@ -35,6 +35,8 @@ public class Player extends LivingEntity {
     private TextureRegion[] rightFrames;
     private TextureRegion[] leftFrames;
     private float animationTimer = 0f;
+    // movementSpeed est exprimée en pixels par tick à 60 Hz : le déplacement est mis à l'échelle du delta
+    private static final float REFERENCE_FPS = 60f;
     private static final float staticFrameDuration = 0.5f;
     private static final float walkFrameDuration = 0.3f;
     private Direction currentDirection = Direction.down;
@@ -45,6 +47,9 @@ public class Player extends LivingEntity {
     private static final float REGEN_INTERVAL = 10f; // seconds
     private enum Direction {up, down, left, right}
     private static final float feetHeight = 10f;
+    // objets de travail réutilisés chaque frame (évite les allocations dans la boucle de jeu)
+    private final Rectangle feetProbe = new Rectangle();
+    private final Vector2 facingDirection = new Vector2();
 
     /**
      * Constructeur du Player.
@@ -70,89 +75,87 @@ public class Player extends LivingEntity {
         // On vérifie si le contexte graphique existe avant de charger les textures.
         // Cela empêche le crash dans les tests unitaires.
         if (Gdx.graphics != null) {
-            Texture static1 = new Texture(Gdx.files.internal("Entity/Player/static1.png"));
-            Texture static2 = new Texture(Gdx.files.internal("Entity/Player/static2.png"));
-            Texture dwalk1 = new Texture(Gdx.files.internal("Entity/Player/dwalk1.png"));
-            Texture dwalk2 = new Texture(Gdx.files.internal("Entity/Player/dwalk2.png"));
-            Texture uwalk1 = new Texture(Gdx.files.internal("Entity/Player/uwalk1.png"));
-            Texture uwalk2 = new Texture(Gdx.files.internal("Entity/Player/uwalk2.png"));
-            Texture rwalk1 = new Texture(Gdx.files.internal("Entity/Player/rwalk1.png"));
-            Texture rwalk2 = new Texture(Gdx.files.internal("Entity/Player/rwalk2.png"));
-            Texture lwalk1 = new Texture(Gdx.files.internal("Entity/Player/lwalk1.png"));
-            Texture lwalk2 = new Texture(Gdx.files.internal("Entity/Player/lwalk2.png"));
-            
-            staticFrames = new TextureRegion[] {
-                new TextureRegion(static1),
-                new TextureRegion(static2)
-            };
-            downFrames = new TextureRegion[] {
-                new TextureRegion(dwalk1),
-                new TextureRegion(dwalk2)
-            };
-            upFrames = new TextureRegion[] {
-                new TextureRegion(uwalk1),
-                new TextureRegion(uwalk2)
-            };
-            rightFrames = new TextureRegion[] {
-                new TextureRegion(rwalk1),
-                new TextureRegion(rwalk2)
-            };
-            leftFrames = new TextureRegion[] {
-                new TextureRegion(lwalk1),
-                new TextureRegion(lwalk2)
-            };
+            staticFrames = loadFrames("static");
+            downFrames = loadFrames("dwalk");
+            upFrames = loadFrames("uwalk");
+            rightFrames = loadFrames("rwalk");
+            leftFrames = loadFrames("lwalk");
 
             currentFrame = staticFrames[0];
         }
     }
 
+    /**
+     * Charge les deux frames d'une animation du joueur depuis l'atlas.
+     *
+     * @param prefix préfixe des fichiers (ex. "dwalk" pour dwalk1.png et dwalk2.png)
+     * @return frames partagées de l'animation
+     */
+    private static TextureRegion[] loadFrames(String prefix) {
+        return new TextureRegion[] {
+            Sprites.get("Entity/Player/" + prefix + "1.png"),
+            Sprites.get("Entity/Player/" + prefix + "2.png")
+        };
+    }
+
     /**
      * Teste si le joueur peut se déplacer d'un pas (dx,dy) en vérifiant uniquement la zone des pieds.
      *
-     * @param dx déplacement normalisé sur X (-1,0,1)
-     * @param dy déplacement normalisé sur Y (-1,0,1)
+     * @param dx déplacement sur X (direction -1,0,1 multipliée par l'échelle du tick)
+     * @param dy déplacement sur Y (direction -1,0,1 multipliée par l'échelle du tick)
      * @return true si la case pieds n'est pas en collision
      */
     private boolean canMoveTo(float dx, float dy) {
         if (gameplay == null) return true;
         float newX = this.position.x + dx * this.movementSpeed;
         float newY = this.position.y + dy * this.movementSpeed;
-        Rectangle feet = new Rectangle(newX, newY, this.hitbox.width, feetHeight);
-        return !gameplay.isColliding(feet);
+        feetProbe.set(newX, newY, this.hitbox.width, feetHeight);
+        return !gameplay.isColliding(feetProbe);
     }
 
     /**
-     * Lit l'entrée clavier et déplace le joueur (Z/S/Q/D ou les touches configurées).
+     * Lit les commandes (clavier par défaut : Z/S/Q/D ou les touches configurées) et déplace le joueur.
      * Met à jour la direction courante et le flag isMoving.
+     * Équivaut à un tick de 1/60 s.
      */
     public void handleInput() {
-        GameOptions options = GameOptions.getInstance();
+        handleInput(1f / REFERENCE_FPS);
+    }
+
+    /**
+     * Lit les commandes et déplace le joueur pour un tick de durée donnée.
+     *
+     * @param delta durée du tick (secondes)
+     */
+    public void handleInput(float delta) {
+        int directions = input != null ? input.pollDirections(this) : 0;
+        float scale = delta * REFERENCE_FPS;
         isMoving = false;
         
-        if (Gdx.input.isKeyPressed(options.getKeyUp())) {
-            if (canMoveTo(0, 1)) {
-                moveBy(0, 1);
+        if ((directions & PlayerInput.UP) != 0) {
+            if (canMoveTo(0, scale)) {
+                moveBy(0, scale);
             }
             currentDirection = Direction.up;
             isMoving = true;
         }
-        if (Gdx.input.isKeyPressed(options.getKeyDown())) {
-            if (canMoveTo(0, -1)) {
-                moveBy(0, -1);
+        if ((directions & PlayerInput.DOWN) != 0) {
+            if (canMoveTo(0, -scale)) {
+                moveBy(0, -scale);
             }
             currentDirection = Direction.down;
             isMoving = true;
         }
-        if (Gdx.input.isKeyPressed(options.getKeyLeft())) {
-            if (canMoveTo(-1, 0)) {
-                moveBy(-1, 0);
+        if ((directions & PlayerInput.LEFT) != 0) {
+            if (canMoveTo(-scale, 0)) {
+                moveBy(-scale, 0);
             }
             currentDirection = Direction.left;
             isMoving = true;
         }
-        if (Gdx.input.isKeyPressed(options.getKeyRight())) {
-            if (canMoveTo(1, 0)) {
-                moveBy(1, 0);
+        if ((directions & PlayerInput.RIGHT) != 0) {
+            if (canMoveTo(scale, 0)) {
+                moveBy(scale, 0);
             }
             currentDirection = Direction.right;
             isMoving = true;
@@ -168,10 +171,20 @@ public class Player extends LivingEntity {
      * Protège contre l'absence de textures (mode test).
      */
     public void animation() {
+        if (staticFrames == null) return;
+        animation(Gdx.graphics.getDeltaTime());
+    }
+
+    /**
+     * Avance l'animation du joueur d'un tick de durée donnée.
+     *
+     * @param delta durée du tick (secondes)
+     */
+    public void animation(float delta) {
         // Protection pour ne pas animer si les textures ne sont pas chargées (mode test)
         if (staticFrames == null) return;
 
-        animationTimer += Gdx.graphics.getDeltaTime();
+        animationTimer += delta;
 
         if (!isMoving) {
             int frameIndex = (int)(animationTimer / staticFrameDuration) % 2;
@@ -196,7 +209,7 @@ public class Player extends LivingEntity {
     }
 
     /**
-     * Demande l'affichage de l'écran de montée de niveau via Gameplay.
+     * Demande l'affichage de l'écran de montée de niveau via le monde.
      * Ne fait rien si gameplay est null.
      */
     public void levelUp(){
@@ -206,14 +219,28 @@ public class Player extends LivingEntity {
     }
 
     /**
-     * Définit la référence vers Gameplay (utilisé par l'écran pour lier le joueur).
+     * Définit la référence vers le monde (utilisé par GameWorld pour lier le joueur).
      *
-     * @param gameplay instance Gameplay à associer
+     * @param gameplay contexte du monde à associer
      */
-    public void setGameplay(Gameplay gameplay) {
+    public void setGameplay(WorldContext gameplay) {
         this.gameplay = gameplay;
     }
 
+    /**
+     * Remplace la source des commandes de déplacement (clavier par défaut).
+     *
+     * @param input nouvelle source (null : le joueur ne bouge plus)
+     */
+    public void setInput(PlayerInput input) {
+        this.input = input;
+    }
+
+    /** Source courante des commandes de déplacement. */
+    public PlayerInput getInput() {
+        return input;
+    }
+
     /**
      * Mise à jour par frame : input, animation, arme, régénération et immunité.
      *
@@ -221,8 +248,8 @@ public class Player extends LivingEntity {
      */
     @Override
     public void update(float delta) {
-        handleInput(); 
-        animation();  
+        handleInput(delta);
+        animation(delta);
 
         if (currentWeapon != null && attacksEnabled) {
             currentWeapon.update(delta, this);
@@ -254,7 +281,7 @@ public class Player extends LivingEntity {
         }
 
         if (currentFrame != null) {
-            batch.draw(currentFrame, position.x, position.y, hitbox.width, hitbox.height);
+            batch.draw(currentFrame, getRenderX(), getRenderY(), hitbox.width, hitbox.height);
         }
         
         batch.setColor(Color.WHITE);
@@ -296,7 +323,7 @@ public class Player extends LivingEntity {
 
     /**
      * Applique des dégâts au joueur (hérite de LivingEntity.takeDamage).
-     * Si le joueur meurt, notifie Gameplay via onGameOver().
+     * Si le joueur meurt, notifie le monde via onGameOver().
      *
      * @param amount montant de dégâts
      */
@@ -338,16 +365,27 @@ public class Player extends LivingEntity {
 
     /**
      * Retourne un vecteur directionnel pointant vers la direction courante.
+     * Le vecteur est partagé et réécrit à chaque appel : le copier pour le conserver.
      *
-     * @return vecteur normalisé de direction
+     * @return vecteur normalisé de direction (lecture seule)
      */
     public Vector2 getFacingDirection() {
+        return getFacingDirection(facingDirection);
+    }
+
+    /**
+     * Écrit la direction courante dans le vecteur fourni.
+     *
+     * @param out vecteur de sortie
+     * @return out, pour chaînage
+     */
+    public Vector2 getFacingDirection(Vector2 out) {
         switch (currentDirection) {
-            case up: return new Vector2(0f, 1f);
-            case down: return new Vector2(0f, -1f);
-            case left: return new Vector2(-1f, 0f);
-            case right: return new Vector2(1f, 0f);
-            default: return new Vector2(0f, -1f);
+            case up: return out.set(0f, 1f);
+            case left: return out.set(-1f, 0f);
+            case right: return out.set(1f, 0f);
+            case down:
+            default: return out.set(0f, -1f);
         }
     }
 
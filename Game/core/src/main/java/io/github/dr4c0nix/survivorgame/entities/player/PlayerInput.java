@@ -0,0 +1,22 @@
+package io.github.dr4c0nix.survivorgame.entities.player;
+
+/**
+ * Source des commandes de déplacement du joueur pour un tick.
+ *
+ * Le clavier ({@link KeyboardInput}) est la source par défaut ; un bot ou un rejeu
+ * peuvent la remplacer via {@link Player#setInput(PlayerInput)}.
+ */
+public interface PlayerInput {
+    int UP = 1;
+    int DOWN = 2;
+    int LEFT = 4;
+    int RIGHT = 8;
+
+    /**
+     * Directions demandées pour le tick courant.
+     *
+     * @param player joueur piloté
+     * @return combinaison de {@link #UP}, {@link #DOWN}, {@link #LEFT}, {@link #RIGHT} (0 = immobile)
+     */
+    int pollDirections(Player player);
+}
@@ -0,0 +1,86 @@
+package io.github.dr4c0nix.survivorgame.replay;
+
+import io.github.dr4c0nix.survivorgame.GameWorld;
+import io.github.dr4c0nix.survivorgame.screens.LevelUp;
+import io.github.dr4c0nix.survivorgame.screens.UpgradeOption;
+
+import java.util.List;
+
+/**
+ * Montées de niveau résolues sans overlay (rejeu, bot), au même moment qu'en partie réelle.
+ *
+ * En jeu, l'overlay tire ses options pendant le tick du level-up et le choix est appliqué
+ * avant le tick suivant. {@link #onLevelUp()} tire donc les options immédiatement (même flux,
+ * même ordre) et {@link #applyPending()} applique le choix entre deux ticks.
+ */
+public class AutoLevelUp {
+
+    /** Choisit l'option à appliquer. */
+    public interface Chooser {
+        /**
+         * @param options options proposées
+         * @param tick nombre de ticks simulés
+         * @return indice de l'option retenue (-1 : aucune)
+         */
+        int choose(List<UpgradeOption> options, int tick);
+    }
+
+    private final GameWorld world;
+    private final Chooser chooser;
+    private Replay recording;
+    private List<UpgradeOption> pending;
+
+    /**
+     * @param world monde simulé
+     * @param chooser stratégie de choix (enregistrement rejoué, bot...)
+     */
+    public AutoLevelUp(GameWorld world, Chooser chooser) {
+        this.world = world;
+        this.chooser = chooser;
+    }
+
+    /**
+     * Crée un résolveur qui rejoue les choix d'un enregistrement.
+     *
+     * @param world monde simulé
+     * @param replay enregistrement rejoué
+     * @return résolveur
+     */
+    public static AutoLevelUp replaying(GameWorld world, final Replay replay) {
+        return new AutoLevelUp(world, new Chooser() {
+            @Override
+            public int choose(List<UpgradeOption> options, int tick) {
+                return replay.getChoice(tick);
+            }
+        });
+    }
+
+    /** Tire les options du level-up (un second level-up dans le même tick remplace les premières, comme l'overlay). */
+    public void onLevelUp() {
+        pending = LevelUp.drawUpgrades(world.getPlayer(), world.getRandom().upgrades());
+    }
+
+    /** Applique le choix en attente ; à appeler après chaque tick. */
+    public void applyPending() {
+        if (pending == null) return;
+        List<UpgradeOption> options = pending;
+        pending = null;
+        int tick = world.getTickCount();
+        int index = chooser.choose(options, tick);
+        if (index < 0 || index >= options.size()) return;
+        LevelUp.applyUpgrade(world.getPlayer(), options.get(index), world.getEntityFactory());
+        if (recording != null) recording.addChoice(tick, index);
+    }
+
+    /** Indique si un level-up attend son choix. */
+    public boolean hasPending() {
+        return pending != null;
+    }
+
+    /**
+     * @param recording enregistrement qui reçoit les choix appliqués (null : aucun)
+     */
+    public void setRecording(Replay recording) {
+        this.recording = recording;
+    }
+}
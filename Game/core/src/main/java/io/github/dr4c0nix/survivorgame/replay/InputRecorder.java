@@ -0,0 +1,28 @@
+package io.github.dr4c0nix.survivorgame.replay;
+
+import io.github.dr4c0nix.survivorgame.entities.player.Player;
+import io.github.dr4c0nix.survivorgame.entities.player.PlayerInput;
+
+/**
+ * Source d'entrées qui enregistre les directions d'une autre source (clavier, bot) à chaque tick.
+ */
+public class InputRecorder implements PlayerInput {
+    private final PlayerInput source;
+    private final Replay replay;
+
+    /**
+     * @param source source réelle des directions
+     * @param replay enregistrement alimenté
+     */
+    public InputRecorder(PlayerInput source, Replay replay) {
+        this.source = source;
+        this.replay = replay;
+    }
+
+    @Override
+    public int pollDirections(Player player) {
+        int mask = source.pollDirections(player);
+        replay.addTick(mask);
+        return mask;
+    }
+}
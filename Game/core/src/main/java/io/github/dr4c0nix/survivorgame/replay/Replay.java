@@ -0,0 +1,208 @@
+package io.github.dr4c0nix.survivorgame.replay;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * Enregistrement d'une partie : graine, fréquence de simulation et entrées du joueur tick par tick.
+ *
+ * La simulation étant à pas fixe et son hasard entièrement dérivé de la graine, ces données
+ * suffisent à rejouer exactement la même partie (même charge de travail d'un build à l'autre).
+ * Le temps des frames n'est pas stocké : il ne change que le nombre de ticks par frame, pas leur contenu.
+ *
+ * Format binaire (big-endian) :
+ * en-tête (magic "SGRP", version, graine, fréquence, durée, nombre de ticks),
+ * directions en plages (masque sur un octet + longueur en varint),
+ * choix de level-up (tick en varint + indice de l'option sur un octet).
+ */
+public class Replay {
+    private static final int MAGIC = 0x53475250;
+    private static final int VERSION = 1;
+
+    private final long seed;
+    private final int tickRate;
+    private final float maxTime;
+
+    // un octet de directions par tick
+    private byte[] masks = new byte[4096];
+    private int tickCount;
+    private int[] choiceTicks = new int[16];
+    private byte[] choiceIndices = new byte[16];
+    private int choiceCount;
+
+    /**
+     * @param seed graine de la partie
+     * @param tickRate fréquence de simulation (Hz)
+     * @param maxTime durée de la partie (secondes)
+     */
+    public Replay(long seed, int tickRate, float maxTime) {
+        this.seed = seed;
+        this.tickRate = tickRate;
+        this.maxTime = maxTime;
+    }
+
+    /**
+     * Ajoute les directions du tick suivant.
+     *
+     * @param mask combinaison de directions ({@link io.github.dr4c0nix.survivorgame.entities.player.PlayerInput})
+     */
+    public void addTick(int mask) {
+        if (tickCount == masks.length) masks = Arrays.copyOf(masks, masks.length * 2);
+        masks[tickCount++] = (byte) mask;
+    }
+
+    /**
+     * Directions enregistrées pour un tick.
+     *
+     * @param tick indice du tick (0 = premier)
+     * @return masque de directions (0 au-delà de la fin de l'enregistrement)
+     */
+    public int getMask(int tick) {
+        if (tick < 0 || tick >= tickCount) return 0;
+        return masks[tick];
+    }
+
+    /**
+     * Enregistre un choix de level-up.
+     *
+     * @param tick nombre de ticks simulés quand le choix est appliqué
+     * @param index indice de l'option retenue parmi celles proposées
+     */
+    public void addChoice(int tick, int index) {
+        if (choiceCount == choiceTicks.length) {
+            choiceTicks = Arrays.copyOf(choiceTicks, choiceCount * 2);
+            choiceIndices = Arrays.copyOf(choiceIndices, choiceCount * 2);
+        }
+        choiceTicks[choiceCount] = tick;
+        choiceIndices[choiceCount] = (byte) index;
+        choiceCount++;
+    }
+
+    /**
+     * Choix de level-up appliqué après un tick donné.
+     *
+     * @param tick nombre de ticks simulés
+     * @return indice de l'option (-1 si aucun choix enregistré à ce tick)
+     */
+    public int getChoice(int tick) {
+        for (int i = 0; i < choiceCount; i++) {
+            if (choiceTicks[i] == tick) return choiceIndices[i];
+        }
+        return -1;
+    }
+
+    /**
+     * Écrit l'enregistrement (le flux n'est pas fermé).
+     *
+     * @param out flux de destination
+     * @throws IOException en cas d'erreur d'écriture
+     */
+    public void write(OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+        data.writeInt(MAGIC);
+        data.writeByte(VERSION);
+        data.writeLong(seed);
+        data.writeInt(tickRate);
+        data.writeFloat(maxTime);
+        data.writeInt(tickCount);
+
+        int i = 0;
+        while (i < tickCount) {
+            byte mask = masks[i];
+            int run = 1;
+            while (i + run < tickCount && masks[i + run] == mask) run++;
+            data.writeByte(mask);
+            writeVarInt(data, run);
+            i += run;
+        }
+
+        writeVarInt(data, choiceCount);
+        for (int c = 0; c < choiceCount; c++) {
+            writeVarInt(data, choiceTicks[c]);
+            data.writeByte(choiceIndices[c]);
+        }
+        data.flush();
+    }
+
+    /**
+     * Lit un enregistrement (le flux n'est pas fermé).
+     *
+     * @param in flux source
+     * @return enregistrement lu
+     * @throws IOException si le flux est illisible ou n'est pas un enregistrement de partie
+     */
+    public static Replay read(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(new BufferedInputStream(in));
+        if (data.readInt() != MAGIC) throw new IOException("Not a replay file");
+        int version = data.readUnsignedByte();
+        if (version != VERSION) throw new IOException("Unsupported replay version " + version);
+
+        Replay replay = new Replay(data.readLong(), data.readInt(), data.readFloat());
+        int ticks = data.readInt();
+        if (ticks < 0) throw new IOException("Corrupted replay");
+        replay.masks = new byte[Math.max(ticks, 16)];
+        while (replay.tickCount < ticks) {
+            byte mask = data.readByte();
+            int run = readVarInt(data);
+            if (run <= 0 || replay.tickCount + run > ticks) throw new IOException("Corrupted replay");
+            Arrays.fill(replay.masks, replay.tickCount, replay.tickCount + run, mask);
+            replay.tickCount += run;
+        }
+
+        int choices = readVarInt(data);
+        for (int c = 0; c < choices; c++) {
+            int tick = readVarInt(data);
+            replay.addChoice(tick, data.readUnsignedByte());
+        }
+        return replay;
+    }
+
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static int readVarInt(DataInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return value;
+        }
+        throw new IOException("Corrupted replay");
+    }
+
+    /** Graine de la partie enregistrée. */
+    public long getSeed() {
+        return seed;
+    }
+
+    /** Fréquence de simulation de la partie enregistrée (Hz). */
+    public int getTickRate() {
+        return tickRate;
+    }
+
+    /** Durée de la partie enregistrée (secondes). */
+    public float getMaxTime() {
+        return maxTime;
+    }
+
+    /** Nombre de ticks enregistrés. */
+    public int getTickCount() {
+        return tickCount;
+    }
+
+    /** Nombre de choix de level-up enregistrés. */
+    public int getChoiceCount() {
+        return choiceCount;
+    }
+}
@@ -0,0 +1,33 @@
+package io.github.dr4c0nix.survivorgame.replay;
+
+import io.github.dr4c0nix.survivorgame.entities.player.Player;
+import io.github.dr4c0nix.survivorgame.entities.player.PlayerInput;
+
+/**
+ * Source d'entrées qui rejoue les directions d'un enregistrement, un tick à la fois.
+ * Une fois l'enregistrement épuisé, le joueur reste immobile.
+ */
+public class ReplayInput implements PlayerInput {
+    private final Replay replay;
+    private int cursor;
+
+    /**
+     * @param replay enregistrement à rejouer
+     */
+    public ReplayInput(Replay replay) {
+        this.replay = replay;
+    }
+
+    @Override
+    public int pollDirections(Player player) {
+        return replay.getMask(cursor++);
+    }
+
+    /**
+     * Indique qu'un tick a été demandé au-delà de la fin de l'enregistrement
+     * (partie quittée en cours : la suite n'a jamais été jouée).
+     */
+    public boolean isExhausted() {
+        return cursor > replay.getTickCount();
+    }
+}
@@ -27,6 +27,7 @@ public class GameOverScreen implements Screen {
     private final int kills;
     private final int level;
     private final float timeSurvived;
+    private final long seed;
 
     private Stage stage;
     private SpriteBatch batch;
@@ -39,11 +40,12 @@ public class GameOverScreen implements Screen {
     private float scaleX = 1f;
     private float scaleY = 1f;
 
-    public GameOverScreen(Main main, int kills, int level, float timeSurvived) {
+    public GameOverScreen(Main main, int kills, int level, float timeSurvived, long seed) {
         this.main = main;
         this.kills = kills;
         this.level = level;
         this.timeSurvived = timeSurvived;
+        this.seed = seed;
 
         gameOverBg = new Texture(Gdx.files.internal("Background/gameoverbg.png"));
         updateScale();
@@ -103,7 +105,8 @@ public class GameOverScreen implements Screen {
         String timeString = Gameplay.formatTime(timeSurvived);
 
         Label stats = new Label(
-            "Kills : " + kills + "\nNiveau : " + level + "\nTemps survécu : " + timeString,
+            "Kills : " + kills + "\nNiveau : " + level + "\nTemps survécu : " + timeString
+                + "\nGraine : " + seed,
             new Label.LabelStyle(font, Color.WHITE)
         );
         stats.setAlignment(Align.center);
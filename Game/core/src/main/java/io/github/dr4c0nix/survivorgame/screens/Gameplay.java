@@ -4,6 +4,10 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.Input.Keys;
 import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.badlogic.gdx.math.Matrix4;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
@@ -12,8 +16,6 @@ import com.badlogic.gdx.InputProcessor;
 import com.badlogic.gdx.utils.viewport.StretchViewport;
 import com.badlogic.gdx.maps.tiled.TiledMap;
 import com.badlogic.gdx.maps.tiled.TmxMapLoader;
-import com.badlogic.gdx.maps.tiled.renderers.OrthogonalTiledMapRenderer;
-import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
 import com.badlogic.gdx.maps.MapLayer;
 import com.badlogic.gdx.maps.MapObject;
 import com.badlogic.gdx.maps.objects.RectangleMapObject;
@@ -22,45 +24,88 @@ import com.badlogic.gdx.maps.MapObjects;
 import com.badlogic.gdx.math.Vector2;
 import java.util.ArrayList;
 import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.BodyDef;
+import com.badlogic.gdx.physics.box2d.PolygonShape;
 import com.badlogic.gdx.physics.box2d.World;
 import box2dLight.RayHandler;
 import box2dLight.PointLight;
 
 import io.github.dr4c0nix.survivorgame.Main;
-import io.github.dr4c0nix.survivorgame.PathfindingMap;
+import io.github.dr4c0nix.survivorgame.CachedMapRenderer;
+import io.github.dr4c0nix.survivorgame.RenderQueue;
+import io.github.dr4c0nix.survivorgame.SpatialGrid;
+import io.github.dr4c0nix.survivorgame.GameWorld;
+import io.github.dr4c0nix.survivorgame.WorldContext;
 import io.github.dr4c0nix.survivorgame.Hud; 
+import io.github.dr4c0nix.survivorgame.effects.HitEffects;
+import io.github.dr4c0nix.survivorgame.entities.Entity;
 import io.github.dr4c0nix.survivorgame.entities.EntityFactory;
-import io.github.dr4c0nix.survivorgame.entities.OrbXp;
-import io.github.dr4c0nix.survivorgame.entities.SpawnManager;
+import io.github.dr4c0nix.survivorgame.entities.PoolSizing;
 import io.github.dr4c0nix.survivorgame.entities.enemy.ClassicEnemy;
+import io.github.dr4c0nix.survivorgame.entities.player.KeyboardInput;
 import io.github.dr4c0nix.survivorgame.entities.player.Player;
-import io.github.dr4c0nix.survivorgame.weapon.WoodStick;
+import io.github.dr4c0nix.survivorgame.replay.AutoLevelUp;
+import io.github.dr4c0nix.survivorgame.replay.InputRecorder;
+import io.github.dr4c0nix.survivorgame.replay.Replay;
+import io.github.dr4c0nix.survivorgame.replay.ReplayInput;
 import io.github.dr4c0nix.survivorgame.GameOptions;
+import io.github.dr4c0nix.survivorgame.DynamicResolution;
+import io.github.dr4c0nix.survivorgame.LightingQuality;
+import io.github.dr4c0nix.survivorgame.OccluderBuilder;
+import io.github.dr4c0nix.survivorgame.FixedTimestep;
 import com.badlogic.gdx.audio.Music;
+import com.badlogic.gdx.files.FileHandle;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import io.github.dr4c0nix.survivorgame.entities.Projectile;
 
-public class Gameplay implements Screen {
+/**
+ * Écran de jeu : présentation d'un {@link GameWorld}.
+ *
+ * La simulation vit dans le monde (aucun appel graphique) ; l'écran gère la caméra, la carte,
+ * l'éclairage, la musique, le HUD et les overlays, et réagit aux événements du monde.
+ */
+public class Gameplay implements Screen, WorldContext, GameWorld.Listener {
     Main main;
     private OrthographicCamera camera;
     private StretchViewport viewport;
     private SpriteBatch batch;
-    private Player player;
     private Hud hud;
     private boolean isPaused = false;
     private BitmapFont font;
     private LevelUp levelUpOverlay;
     private InputProcessor previousInputProcessor;
     private TiledMap map;
-    private OrthogonalTiledMapRenderer mapRenderer;
-    private Vector2 spawnPoint;
+    private CachedMapRenderer mapRenderer;
     
-    private EntityFactory entityFactory;
-    private SpawnManager spawnManager;
-
-    private ArrayList<Rectangle> collisionRectangles;
-    private Rectangle triggerRect;
-    private boolean wasInTrigger = false;
+    private GameWorld world;
+    private HitEffects hitEffects;
+    private FixedTimestep fixedTimestep;
+    // à partir de cette échelle de temps, la passe d'éclairage est sautée (la simulation passe avant l'image)
+    private static final float FAST_FORWARD_SCALE = 4f;
+    // enregistrement en cours (--record) ou choix de level-up rejoués (--replay), null sinon
+    private Replay recording;
+    private AutoLevelUp replayLevelUps;
+
+    // calques de tuiles figés au chargement : fond (sous les entités) puis premier plan
+    private static final String[] BACKGROUND_LAYERS = {"base", "props5", "props2", "props6"};
+    private static final String[] FOREGROUND_LAYERS = {"props", "props3", "props4", "torch"};
+    private static final int BACKGROUND = 0;
+    private static final int FOREGROUND = 1;
     private float targetZoom = 0.5f;
+    // marge autour de la vue pour les sprites qui dépassent leur hitbox (projectiles tournés)
+    private static final float CULL_MARGIN = 32f;
+    // entités visibles de la frame (liste réutilisée) et compteurs du culling
+    private final ArrayList<Entity> visibleEntities = new ArrayList<Entity>();
+    private int drawnEntities = 0;
+    private int culledEntities = 0;
+    // ordre de dessin des entités : couches de la file de rendu
+    private static final int LAYER_GROUND = 0;
+    private static final int LAYER_ACTORS = 1;
+    private static final int LAYER_PROJECTILES = 2;
+    private final RenderQueue renderQueue = new RenderQueue();
     private World lightWorld;
     private RayHandler rayHandler;
     private PointLight playerLight;
@@ -69,37 +114,33 @@ public class Gameplay implements Screen {
     private static final float minLightRadius = 60f;
     private static final float maxLightRadius = 180f;
     private ArrayList<PointLight> torchLights;
-    private Rectangle lightTogglerRect;
-    private boolean wasInLightToggler = false;
-    private boolean lightsEnabled = true;
-    private Rectangle comingFromR1;
-    private Rectangle comingFromR2;
-    private boolean ccomingFromR1 = true;
-    private boolean ccomingFromR2 = false;
     private float targetAmbient = 0.6f;
     private float currentAmbient = 0.6f;
-
-    private PathfindingMap pathfindingMap;
-    private float elapsedTime = 0f;
-    private static final int TILE_SIZE = 32;
+    private static final float AMBIENT_EPSILON = 0.001f;
+    private LightingQuality lightingQuality = LightingQuality.HIGH;
+    // rendu du monde à résolution réduite (voir GameOptions#getRenderScale)
+    private static final float TARGET_FRAME_TIME = 1f / 60f;
+    private final DynamicResolution resolution = new DynamicResolution(TARGET_FRAME_TIME);
+    private FrameBuffer worldBuffer;
+    private final Matrix4 screenProjection = new Matrix4();
+    // dernière image de jeu, réaffichée telle quelle tant que la partie est en pause
+    private FrameBuffer freezeFrame;
+    private boolean freezeFrameValid = false;
+    // distance entre une torche et le mur sur lequel elle est posée
+    private static final float TORCH_WALL_MARGIN = 2f;
+    private final Vector2 tmpCenter = new Vector2();
+    private int occluderSourceCount = 0;
+    private int occluderShapeCount = 0;
 
     private Music theme1Music;
     private Music theme2Music;
-    private float maxTime;
 
     public Gameplay() {
         this.main = (Main) Gdx.app.getApplicationListener();
         initCameras();
         initGraphics();
 
-        this.entityFactory = new EntityFactory(this);
-        initPlayer();
-        
-        this.spawnManager = new SpawnManager(this, entityFactory, map);
-        this.spawnManager.unlockSpawning();
-
-        GameOptions options = GameOptions.getInstance();
-        maxTime = options.getGameDuration() * 60f;
+        initWorld();
 
         theme1Music = Gdx.audio.newMusic(Gdx.files.internal("Song/theme 1.wav"));
         theme2Music = Gdx.audio.newMusic(Gdx.files.internal("Song/theme 2.wav"));
@@ -124,12 +165,90 @@ public class Gameplay implements Screen {
         });
     }
 
+    /**
+     * Crée le monde : partie normale, partie enregistrée (--record) ou rejeu d'un enregistrement (--replay).
+     * Un rejeu reprend la graine, la durée et la fréquence de simulation de l'enregistrement.
+     */
+    private void initWorld() {
+        GameOptions options = GameOptions.getInstance();
+        Replay replay = loadReplay(main != null ? main.getReplayPath() : null);
+        if (replay != null) {
+            this.world = new GameWorld(map, replay.getMaxTime(), PoolSizing.load(), replay.getSeed());
+            this.fixedTimestep = new FixedTimestep(replay.getTickRate());
+            world.getPlayer().setInput(new ReplayInput(replay));
+            replayLevelUps = AutoLevelUp.replaying(world, replay);
+        } else {
+            float maxTime = options.getGameDuration() * 60f;
+            this.world = new GameWorld(map, maxTime, PoolSizing.load());
+            this.fixedTimestep = new FixedTimestep(options.getTickRate());
+            if (main != null && main.getRecordPath() != null) {
+                recording = new Replay(world.getSeed(), options.getTickRate(), maxTime);
+                world.getPlayer().setInput(new InputRecorder(KeyboardInput.INSTANCE, recording));
+            }
+        }
+        if (main != null) fixedTimestep.setTimeScale(main.getTimeScale());
+        this.world.setListener(this);
+        hud.setPlayer(world.getPlayer());
+    }
+
+    /** Charge l'enregistrement à rejouer (null si aucun ou illisible : partie normale). */
+    private Replay loadReplay(String path) {
+        if (path == null) return null;
+        FileHandle file = Gdx.files.local(path);
+        if (!file.exists()) {
+            if (Gdx.app != null) Gdx.app.error("Gameplay", "Replay not found: " + path);
+            return null;
+        }
+        InputStream in = file.read();
+        try {
+            return Replay.read(in);
+        } catch (IOException e) {
+            if (Gdx.app != null) Gdx.app.error("Gameplay", "Cannot read replay " + path, e);
+            return null;
+        } finally {
+            try {
+                in.close();
+            } catch (IOException ignored) {
+            }
+        }
+    }
+
+    /** Écrit l'enregistrement en cours (une seule fois, et seulement si la partie a commencé). */
+    private void saveRecording() {
+        if (recording == null) return;
+        Replay done = recording;
+        recording = null;
+        if (done.getTickCount() == 0) return;
+        OutputStream out = Gdx.files.local(main.getRecordPath()).write(false);
+        try {
+            done.write(out);
+            if (Gdx.app != null) Gdx.app.log("Gameplay", "Replay saved: " + main.getRecordPath() + " (" + done.getTickCount() + " ticks)");
+        } catch (IOException e) {
+            if (Gdx.app != null) Gdx.app.error("Gameplay", "Cannot save replay", e);
+        } finally {
+            try {
+                out.close();
+            } catch (IOException ignored) {
+            }
+        }
+    }
+
+    /**
+     * Appelé par l'overlay de level-up quand une option est choisie (enregistrée avec le tick courant).
+     *
+     * @param index indice de l'option parmi celles proposées
+     */
+    public void onUpgradeChosen(int index) {
+        if (recording != null && index >= 0) recording.addChoice(world.getTickCount(), index);
+    }
+
     public boolean getIsPaused() {
         return this.isPaused;
     }
 
     public void setIsPaused(boolean value) {
         this.isPaused = value;
+        if (!value) freezeFrameValid = false;
     }
 
     private void initCameras() {
@@ -147,132 +266,90 @@ public class Gameplay implements Screen {
         this.font = new BitmapFont();
         this.font.setColor(Color.WHITE);
         this.font.getData().setScale(2.0f);
+        this.hitEffects = new HitEffects();
+        this.hitEffects.setFont(font);
         this.map = new TmxMapLoader().load("Map/map.tmx");
-        this.mapRenderer = new OrthogonalTiledMapRenderer(map, 1f);
+        this.mapRenderer = new CachedMapRenderer(map, batch, BACKGROUND_LAYERS, FOREGROUND_LAYERS);
         
-        MapLayer spawnLayer = map.getLayers().get("spawn");
-        if (spawnLayer != null) {
-            MapObjects objects = spawnLayer.getObjects();
-            MapObject spawnObj = objects.get("spawnpoint");
-            if (spawnObj != null) {
-                float x = spawnObj.getProperties().get("x", Float.class);
-                float y = spawnObj.getProperties().get("y", Float.class);
-                this.spawnPoint = new Vector2(x, y);
-            } else {
-                this.spawnPoint = new Vector2(0, 0);
-            }
-        } else {
-            this.spawnPoint = new Vector2(0, 0);
-        }
-
-        MapLayer collisionsLayer = map.getLayers().get("collisions");
-        collisionRectangles = new ArrayList<>();
-        if (collisionsLayer != null) {
-            MapObjects objects = collisionsLayer.getObjects();
-            for (MapObject obj : objects) {
-                if (obj instanceof RectangleMapObject) {
-                    Rectangle r = ((RectangleMapObject) obj).getRectangle();
-                    collisionRectangles.add(new Rectangle(r));
-                }
-            }
-        }
-
-        if (map.getLayers().get(0) instanceof TiledMapTileLayer) {
-            TiledMapTileLayer layer = (TiledMapTileLayer) map.getLayers().get(0);
-            pathfindingMap = new PathfindingMap(layer.getWidth(), layer.getHeight());
-            
-            if (collisionRectangles != null) {
-                for (Rectangle rect : collisionRectangles) {
-                    int startX = (int) (rect.x / TILE_SIZE);
-                    int startY = (int) (rect.y / TILE_SIZE);
-                    int endX = (int) ((rect.x + rect.width) / TILE_SIZE);
-                    int endY = (int) ((rect.y + rect.height) / TILE_SIZE);
-                    
-                    for (int x = startX; x <= endX; x++) {
-                        for (int y = startY; y <= endY; y++) {
-                            pathfindingMap.setWall(x, y);
-                        }
-                    }
-                }
-            }
-        } else {
-            pathfindingMap = new PathfindingMap(100, 100);
-        }
-
-        MapLayer triggerLayer = map.getLayers().get("trigger");
-        if (triggerLayer != null) {
-            MapObjects objects = triggerLayer.getObjects();
-            MapObject triggerObj = objects.get("trigger");
-            if (triggerObj instanceof RectangleMapObject) {
-                triggerRect = ((RectangleMapObject) triggerObj).getRectangle();
-            }
-        }
-
         currentLightRadius = minLightRadius;
         targetLightRadius = minLightRadius;
 
         lightWorld = new World(new Vector2(0, 0), true);
         RayHandler.setGammaCorrection(true);
-        rayHandler = new RayHandler(lightWorld);
+        lightingQuality = GameOptions.getInstance().getLightingQuality();
+        resolution.configure(GameOptions.getInstance().getRenderScale());
+        int divisor = lightingQuality.getLightmapDivisor();
+        rayHandler = new RayHandler(lightWorld, Math.max(1, Gdx.graphics.getWidth() / divisor),
+            Math.max(1, Gdx.graphics.getHeight() / divisor));
+        rayHandler.setBlur(lightingQuality.getBlurPasses() > 0);
+        rayHandler.setBlurNum(Math.max(1, lightingQuality.getBlurPasses()));
         rayHandler.setAmbientLight(0.6f);
+        ArrayList<Rectangle> occluders = createOccluders();
         torchLights = new ArrayList<>();
         MapLayer lightsLayer = map.getLayers().get("lights");
         if (lightsLayer != null) {
             MapObjects lightObjects = lightsLayer.getObjects();
             for (MapObject obj : lightObjects) {
-                float x = obj.getProperties().get("x", Float.class);
-                float y = obj.getProperties().get("y", Float.class);
-                PointLight torch = new PointLight(rayHandler, 64, new Color(1f, 0.6f, 0.1f, 0.6f), 130f, x, y);
-                torch.setSoft(true);
+                Vector2 torchPosition = new Vector2(obj.getProperties().get("x", Float.class), obj.getProperties().get("y", Float.class));
+                // les torches sont posées sur les murs : on les place juste devant pour qu'elles éclairent la salle
+                boolean outside = OccluderBuilder.moveOutside(occluders, torchPosition, TORCH_WALL_MARGIN);
+                PointLight torch = new PointLight(rayHandler, lightingQuality.getRays(), new Color(1f, 0.6f, 0.1f, 0.6f), 130f, torchPosition.x, torchPosition.y);
+                torch.setSoft(lightingQuality.isSoft());
+                torch.setXray(!outside);
+                // torche fixe devant des murs fixes : maillage calculé une fois puis réutilisé
+                torch.setStaticLight(true);
                 torchLights.add(torch);
             }
         }
+    }
 
-        MapLayer togglerLayer = map.getLayers().get("lightstoggler");
-        if (togglerLayer != null) {
-            MapObjects togglerObjs = togglerLayer.getObjects();
-            for (MapObject obj : togglerObjs) {
-                if (obj instanceof RectangleMapObject && obj.getName().equals("lightstoggler")) {
-                    lightTogglerRect = ((RectangleMapObject) obj).getRectangle();
-                }
-                if (obj instanceof RectangleMapObject && obj.getName().equals("comingfromr1")) {
-                    comingFromR1 = ((RectangleMapObject) obj).getRectangle();
-                }
-                if (obj instanceof RectangleMapObject && obj.getName().equals("comingfromr2")) {
-                    comingFromR2 = ((RectangleMapObject) obj).getRectangle();
+    /**
+     * Enregistre les murs de la carte dans le monde de l'éclairage, pour que les lumières projettent
+     * des ombres : les rectangles du calque collisions sont fusionnés puis portés par un seul corps statique.
+     *
+     * @return rectangles fusionnés (coordonnées monde)
+     */
+    private ArrayList<Rectangle> createOccluders() {
+        ArrayList<Rectangle> walls = new ArrayList<Rectangle>();
+        MapLayer collisionsLayer = map.getLayers().get("collisions");
+        if (collisionsLayer != null) {
+            for (MapObject obj : collisionsLayer.getObjects()) {
+                if (obj instanceof RectangleMapObject) {
+                    walls.add(((RectangleMapObject) obj).getRectangle());
                 }
             }
         }
-    }
+        ArrayList<Rectangle> occluders = OccluderBuilder.merge(walls);
+        // des rectangles déjà grands qui se chevauchent peuvent se découper en plus de morceaux
+        if (occluders.size() >= walls.size()) occluders = walls;
+        occluderSourceCount = walls.size();
+        occluderShapeCount = occluders.size();
+        if (occluders.isEmpty()) return occluders;
 
-    public boolean isColliding(Rectangle rect) {
-        if (collisionRectangles == null || collisionRectangles.isEmpty()) {
-            return false;
+        BodyDef bodyDef = new BodyDef();
+        bodyDef.type = BodyDef.BodyType.StaticBody;
+        Body body = lightWorld.createBody(bodyDef);
+        PolygonShape shape = new PolygonShape();
+        for (int i = 0; i < occluders.size(); i++) {
+            Rectangle r = occluders.get(i);
+            shape.setAsBox(r.width * 0.5f, r.height * 0.5f, r.getCenter(tmpCenter), 0f);
+            body.createFixture(shape, 0f);
         }
-        for (Rectangle r : collisionRectangles) {
-            if (rect.overlaps(r)) {
-                return true;
-            }
+        shape.dispose();
+        if (Gdx.app != null) {
+            Gdx.app.log("Gameplay", "Occulteurs : " + occluderSourceCount + " rectangles -> " + occluderShapeCount + " formes");
         }
-        return false;
+        return occluders;
     }
 
-    private void initPlayer() {
-        this.player = new Player(spawnPoint);
-        player.setGameplay(this);
-        
-        if (this.entityFactory != null) {
-            player.setWeapon(new WoodStick(this.entityFactory));
-        }
-
-        if (hud != null) {
-            hud.setPlayer(player);
-        }
+    /** Nombre de rectangles du calque collisions avant fusion. */
+    public int getOccluderSourceCount() {
+        return occluderSourceCount;
+    }
 
-        // if (rayHandler != null && playerLight == null) {
-        //     playerLight = new PointLight(rayHandler, 128, null, currentLightRadius, player.getPosition().x + player.getHitbox().width / 2f, player.getPosition().y + player.getHitbox().height / 2f);
-        //     playerLight.setSoft(true);
-        // }
+    /** Nombre de formes enregistrées dans le monde de l'éclairage après fusion. */
+    public int getOccluderShapeCount() {
+        return occluderShapeCount;
     }
 
     @Override
@@ -288,237 +365,274 @@ public class Gameplay implements Screen {
     @Override
     public void render(float delta) {
         if (isPaused) {
-            drawScene();
-            hud.render(delta);
+            // simulation figée : la dernière image est capturée une fois puis réaffichée sous l'overlay
+            if (freezeFrameValid || captureFreezeFrame()) {
+                clearScreen();
+                drawFullScreen(freezeFrame);
+            } else {
+                drawScene();
+                hud.render(delta);
+            }
             drawOverlayIfActive(delta);
             return;
         }
+        freezeFrameValid = false;
 
-        elapsedTime += delta;
-
-        if (elapsedTime >= maxTime) { 
-            onVictory();
-        return;
+        // Simulation à pas fixe : 0..n ticks selon le temps accumulé (multiplié par l'échelle de temps)
+        int ticks = fixedTimestep.advance(delta);
+        float step = fixedTimestep.getStep();
+        for (int t = 0; t < ticks; t++) {
+            // partie terminée pendant le tick : l'écran de fin a déjà été affiché
+            if (!world.tick(step)) return;
+            if (replayLevelUps != null) replayLevelUps.applyPending();
+            hitEffects.update(step);
+            // un level-up pendant le tick met la simulation en pause : les ticks restants sont abandonnés
+            if (isPaused) break;
         }
 
-        updateDifficulty(delta);
-        spawnManager.update(delta, player);
-
-        if (pathfindingMap != null && player != null) {
-            int px = (int) (player.getPosition().x / TILE_SIZE);
-            int py = (int) (player.getPosition().y / TILE_SIZE);
-            pathfindingMap.calculateFlow(px, py);
-        }
+        world.interpolate(fixedTimestep.getAlpha());
+        updateLighting();
 
         clearScreen();
         updateCamera();
         viewport.apply();
-        mapRenderer.setView(camera);
-        
-        int[] backgroundLayers = {
-            map.getLayers().getIndex("base"),
-            map.getLayers().getIndex("props5"),
-            map.getLayers().getIndex("props2"),
-            map.getLayers().getIndex("props6")
-        };
-        mapRenderer.render(backgroundLayers);
-        
-        player.update(delta);
-        entityFactory.updateProjectiles(delta);
-
-        ArrayList<Projectile> projectilesToRemove = new ArrayList<>();
-        for (Projectile proj : entityFactory.getActiveProjectiles()) {
-            if (isColliding(proj.getHitbox())) {
-                projectilesToRemove.add(proj);
-                continue;
-            }
-            
-            for (ClassicEnemy enemy : entityFactory.getActiveEnemies()) {
-                if (proj.getHitbox().overlaps(enemy.getHitbox())) {
-                    float baseDamage = proj.getDamage();
-                    float finalDamage = baseDamage;
-                    io.github.dr4c0nix.survivorgame.entities.LivingEntity src = proj.getSource();
-                    if (src instanceof Player) {
-                        Player p = (Player) src;
-                        if (MathUtils.random(0f, 100f) <= p.getCritChance()) {
-                            finalDamage = baseDamage * p.getCritDamage();
-                        }
-                    }
-                    enemy.takeDamage(finalDamage);
-                    projectilesToRemove.add(proj);
-                    break;
-                }
-            }
+        // monde rendu à une fraction de la résolution puis agrandi ; le HUD reste en résolution native
+        float scale = resolution.update(delta);
+        if (scale < 1f && beginWorldBuffer(scale)) {
+            clearScreen();
+            renderWorld();
+            worldBuffer.end();
+            drawFullScreen(worldBuffer);
+        } else {
+            if (rayHandler != null) rayHandler.useDefaultViewport();
+            renderWorld();
         }
         
-        for (Projectile p : projectilesToRemove) {
-            entityFactory.releaseProjectile(p);
-        }
+        hud.render(delta);
 
-        ArrayList<ClassicEnemy> enemiesToRemove = new ArrayList<>();
+        drawOverlayIfActive(delta);
+        handleGlobalInput();
+    }
 
-        for (ClassicEnemy enemy : entityFactory.getActiveEnemies()) {
-            enemy.update(delta);
+    /** Dessine le monde : tuiles de fond, entités, tuiles de premier plan puis éclairage. */
+    private void renderWorld() {
+        mapRenderer.setView(camera);
+        mapRenderer.render(BACKGROUND);
 
-            if (player.getHitbox().overlaps(enemy.getHitbox())) {
-                player.takeDamage(enemy.getForce());
-            }
+        drawScene();
 
-            if (!enemy.isAlive()) {
-                float halfOrb = enemy.getXpOrbSize() * 0.5f;
-                float orbX = enemy.getPosition().x + enemy.getHitbox().width * 0.5f - halfOrb;
-                float orbY = enemy.getPosition().y + enemy.getHitbox().height * 0.5f - halfOrb;
-                entityFactory.obtainOrbXp(new Vector2(orbX, orbY), enemy.getXpValue(), enemy.getXpOrbSize());
-                player.incrementMobKilled();
-                enemiesToRemove.add(enemy);
-            }
-        }
+        mapRenderer.render(FOREGROUND);
 
-        for (ClassicEnemy deadEnemy : enemiesToRemove) {
-            entityFactory.releaseEnemy(deadEnemy);
+        if (rayHandler != null && fixedTimestep.getTimeScale() < FAST_FORWARD_SCALE && !isFullyBright()) {
+            rayHandler.setCombinedMatrix(camera);
+            rayHandler.updateAndRender();
         }
+    }
 
-        handleTriggers();
-        handleLights();
-
-        ArrayList<OrbXp> orbsToRemove = new ArrayList<>();
-        for (OrbXp orb : entityFactory.getActiveOrbs()) {
-            orb.update(delta);
-            if(player.getHitbox().overlaps(orb.getHitbox())) {
-                player.addXp(orb.getXpValue());
-                orbsToRemove.add(orb);
+    /**
+     * Ouvre le framebuffer du monde à l'échelle donnée, en le recréant si sa taille a changé.
+     *
+     * @param scale fraction de la résolution native
+     * @return false si le framebuffer n'a pas pu être créé (rendu direct)
+     */
+    private boolean beginWorldBuffer(float scale) {
+        int width = Math.max(1, Math.round(Gdx.graphics.getBackBufferWidth() * scale));
+        int height = Math.max(1, Math.round(Gdx.graphics.getBackBufferHeight() * scale));
+        if (worldBuffer == null || worldBuffer.getWidth() != width || worldBuffer.getHeight() != height) {
+            if (worldBuffer != null) worldBuffer.dispose();
+            try {
+                worldBuffer = new FrameBuffer(Pixmap.Format.RGBA8888, width, height, false);
+                worldBuffer.getColorBufferTexture().setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
+            } catch (Exception e) {
+                worldBuffer = null;
+                if (Gdx.app != null) Gdx.app.error("Gameplay", "Framebuffer du monde indisponible", e);
+                return false;
             }
         }
-        for (OrbXp orb : orbsToRemove) {
-            entityFactory.releaseOrbXp(orb);
+        worldBuffer.begin();
+        if (rayHandler != null) rayHandler.useCustomViewport(0, 0, width, height);
+        return true;
+    }
+
+    /**
+     * Rend une dernière fois le monde et le HUD dans le framebuffer de l'image figée.
+     *
+     * @return false si le framebuffer n'a pas pu être créé (rendu direct)
+     */
+    private boolean captureFreezeFrame() {
+        int width = Math.max(1, Gdx.graphics.getBackBufferWidth());
+        int height = Math.max(1, Gdx.graphics.getBackBufferHeight());
+        if (freezeFrame == null || freezeFrame.getWidth() != width || freezeFrame.getHeight() != height) {
+            if (freezeFrame != null) freezeFrame.dispose();
+            try {
+                freezeFrame = new FrameBuffer(Pixmap.Format.RGBA8888, width, height, false);
+            } catch (Exception e) {
+                freezeFrame = null;
+                if (Gdx.app != null) Gdx.app.error("Gameplay", "Framebuffer de l'image figée indisponible", e);
+                return false;
+            }
         }
+        viewport.apply();
+        freezeFrame.begin();
+        clearScreen();
+        if (rayHandler != null) rayHandler.useCustomViewport(0, 0, width, height);
+        renderWorld();
+        hud.render(0f);
+        freezeFrame.end();
+        freezeFrameValid = true;
+        return true;
+    }
+
+    /** Étire un framebuffer (monde réduit ou image figée) sur tout l'écran. */
+    private void drawFullScreen(FrameBuffer buffer) {
+        int width = Gdx.graphics.getBackBufferWidth();
+        int height = Gdx.graphics.getBackBufferHeight();
+        Gdx.gl.glViewport(0, 0, width, height);
+        batch.setProjectionMatrix(screenProjection.setToOrtho2D(0, 0, width, height));
+        batch.setColor(Color.WHITE);
+        batch.disableBlending();
+        batch.begin();
+        batch.draw(buffer.getColorBufferTexture(), 0, 0, width, height,
+            0, 0, buffer.getWidth(), buffer.getHeight(), false, true);
+        batch.end();
+        batch.enableBlending();
+    }
 
-        drawScene();
-        
-        int[] foregroundLayers = {
-            map.getLayers().getIndex("props"),
-            map.getLayers().getIndex("props3"),
-            map.getLayers().getIndex("props4"),
-            map.getLayers().getIndex("torch")
-        };
-        mapRenderer.render(foregroundLayers);
-        
-        if (rayHandler != null) {
-            rayHandler.setCombinedMatrix(camera);
-            rayHandler.updateAndRender();
-        }
-        
-        hud.render(delta);
+    /** Indique si une image figée est disponible pour la pause en cours. */
+    public boolean hasFreezeFrame() {
+        return freezeFrameValid;
+    }
 
-        drawOverlayIfActive(delta);
-        handleGlobalInput();
+    /** Échelle de rendu du monde de la dernière frame (1 = résolution native). */
+    public float getRenderScale() {
+        return resolution.getScale();
     }
 
-    // public pour permettre le test unitaire
-    public void updateDifficulty(float delta) {
-        float timeFactor = 1.0f + (elapsedTime / 60f) * 0.1f;
-        float playerFactor = player.getDifficulter() ;
-        float totalDifficulty = timeFactor * playerFactor;
-        float baseSpawnInterval = 2.0f; 
-        float newInterval = baseSpawnInterval / totalDifficulty;
-        if (newInterval < 0.1f) newInterval = 0.1f;
-        spawnManager.setSpawnInterval(newInterval);
-    }
-
-    private void handleTriggers() {
-        if (triggerRect != null) {
-            Rectangle head = new Rectangle(player.getPosition().x, player.getPosition().y + player.getHitbox().height - 2f, player.getHitbox().width, 2f);
-            boolean isInTrigger = head.overlaps(triggerRect);
-            if (isInTrigger) wasInTrigger = true;
-            if (wasInTrigger && !isInTrigger) {
-                targetZoom = 1.0f;
-                targetLightRadius = maxLightRadius;
-                collisionRectangles.add(triggerRect);
-                
-                if (pathfindingMap != null) {
-                    int startX = (int) (triggerRect.x / TILE_SIZE);
-                    int startY = (int) (triggerRect.y / TILE_SIZE);
-                    int endX = (int) ((triggerRect.x + triggerRect.width) / TILE_SIZE);
-                    int endY = (int) ((triggerRect.y + triggerRect.height) / TILE_SIZE);
-                    for (int x = startX; x <= endX; x++) {
-                        for (int y = startY; y <= endY; y++) {
-                            pathfindingMap.setWall(x, y);
-                        }
-                    }
-                }
+    /**
+     * Affiche le retour visuel d'un impact : étincelle au point d'impact (frame du projectile)
+     * et chiffre de dégâts au-dessus de l'ennemi. Rien n'est affiché si le coup n'a rien retiré (immunité).
+     */
+    @Override
+    public void onEnemyHit(Projectile proj, ClassicEnemy enemy, float damageDealt, boolean crit) {
+        if (hitEffects == null || damageDealt <= 0f) return;
+        Rectangle projBox = proj.getHitbox();
+        hitEffects.spawnSpark(projBox.x + projBox.width * 0.5f, projBox.y + projBox.height * 0.5f,
+            proj.getCurrentFrame(), proj.getRotationAngle(), crit);
+        Rectangle enemyBox = enemy.getHitbox();
+        hitEffects.spawnDamageNumber(enemyBox.x + enemyBox.width * 0.5f, enemyBox.y + enemyBox.height,
+            Math.round(damageDealt), crit);
+    }
 
-                triggerRect = null;
-                for (PointLight torch : torchLights) {
-                    torch.remove();
-                }
-                torchLights.clear();
-                wasInTrigger = false;
-                player.setAttacksEnabled(true);
-            }
+    @Override
+    public void onArenaSealed() {
+        targetZoom = 1.0f;
+        targetLightRadius = maxLightRadius;
+        for (int i = 0; i < torchLights.size(); i++) {
+            torchLights.get(i).remove();
         }
+        torchLights.clear();
     }
 
-    private void handleLights() {
-        if (lightTogglerRect != null) {
-            Rectangle feet = new Rectangle(player.getPosition().x, player.getPosition().y, player.getHitbox().width, 5f);
-            boolean isInLightToggler = feet.overlaps(lightTogglerRect);
-            if (isInLightToggler) wasInLightToggler = true;
-            if (!isInLightToggler && wasInLightToggler) {
-                if ((ccomingFromR1 && feet.overlaps(comingFromR2)) || (ccomingFromR2 && feet.overlaps(comingFromR1))) {
-                    lightsEnabled = !lightsEnabled;
-                    if (!lightsEnabled) {
-                        targetAmbient = 1.0f;
-                        targetLightRadius = 0f;
-                    } else {
-                        targetAmbient = 0.6f;
-                        targetLightRadius = maxLightRadius;
-                    }
-
-                    if (ccomingFromR1) {
-                        ccomingFromR1 = false;
-                        ccomingFromR2 = true;
-                    } else {
-                        ccomingFromR1 = true;
-                        ccomingFromR2 = false;
-                    }
-                }
-            wasInLightToggler = false;
-            }
+    @Override
+    public void onLightsToggled(boolean lightsEnabled) {
+        if (!lightsEnabled) {
+            targetAmbient = 1.0f;
+            targetLightRadius = 0f;
+        } else {
+            targetAmbient = 0.6f;
+            targetLightRadius = maxLightRadius;
         }
+    }
 
+    /** Rapproche progressivement la lumière ambiante de sa cible. */
+    private void updateLighting() {
         // if (playerLight != null) {
         //     playerLight.setPosition(player.getPosition().x + player.getHitbox().width / 2f, player.getPosition().y + player.getHitbox().height / 2f);
         //     currentLightRadius = MathUtils.lerp(currentLightRadius, targetLightRadius, 0.05f);
         //     playerLight.setDistance(currentLightRadius);
             currentAmbient = MathUtils.lerp(currentAmbient, targetAmbient, 0.05f);
-            rayHandler.setAmbientLight(currentAmbient);
+            // la cible est atteinte exactement : la passe peut être sautée une fois à 1.0
+            if (Math.abs(targetAmbient - currentAmbient) < AMBIENT_EPSILON) currentAmbient = targetAmbient;
+            if (rayHandler != null) rayHandler.setAmbientLight(currentAmbient);
         // }
     }
 
+    /**
+     * Lumière ambiante maximale : la lightmap n'assombrit plus rien et les torches n'ajoutent rien
+     * de visible, la passe d'éclairage est donc inutile.
+     *
+     * @return true si la passe d'éclairage peut être sautée
+     */
+    private boolean isFullyBright() {
+        return currentAmbient >= 1f;
+    }
+
     private void clearScreen() {
         Gdx.gl.glClearColor(0f, 0f, 0f, 1f);
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
     }
 
     private void updateCamera() {
+        Player player = world.getPlayer();
         camera.zoom = MathUtils.lerp(camera.zoom, targetZoom, 0.05f);
-        camera.position.set(player.getPosition().x + player.getHitbox().width * 0.5f, player.getPosition().y + player.getHitbox().height * 0.5f, 0);
+        camera.position.set(player.getRenderX() + player.getHitbox().width * 0.5f, player.getRenderY() + player.getHitbox().height * 0.5f, 0);
         camera.update();
     }
 
+    /**
+     * Dessine les entités visibles : seules les cases des grilles du monde qui touchent la vue
+     * de la caméra (élargie de {@link #CULL_MARGIN}) sont parcourues. Les entités passent par la
+     * file de rendu : orbes au sol, puis joueur et ennemis triés par profondeur, puis projectiles.
+     */
     private void drawScene() {
         batch.setProjectionMatrix(camera.combined);
         batch.begin();
-        player.draw(batch);
-        entityFactory.drawActiveProjectiles(batch);
-        entityFactory.drawActiveOrbs(batch);
-        
-        for (ClassicEnemy enemy : entityFactory.getActiveEnemies()) {
-            enemy.draw(batch);
-        }
-        
-        player.draw(batch);
+        Player player = world.getPlayer();
+        EntityFactory entityFactory = world.getEntityFactory();
+
+        float viewWidth = camera.viewportWidth * camera.zoom + 2f * CULL_MARGIN;
+        float viewHeight = camera.viewportHeight * camera.zoom + 2f * CULL_MARGIN;
+        float viewX = camera.position.x - viewWidth * 0.5f;
+        float viewY = camera.position.y - viewHeight * 0.5f;
+
+        renderQueue.clear();
+        submitVisible(world.getOrbGrid(), LAYER_GROUND, viewX, viewY, viewWidth, viewHeight);
+        submitVisible(world.getEnemyGrid(), LAYER_ACTORS, viewX, viewY, viewWidth, viewHeight);
+        submitVisible(world.getProjectileGrid(), LAYER_PROJECTILES, viewX, viewY, viewWidth, viewHeight);
+        int visible = renderQueue.size();
+        renderQueue.submit(player, LAYER_ACTORS);
+        renderQueue.sort();
+        renderQueue.draw(batch);
+        if (hitEffects != null) hitEffects.draw(batch);
         batch.end();
+
+        drawnEntities = renderQueue.size();
+        culledEntities = entityFactory.getActiveProjectiles().size() + entityFactory.getActiveOrbs().size()
+            + entityFactory.getActiveEnemies().size() - visible;
+    }
+
+    /** Ajoute à la file de rendu les entités d'une grille qui touchent la vue. */
+    private void submitVisible(SpatialGrid<? extends Entity> grid, int layer, float x, float y, float width, float height) {
+        visibleEntities.clear();
+        grid.query(x, y, width, height, visibleEntities);
+        for (int i = 0; i < visibleEntities.size(); i++) {
+            renderQueue.submit(visibleEntities.get(i), layer);
+        }
+    }
+
+    /** Nombre d'entités dessinées à la dernière frame (joueur compris). */
+    public int getDrawnEntities() {
+        return drawnEntities;
+    }
+
+    /** Nombre d'entités actives écartées à la dernière frame car hors de la vue. */
+    public int getCulledEntities() {
+        return culledEntities;
+    }
+
+    /** Changements de texture du SpriteBatch lors du dessin des entités de la dernière frame. */
+    public int getTextureSwitches() {
+        return renderQueue.getTextureSwitches();
     }
 
     private void drawOverlayIfActive(float delta) {
@@ -533,8 +647,40 @@ public class Gameplay implements Screen {
             main.setScreen(new PauseScreen(main, this));
             return;
         }
+        // touches de debug (non assignables dans les options) : ralentir / accélérer la simulation
+        if (Gdx.input.isKeyJustPressed(Keys.F7)) {
+            setTimeScale(fixedTimestep.getTimeScale() * 0.5f);
+        } else if (Gdx.input.isKeyJustPressed(Keys.F8)) {
+            setTimeScale(fixedTimestep.getTimeScale() * 2f);
+        }
+    }
+
+    /**
+     * Change l'échelle de temps de la simulation (ticks de durée fixe, plus ou moins nombreux par frame).
+     *
+     * @param timeScale facteur (0.25 à 16, 1 = temps réel)
+     */
+    public void setTimeScale(float timeScale) {
+        fixedTimestep.setTimeScale(timeScale);
+        if (Gdx.app != null) Gdx.app.log("Gameplay", "Time scale: x" + fixedTimestep.getTimeScale());
+    }
+
+    /** Échelle de temps courante de la simulation. */
+    public float getTimeScale() {
+        return fixedTimestep.getTimeScale();
+    }
+
+    @Override
+    public void onLevelUp() {
+        // en rejeu, le choix enregistré est appliqué après le tick, sans overlay
+        if (replayLevelUps != null) {
+            replayLevelUps.onLevelUp();
+            return;
+        }
+        showLevelUpScreen();
     }
 
+    @Override
     public void showLevelUpScreen() {
         isPaused = true;
         previousInputProcessor = Gdx.input.getInputProcessor();
@@ -545,8 +691,9 @@ public class Gameplay implements Screen {
         Gdx.input.setInputProcessor(levelUpOverlay.getStage());
     }
 
+    @Override
     public Player getPlayer() {
-        return player;
+        return world != null ? world.getPlayer() : null;
     }
 
     public void onLevelUpOverlayClosed() {
@@ -563,39 +710,63 @@ public class Gameplay implements Screen {
         isPaused = false;
     }
 
+    @Override
+    public boolean isColliding(Rectangle rect) {
+        return world.isColliding(rect);
+    }
+
+    @Override
     public Vector2 getDirection(int x, int y) {
-        if (pathfindingMap == null) return new Vector2(0, 0);
-        int gx = x / TILE_SIZE;
-        int gy = y / TILE_SIZE;
-        return pathfindingMap.getDirection(gx, gy);
+        return world.getDirection(x, y);
+    }
+
+    @Override
+    public int getFlowVersion() {
+        return world.getFlowVersion();
     }
 
+    @Override
     public ArrayList<ClassicEnemy> getActiveClassicEnemies() {
-        return entityFactory.getActiveEnemies();
+        return world.getActiveClassicEnemies();
     }
 
+    @Override
     public float getElapsedTime() {
-        return elapsedTime;
+        return world.getElapsedTime();
+    }
+
+    /** Monde simulé affiché par cet écran. */
+    public GameWorld getWorld() {
+        return world;
     }
 
     @Override
     public void resize(int width, int height) {
         if (width <= 0 || height <= 0) return;
         viewport.update(width, height, true);
+        freezeFrameValid = false;
         if (hud != null) {
             hud.resize(width, height);
         }
+        if (rayHandler != null) {
+            int divisor = lightingQuality.getLightmapDivisor();
+            rayHandler.resizeFBO(Math.max(1, width / divisor), Math.max(1, height / divisor));
+        }
     }
 
+    @Override
     public void onGameOver() {
         isPaused = true;
         if (theme1Music != null) theme1Music.stop();
         if (theme2Music != null) theme2Music.stop();
+        world.getEntityFactory().savePoolSizing();
+        saveRecording();
+        Player player = world.getPlayer();
         int level = player.getLevel();            
         int kills = player.getMobKilled();        
-        float time = elapsedTime;                 
+        float time = world.getElapsedTime();      
         Main main = (Main) Gdx.app.getApplicationListener();
-        main.setScreen(new GameOverScreen(main, kills, level, time));
+        main.setScreen(new GameOverScreen(main, kills, level, time, world.getSeed()));
     }
 
     public static String formatTime(float timeSeconds) {
@@ -604,14 +775,18 @@ public class Gameplay implements Screen {
         return String.format("%02d:%02d", minutes, seconds);
     }   
 
+    @Override
     public void onVictory() {
         if (theme1Music != null) theme1Music.stop();
         if (theme2Music != null) theme2Music.stop();
+        world.getEntityFactory().savePoolSizing();
+        saveRecording();
+        Player player = world.getPlayer();
         int level = player.getLevel();
         int kills = player.getMobKilled();
-        float time = this.elapsedTime;
+        float time = world.getElapsedTime();
         Main main = (Main) Gdx.app.getApplicationListener();
-        main.setScreen(new VictoryScreen(main, kills, level, time));
+        main.setScreen(new VictoryScreen(main, kills, level, time, world.getSeed()));
     }
 
 
@@ -629,15 +804,14 @@ public class Gameplay implements Screen {
 
     @Override
     public void dispose() {
+        // partie quittée en cours : l'enregistrement partiel reste rejouable
+        saveRecording();
         batch.dispose();
         if (hud != null) {
             hud.dispose();
         }
-        if (player != null) {
-            try {
-                player.dispose();
-            } catch (Exception ignored) {
-            }
+        if (world != null) {
+            world.dispose();
         }
         font.dispose();
         if (map != null) {
@@ -646,6 +820,14 @@ public class Gameplay implements Screen {
         if (mapRenderer != null) {
             mapRenderer.dispose();
         }
+        if (worldBuffer != null) {
+            worldBuffer.dispose();
+            worldBuffer = null;
+        }
+        if (freezeFrame != null) {
+            freezeFrame.dispose();
+            freezeFrame = null;
+        }
         if (rayHandler != null) {
             rayHandler.dispose();
             rayHandler = null;
@@ -679,7 +861,8 @@ public class Gameplay implements Screen {
         if (theme2Music != null) theme2Music.stop();
     }
 
+    @Override
     public EntityFactory getEntityFactory() {
-        return this.entityFactory;
+        return world != null ? world.getEntityFactory() : null;
     }
 }
\ No newline at end of file
@@ -18,6 +18,8 @@ import com.badlogic.gdx.utils.Align;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
+import io.github.dr4c0nix.survivorgame.GameWorld;
+import io.github.dr4c0nix.survivorgame.entities.EntityFactory;
 import io.github.dr4c0nix.survivorgame.entities.player.Player;
 import io.github.dr4c0nix.survivorgame.weapon.Dagger;
 import io.github.dr4c0nix.survivorgame.weapon.FireWand;
@@ -36,6 +38,10 @@ import io.github.dr4c0nix.survivorgame.weapon.Sword;
  * l'overlay, hide()/dispose() nettoient les ressources et remettent le jeu en route.
  */
 public class LevelUp {
+    public static final String DAGGER_CHOICE = "Dagger\nShort range, rapid attack";
+    public static final String SWORD_CHOICE = "Sword\nMost balanced";
+    public static final String FIREWAND_CHOICE = "FireWand\nHigh damage, long range, slow attack";
+
     private Stage stage;
     private BitmapFont font;
     private BitmapFont titleFont;
@@ -44,7 +50,8 @@ public class LevelUp {
     private Texture backgroundTexture;
     private final Gameplay gameplay;
     private List<UpgradeOption> upgradeTotal;
-    private final Random random;
+    // utilisé seulement sans monde (tests) : en partie, le flux des améliorations du monde est rejouable
+    private final Random fallbackRandom;
     
     private float scaleX = 1f;
     private float scaleY = 1f;
@@ -56,7 +63,7 @@ public class LevelUp {
      */
     public LevelUp(Gameplay gameplay) {
         this.gameplay = gameplay;
-        this.random = new Random();
+        this.fallbackRandom = new Random();
         updateScale();
     }
 
@@ -136,7 +143,7 @@ public class LevelUp {
      *
      * @return liste de toutes les UpgradeOption disponibles
      */
-    private List<UpgradeOption> allPossibleUpgrades() {
+    public static List<UpgradeOption> allPossibleUpgrades() {
         List<UpgradeOption> all = new ArrayList<>();
         all.add(new UpgradeOption("Weapon Level", 1, 1, UpgradeOption.StatType.INT));
         all.add(new UpgradeOption("Speed", 0.25f, 0.75f, UpgradeOption.StatType.FLOAT));
@@ -157,27 +164,39 @@ public class LevelUp {
      * on propose un choix d'armes (Dagger, Sword, FireWand) au lieu d'upgrades numériques.
      */
     private void generateRandomUpgrades() {
-        Player p = gameplay.getPlayer();
+        GameWorld world = gameplay.getWorld();
+        Random random = world != null ? world.getRandom().upgrades() : fallbackRandom;
+        upgradeTotal = drawUpgrades(gameplay.getPlayer(), random);
+    }
+
+    /**
+     * Tire les options proposées pour une montée de niveau, sans interface (utilisable hors écran).
+     *
+     * @param p joueur qui monte de niveau (peut être null)
+     * @param random générateur utilisé pour le tirage et les valeurs
+     * @return choix d'armes au niveau 2, sinon trois améliorations distinctes avec leur valeur tirée
+     */
+    public static List<UpgradeOption> drawUpgrades(Player p, Random random) {
+        List<UpgradeOption> options = new ArrayList<>();
         if (p != null && p.getLevel() == 2) {
-            upgradeTotal = new ArrayList<>();
-            upgradeTotal.add(new UpgradeOption("Dagger\nShort range, rapid attack", 0, 0, UpgradeOption.StatType.INT));
-            upgradeTotal.add(new UpgradeOption("Sword\nMost balanced", 0, 0, UpgradeOption.StatType.INT));
-            upgradeTotal.add(new UpgradeOption("FireWand\nHigh damage, long range, slow attack", 0, 0, UpgradeOption.StatType.INT));
-            return;
+            options.add(new UpgradeOption(DAGGER_CHOICE, 0, 0, UpgradeOption.StatType.INT));
+            options.add(new UpgradeOption(SWORD_CHOICE, 0, 0, UpgradeOption.StatType.INT));
+            options.add(new UpgradeOption(FIREWAND_CHOICE, 0, 0, UpgradeOption.StatType.INT));
+            return options;
         }
 
         List<UpgradeOption> all = allPossibleUpgrades();
-        upgradeTotal = new ArrayList<>();
         int choisi = 0;
         while (choisi < 3) {
             int index = random.nextInt(all.size());
-            if (upgradeTotal.contains(all.get(index))) {
+            if (options.contains(all.get(index))) {
                 continue;
             }
-            upgradeTotal.add(all.get(index));
-            upgradeTotal.get(choisi).generateRandomValue(random);
+            options.add(all.get(index));
+            options.get(choisi).generateRandomValue(random);
             choisi++;
         }
+        return options;
     }
 
     /**
@@ -222,6 +241,7 @@ public class LevelUp {
             box.addListener(new ClickListener() {
                 @Override
                 public void clicked(InputEvent event, float x, float y) {
+                    gameplay.onUpgradeChosen(upgradeTotal.indexOf(u));
                     applyUpgradeToPlayer(u);
                     hide();
                     gameplay.onLevelUpOverlayClosed();
@@ -259,21 +279,32 @@ public class LevelUp {
         Player p = gameplay.getPlayer();
         if (p == null) return;
 
+        applyUpgrade(p, u, gameplay.getEntityFactory());
+        gameplay.setIsPaused(false);
+    }
+
+    /**
+     * Applique une option au joueur, sans interface (utilisable hors écran).
+     *
+     * @param p joueur à améliorer
+     * @param u option choisie (voir {@link #drawUpgrades(Player, Random)})
+     * @param factory factory utilisée par une nouvelle arme
+     */
+    public static void applyUpgrade(Player p, UpgradeOption u, EntityFactory factory) {
         if (p.getLevel() == 2) {
             switch (u.getDisplayName()) {
-                case "Dagger\nShort range, rapid attack":
-                    p.setWeapon(new Dagger(gameplay.getEntityFactory()));
+                case DAGGER_CHOICE:
+                    p.setWeapon(new Dagger(factory));
                     break;
-                case "Sword\nMost balanced":
-                    p.setWeapon(new Sword(gameplay.getEntityFactory()));
+                case SWORD_CHOICE:
+                    p.setWeapon(new Sword(factory));
                     break;
-                case "FireWand\nHigh damage, long range, slow attack":
-                    p.setWeapon(new FireWand(gameplay.getEntityFactory()));
+                case FIREWAND_CHOICE:
+                    p.setWeapon(new FireWand(factory));
                     break;
                 default:
                     break;
             }
-            gameplay.setIsPaused(false);
             return;
         }
 
@@ -320,7 +351,6 @@ public class LevelUp {
 
             default: break;
         }
-        gameplay.setIsPaused(false);
     }
 
     /**
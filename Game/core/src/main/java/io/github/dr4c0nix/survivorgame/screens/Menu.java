@@ -1,5 +1,6 @@
 package io.github.dr4c0nix.survivorgame.screens;
 import io.github.dr4c0nix.survivorgame.GameOptions;
+import io.github.dr4c0nix.survivorgame.LightingQuality;
 import io.github.dr4c0nix.survivorgame.Main;
 
 import com.badlogic.gdx.Gdx;
@@ -235,6 +236,9 @@ public class Menu implements Screen {
         final TextButton audioBtn = createButtons("Audio Settings", table);
         table.add(audioBtn).width(300).height(80).pad(10).center();
         table.row();
+        final TextButton graphicsBtn = createButtons("Graphics Settings", table);
+        table.add(graphicsBtn).width(300).height(80).pad(10).center();
+        table.row();
         final TextButton backBtn = createButtons("Back", table);
         table.add(backBtn).width(300).height(80).pad(10).center();
         table.row();
@@ -273,6 +277,13 @@ public class Menu implements Screen {
             }
         });
 
+        graphicsBtn.addListener(new ClickListener() {
+            @Override
+            public void clicked(InputEvent event, float x, float y) {
+                showGraphicsMenu(table);
+            }
+        });
+
         backBtn.addListener(new ClickListener() {
             @Override
             public void clicked(InputEvent event, float x, float y) {
@@ -748,6 +759,114 @@ public class Menu implements Screen {
         });
     }
 
+    /**
+     * Sous-menu graphique : qualité de l'éclairage, échelle de rendu (slider + mode auto),
+     * fréquence de simulation, back.
+     * Les réglages s'appliquent à la prochaine partie.
+     */
+    private void showGraphicsMenu(final Table table) {
+        clearMenu();
+        table.clear();
+        table.setFillParent(true);
+        table.center();
+        ensureStyle();
+        ensureSliderStyle();
+
+        final GameOptions options = GameOptions.getInstance();
+
+        Label titleLabel = new Label("Graphics Settings", new Label.LabelStyle(font, Color.WHITE));
+        titleLabel.setFontScale(1.8f);
+        table.add(titleLabel).colspan(2).pad(20);
+        table.row();
+
+        final TextButton lightingBtn = createButtonInline("Lighting: " + options.getLightingQuality().name(), table);
+        table.row();
+
+        Label sliderLabel = new Label("Render Scale", new Label.LabelStyle(font, Color.WHITE));
+        sliderLabel.setFontScale(1.4f);
+        final Slider scaleSlider = new Slider(GameOptions.MIN_RENDER_SCALE, GameOptions.MAX_RENDER_SCALE, 5f, false, sliderStyle);
+        boolean auto = options.getRenderScale() == GameOptions.RENDER_SCALE_AUTO;
+        scaleSlider.setValue(auto ? GameOptions.MAX_RENDER_SCALE : options.getRenderScale());
+        final Label scaleValue = new Label(renderScaleText(options.getRenderScale()), new Label.LabelStyle(font, Color.WHITE));
+        scaleValue.setFontScale(1.2f);
+
+        table.add(sliderLabel).pad(10);
+        table.add(scaleSlider).width(350).padLeft(10).padRight(60).padTop(10).padBottom(10);
+        table.row();
+        table.add(scaleValue).colspan(2).padBottom(20);
+        table.row();
+
+        final TextButton autoBtn = createButtonInline("Auto Scale: " + (auto ? "ON" : "OFF"), table);
+        table.row();
+
+        Label tickLabel = new Label("Tick Rate", new Label.LabelStyle(font, Color.WHITE));
+        tickLabel.setFontScale(1.4f);
+        final Slider tickSlider = new Slider(GameOptions.MIN_TICK_RATE, GameOptions.MAX_TICK_RATE, 10f, false, sliderStyle);
+        tickSlider.setValue(options.getTickRate());
+        final Label tickValue = new Label(options.getTickRate() + " Hz", new Label.LabelStyle(font, Color.WHITE));
+        tickValue.setFontScale(1.2f);
+
+        table.add(tickLabel).pad(10);
+        table.add(tickSlider).width(350).padLeft(10).padRight(60).padTop(10).padBottom(10);
+        table.row();
+        table.add(tickValue).colspan(2).padBottom(20);
+        table.row();
+
+        final TextButton backBtn = createButtonInline("Back", table);
+
+        tickSlider.addListener(new ChangeListener() {
+            @Override
+            public void changed(ChangeEvent event, com.badlogic.gdx.scenes.scene2d.Actor actor) {
+                int value = (int) tickSlider.getValue();
+                options.setTickRate(value);
+                tickValue.setText(value + " Hz");
+            }
+        });
+
+        scaleSlider.addListener(new ChangeListener() {
+            @Override
+            public void changed(ChangeEvent event, com.badlogic.gdx.scenes.scene2d.Actor actor) {
+                int value = (int) scaleSlider.getValue();
+                options.setRenderScale(value);
+                scaleValue.setText(renderScaleText(value));
+                autoBtn.setText("Auto Scale: OFF");
+            }
+        });
+
+        autoBtn.addListener(new ClickListener() {
+            @Override
+            public void clicked(InputEvent event, float x, float y) {
+                boolean enable = options.getRenderScale() != GameOptions.RENDER_SCALE_AUTO;
+                int value = enable ? GameOptions.RENDER_SCALE_AUTO : (int) scaleSlider.getValue();
+                options.setRenderScale(value);
+                scaleValue.setText(renderScaleText(value));
+                autoBtn.setText("Auto Scale: " + (enable ? "ON" : "OFF"));
+            }
+        });
+
+        lightingBtn.addListener(new ClickListener() {
+            @Override
+            public void clicked(InputEvent event, float x, float y) {
+                LightingQuality[] levels = LightingQuality.values();
+                LightingQuality next = levels[(options.getLightingQuality().ordinal() + 1) % levels.length];
+                options.setLightingQuality(next);
+                lightingBtn.setText("Lighting: " + next.name());
+            }
+        });
+
+        backBtn.addListener(new ClickListener() {
+            @Override
+            public void clicked(InputEvent event, float x, float y) {
+                showOptions(table);
+            }
+        });
+    }
+
+    /** Libellé de l'échelle de rendu : pourcentage, ou "Auto" pour le mode automatique. */
+    private static String renderScaleText(int percent) {
+        return percent == GameOptions.RENDER_SCALE_AUTO ? "Auto" : percent + "%";
+    }
+
     /**
      * Sous-menu durée de partie : slider durée, reset, back.
      */
@@ -1,14 +1,13 @@
 package io.github.dr4c0nix.survivorgame.weapon;
 
-import com.badlogic.gdx.math.Vector2;
 import io.github.dr4c0nix.survivorgame.entities.EntityFactory;
+import io.github.dr4c0nix.survivorgame.entities.ProjectileType;
 import io.github.dr4c0nix.survivorgame.entities.player.Player;
 
 /**
  * FireWand : baguette lançant des projectiles de type boule de feu.
  */
 public class FireWand extends Weapon {
-
     /**
      * Constructeur initialisant les paramètres du FireWand.
      *
@@ -21,9 +20,9 @@ public class FireWand extends Weapon {
             250,
             150f,
             1.5f,
-            17f,
-            32f,
-            "Weapon/FireWand/firewand-effect.png",
+            ProjectileType.FIRE_WAND.getWidth(),
+            ProjectileType.FIRE_WAND.getHeight(),
+            ProjectileType.FIRE_WAND.getTexturePath(),
             "Lancez des boules de feu dévastatrices !",
             "Weapon/FireWand/FireWand.png");
     }
@@ -38,31 +37,7 @@ public class FireWand extends Weapon {
     public void update(float delta, Player player) {
         cooldownTick(delta);
         if (canShoot()) {
-            Vector2 playerCenter = new Vector2();
-            player.getHitbox().getCenter(playerCenter);
-
-            Vector2 facing = player.getFacingDirection();
-            if (facing.isZero()) {
-                facing = new Vector2(0, -1);
-            }
-
-            float offsetX = facing.x * (player.getHitbox().width * 0.5f);
-            float offsetY = facing.y * (player.getHitbox().height * 0.5f);
-            Vector2 spawnCenter = playerCenter.cpy().add(offsetX, offsetY);
-
-            entityFactory.obtainProjectile(
-                spawnCenter,
-                facing.cpy().nor(),
-                getProjectileSpeed(),
-                (float) getRange(),
-                (int) (getEffectiveDamage() * player.getForce()),
-                getEffectiveProjectileSize(),
-                getProjectileBaseWidth(),
-                getProjectileBaseHeight(),
-                getProjectileTexturePath(),
-                player
-            );
-
+            fire(player);
             resetCooldown();
         }
     }
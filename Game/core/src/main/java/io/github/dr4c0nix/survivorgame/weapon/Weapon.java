@@ -1,4 +1,5 @@
 package io.github.dr4c0nix.survivorgame.weapon;
+import com.badlogic.gdx.math.Vector2;
 import io.github.dr4c0nix.survivorgame.entities.EntityFactory;
 import io.github.dr4c0nix.survivorgame.entities.player.Player;
 
@@ -25,6 +26,11 @@ public abstract class Weapon {
     protected String description;
     protected String iconPath;
 
+    // vecteurs de travail réutilisés à chaque tir (la factory copie leurs valeurs)
+    private final Vector2 playerCenter = new Vector2();
+    private final Vector2 spawnCenter = new Vector2();
+    private final Vector2 shotDirection = new Vector2();
+
     /**
      * Constructeur principal d'une arme.
      *
@@ -65,6 +71,38 @@ public abstract class Weapon {
      */
     public abstract void update(float delta, Player player);
 
+    /**
+     * Tire un projectile depuis le bord de la hitbox du joueur, dans sa direction de regard
+     * (vers le bas si aucune direction). N'alloue aucun vecteur.
+     *
+     * @param player joueur qui utilise l'arme
+     */
+    protected void fire(Player player) {
+        player.getHitbox().getCenter(playerCenter);
+
+        shotDirection.set(player.getFacingDirection());
+        if (shotDirection.isZero()) {
+            shotDirection.set(0, -1);
+        }
+
+        float offsetX = shotDirection.x * (player.getHitbox().width * 0.5f);
+        float offsetY = shotDirection.y * (player.getHitbox().height * 0.5f);
+        spawnCenter.set(playerCenter).add(offsetX, offsetY);
+
+        entityFactory.obtainProjectile(
+            spawnCenter,
+            shotDirection.nor(),
+            getProjectileSpeed(),
+            (float) getRange(),
+            (int) (getEffectiveDamage() * player.getForce()),
+            getEffectiveProjectileSize(),
+            getProjectileBaseWidth(),
+            getProjectileBaseHeight(),
+            getProjectileTexturePath(),
+            player
+        );
+    }
+
     /**
      * Indique si l'arme peut tirer (cooldown expiré).
      *
@@ -0,0 +1,101 @@
+package io.github.dr4c0nix.survivorgame;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.maps.tiled.tiles.StaticTiledMapTile;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitaires pour {@link CachedMapRenderer} (calculs sans contexte graphique).
+ */
+public class CachedMapRendererTest {
+
+    private static final float DELTA = 1e-6f;
+    private TextureRegion region;
+    private TiledMapTileLayer.Cell cell;
+    private final float[] out = new float[CachedMapRenderer.QUAD_SIZE];
+
+    /**
+     * Prépare une tuile 32x32 dans une texture 64x64 simulée : u 0..0.5, v 0..0.5.
+     */
+    @Before
+    public void setUp() {
+        Texture texture = mock(Texture.class);
+        when(texture.getWidth()).thenReturn(64);
+        when(texture.getHeight()).thenReturn(64);
+        region = new TextureRegion(texture, 0, 0, 32, 32);
+        cell = new TiledMapTileLayer.Cell();
+        cell.setTile(new StaticTiledMapTile(region));
+    }
+
+    private float u(int corner) {
+        return out[corner * CachedMapRenderer.VERTEX_SIZE + 3];
+    }
+
+    private float v(int corner) {
+        return out[corner * CachedMapRenderer.VERTEX_SIZE + 4];
+    }
+
+    /**
+     * Vérifie la position et les coordonnées de texture d'une tuile sans transformation.
+     */
+    @Test
+    public void testTileVertices_PlainTile() {
+        CachedMapRenderer.tileVertices(cell, region, 64f, 96f, 1f, out);
+
+        assertEquals(64f, out[0], DELTA);
+        assertEquals(96f, out[1], DELTA);
+        assertEquals("Coin haut-droit X", 96f, out[2 * CachedMapRenderer.VERTEX_SIZE], DELTA);
+        assertEquals("Coin haut-droit Y", 128f, out[2 * CachedMapRenderer.VERTEX_SIZE + 1], DELTA);
+        assertEquals(0f, u(0), DELTA);
+        assertEquals(0.5f, v(0), DELTA);
+        assertEquals(0.5f, u(2), DELTA);
+        assertEquals(0f, v(2), DELTA);
+    }
+
+    /**
+     * Vérifie qu'un retournement horizontal échange les U de gauche et de droite.
+     */
+    @Test
+    public void testTileVertices_FlipHorizontally() {
+        cell.setFlipHorizontally(true);
+        CachedMapRenderer.tileVertices(cell, region, 0f, 0f, 1f, out);
+
+        assertEquals(0.5f, u(0), DELTA);
+        assertEquals(0.5f, u(1), DELTA);
+        assertEquals(0f, u(2), DELTA);
+        assertEquals(0f, u(3), DELTA);
+        assertEquals("V inchangé", 0.5f, v(0), DELTA);
+    }
+
+    /**
+     * Vérifie qu'un quart de tour décale les coordonnées de texture d'un coin.
+     */
+    @Test
+    public void testTileVertices_Rotate90() {
+        cell.setRotation(TiledMapTileLayer.Cell.ROTATE_90);
+        CachedMapRenderer.tileVertices(cell, region, 0f, 0f, 1f, out);
+
+        // le coin bas-gauche prend les coordonnées du coin haut-gauche
+        assertEquals(0f, u(0), DELTA);
+        assertEquals(0f, v(0), DELTA);
+        assertEquals("Le dernier coin reprend le premier", 0.5f, v(3), DELTA);
+        assertEquals(0f, u(3), DELTA);
+    }
+
+    /**
+     * Vérifie le calcul du bloc d'une coordonnée, borné à la carte.
+     */
+    @Test
+    public void testChunkIndex_ClampsToMap() {
+        assertEquals(0, CachedMapRenderer.chunkIndex(-100f, 32, 7));
+        assertEquals(0, CachedMapRenderer.chunkIndex(511f, 32, 7));
+        assertEquals(1, CachedMapRenderer.chunkIndex(512f, 32, 7));
+        assertEquals(6, CachedMapRenderer.chunkIndex(99999f, 32, 7));
+    }
+}
@@ -0,0 +1,78 @@
+package io.github.dr4c0nix.survivorgame;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests unitaires pour {@link DynamicResolution}.
+ */
+public class DynamicResolutionTest {
+    private static final float TARGET = 1f / 60f;
+    private static final float DELTA = 0.0001f;
+
+    /**
+     * Vérifie qu'une échelle fixe ne dépend pas du temps de frame.
+     */
+    @Test
+    public void testFixedScale_IgnoresFrameTime() {
+        DynamicResolution resolution = new DynamicResolution(TARGET);
+        resolution.configure(50);
+        assertFalse(resolution.isAutomatic());
+        for (int i = 0; i < 300; i++) {
+            assertEquals(0.5f, resolution.update(TARGET * 3f), DELTA);
+        }
+    }
+
+    /**
+     * Vérifie qu'en mode automatique l'échelle baisse quand le budget est dépassé, jamais sous le minimum.
+     */
+    @Test
+    public void testAutomatic_DropsWhenOverBudget() {
+        DynamicResolution resolution = new DynamicResolution(TARGET);
+        resolution.configure(GameOptions.RENDER_SCALE_AUTO);
+        assertTrue(resolution.isAutomatic());
+        assertEquals(1f, resolution.getScale(), DELTA);
+
+        float first = 1f;
+        for (int i = 0; i < 200 && first == 1f; i++) {
+            first = resolution.update(TARGET * 2f);
+        }
+        assertEquals(1f - 2 * DynamicResolution.STEP, first, DELTA);
+
+        for (int i = 0; i < 5000; i++) {
+            resolution.update(TARGET * 2f);
+        }
+        assertEquals(DynamicResolution.MIN_SCALE, resolution.getScale(), DELTA);
+    }
+
+    /**
+     * Vérifie que l'échelle remonte d'un cran seulement après une période stable sous le budget.
+     */
+    @Test
+    public void testAutomatic_RecoversAfterStableFrames() {
+        DynamicResolution resolution = new DynamicResolution(TARGET);
+        resolution.configure(GameOptions.RENDER_SCALE_AUTO);
+        float scale = 1f;
+        for (int i = 0; i < 200 && scale == 1f; i++) {
+            scale = resolution.update(TARGET * 2f);
+        }
+        assertTrue(scale < 1f);
+
+        // refroidissement puis période stable : pas de remontée avant
+        for (int i = 0; i < DynamicResolution.COOLDOWN_FRAMES + DynamicResolution.STABLE_FRAMES - 1; i++) {
+            assertEquals(scale, resolution.update(TARGET), DELTA);
+        }
+        assertEquals(scale + DynamicResolution.STEP, resolution.update(TARGET), DELTA);
+    }
+
+    /**
+     * Vérifie que l'échelle est bornée et arrondie au cran.
+     */
+    @Test
+    public void testQuantize_ClampsAndRounds() {
+        assertEquals(DynamicResolution.MIN_SCALE, DynamicResolution.quantize(0.01f), DELTA);
+        assertEquals(DynamicResolution.MAX_SCALE, DynamicResolution.quantize(1.7f), DELTA);
+        assertEquals(0.75f, DynamicResolution.quantize(0.76f), DELTA);
+    }
+}
@@ -0,0 +1,113 @@
+package io.github.dr4c0nix.survivorgame;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests unitaires pour {@link FixedTimestep}.
+ */
+public class FixedTimestepTest {
+
+    /**
+     * Vérifie que le nombre de ticks suit le temps accumulé, indépendamment du découpage des frames.
+     */
+    @Test
+    public void testAdvance_AccumulatesFrameTime() {
+        FixedTimestep timestep = new FixedTimestep(60);
+
+        assertEquals(0, timestep.advance(0.01f));
+        assertEquals(1, timestep.advance(0.01f));
+        assertEquals(2, timestep.advance(1f / 30f));
+        assertEquals(3, timestep.getTickCount());
+    }
+
+    /**
+     * Vérifie que alpha correspond à la fraction de tick restant dans l'accumulateur.
+     */
+    @Test
+    public void testGetAlpha_IsRemainderFraction() {
+        FixedTimestep timestep = new FixedTimestep(50);
+
+        timestep.advance(0.03f);
+
+        assertEquals(0.5f, timestep.getAlpha(), 0.001f);
+    }
+
+    /**
+     * Vérifie que le rattrapage est borné après un gel et que le retard est abandonné.
+     */
+    @Test
+    public void testAdvance_ClampsCatchUp() {
+        FixedTimestep timestep = new FixedTimestep(60, 3);
+
+        assertEquals(3, timestep.advance(2f));
+        assertTrue("Moins d'un tick doit rester en réserve", timestep.getAlpha() < 1f);
+        assertTrue(timestep.advance(0f) <= 1);
+    }
+
+    /**
+     * Vérifie qu'un delta négatif ou nul ne produit aucun tick.
+     */
+    @Test
+    public void testAdvance_IgnoresNonPositiveDelta() {
+        FixedTimestep timestep = new FixedTimestep(60);
+
+        assertEquals(0, timestep.advance(0f));
+        assertEquals(0, timestep.advance(-1f));
+        assertEquals(0f, timestep.getAlpha(), 0.0001f);
+    }
+
+    /**
+     * Vérifie le changement de fréquence et la remise à zéro.
+     */
+    @Test
+    public void testSetTickRate_AndReset() {
+        FixedTimestep timestep = new FixedTimestep(60);
+        timestep.setTickRate(30);
+
+        assertEquals(30, timestep.getTickRate());
+        assertEquals(1f / 30f, timestep.getStep(), 0.0001f);
+
+        timestep.advance(0.05f);
+        timestep.reset();
+
+        assertEquals(0, timestep.getTickCount());
+        assertEquals(0f, timestep.getAlpha(), 0.0001f);
+    }
+
+    /**
+     * Vérifie que l'échelle de temps multiplie les ticks d'une frame sans changer leur durée.
+     */
+    @Test
+    public void testTimeScale_RunsMoreTicksOfSameStep() {
+        FixedTimestep timestep = new FixedTimestep(60);
+        timestep.setTimeScale(16f);
+
+        int ticks = timestep.advance(1.01f / 60f);
+
+        assertEquals(16, ticks);
+        assertEquals(1f / 60f, timestep.getStep(), 0.0001f);
+        assertEquals(FixedTimestep.DEFAULT_MAX_TICKS_PER_FRAME * 16, timestep.getMaxTicksPerFrame());
+    }
+
+    /**
+     * Vérifie le ralenti et le bornage de l'échelle de temps.
+     */
+    @Test
+    public void testTimeScale_SlowMotionAndClamp() {
+        FixedTimestep timestep = new FixedTimestep(60);
+        timestep.setTimeScale(0.25f);
+
+        assertEquals(0, timestep.advance(1f / 60f));
+        assertEquals(0, timestep.advance(1f / 60f));
+        assertEquals(0, timestep.advance(1f / 60f));
+        assertEquals(1, timestep.advance(1.01f / 60f));
+
+        timestep.setTimeScale(100f);
+        assertEquals(FixedTimestep.MAX_TIME_SCALE, timestep.getTimeScale(), 0f);
+        timestep.setTimeScale(0f);
+        assertEquals(FixedTimestep.MIN_TIME_SCALE, timestep.getTimeScale(), 0f);
+        assertEquals(FixedTimestep.DEFAULT_MAX_TICKS_PER_FRAME, timestep.getMaxTicksPerFrame());
+    }
+}
@@ -0,0 +1,197 @@
+package io.github.dr4c0nix.survivorgame;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.maps.MapLayer;
+import com.badlogic.gdx.maps.MapObject;
+import com.badlogic.gdx.maps.objects.RectangleMapObject;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import io.github.dr4c0nix.survivorgame.entities.PoolSizing;
+import io.github.dr4c0nix.survivorgame.entities.PoolStats;
+import io.github.dr4c0nix.survivorgame.entities.player.Player;
+import io.github.dr4c0nix.survivorgame.entities.player.PlayerInput;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import org.junit.After;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test de non-régression sur les allocations de la boucle de jeu.
+ *
+ * Fait tourner le vrai tick de {@link GameWorld} sans contexte graphique, sur une petite carte
+ * (apparitions, murs, interrupteur de lumières) avec un joueur qui tourne en rond et tire :
+ * déplacement et collisions du joueur, orientation et glissement des ennemis, impacts, contacts,
+ * zones de déclenchement, orbes et tampon de commandes, puis interpolation et texte du HUD.
+ * Le graphe de jobs et l'orientation des ennemis tournent sur un seul thread : la mesure
+ * des octets alloués par le thread courant voit donc tout le travail.
+ * En régime établi, une frame ne doit rien allouer.
+ */
+public class FrameAllocationTest {
+    private static final float DELTA = 1f / 60f;
+    private static final long SEED = 27L;
+    private static final int WARMUP_FRAMES = 1800;
+    private static final int WINDOW_FRAMES = 300;
+    private static final int WINDOWS = 20;
+    // durée d'un côté du trajet du joueur (ticks)
+    private static final int LEG_TICKS = 90;
+    // marge pour le coût de la mesure elle-même (une seule allocation de Vector2 par frame dépasserait 7 Ko)
+    private static final long MAX_ALLOCATED_BYTES = 4096;
+    // fenêtres où un pool grandit encore, tolérées après la chauffe (nouveaux pics de population)
+    private static final int MAX_GROWING_WINDOWS = 3;
+
+    private GameWorld world;
+    private final Hud.TextLines hudText = new Hud.TextLines();
+    private int frame;
+
+    /**
+     * Construit une carte en mémoire et un monde mono-thread dont le joueur ne peut pas mourir.
+     */
+    @Before
+    public void setUp() {
+        Gdx.app = null;
+        Gdx.files = null;
+        Gdx.graphics = null;
+        Gdx.input = null;
+
+        world = new GameWorld(buildMap(), 3600f, new PoolSizing(null), SEED, 1);
+        Player player = world.getPlayer();
+        player.setMaxHp(1e9f);
+        player.setCurrentHp(1e9f);
+        player.setAttacksEnabled(true);
+        // parcours carré : droite (bloquée par un mur), haut, gauche, bas ; traverse l'interrupteur de lumières
+        player.setInput(new PlayerInput() {
+            @Override
+            public int pollDirections(Player p) {
+                switch ((frame / LEG_TICKS) % 4) {
+                    case 0:
+                        return RIGHT;
+                    case 1:
+                        return UP;
+                    case 2:
+                        return LEFT;
+                    default:
+                        return DOWN;
+                }
+            }
+        });
+    }
+
+    @After
+    public void tearDown() {
+        if (world != null) world.dispose();
+        Gdx.files = null;
+    }
+
+    /**
+     * Vérifie qu'une frame de jeu en régime établi n'alloue pas de mémoire.
+     *
+     * Les fenêtres pendant lesquelles un pool atteint un nouveau pic ne sont pas mesurées : la population
+     * grandit encore et chaque nouvel objet est une allocation légitime (pas un déchet par frame).
+     * Elles doivent rester rares après la chauffe, sinon les pools grandissent en continu.
+     */
+    @Test
+    public void testSteadyStateFrame_DoesNotAllocate() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue("Mesure d'allocation indisponible sur cette JVM", bean instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) bean;
+        Assume.assumeTrue(threadBean.isThreadAllocatedMemorySupported());
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+
+        for (int i = 0; i < WARMUP_FRAMES; i++) {
+            assertTrue("La partie ne doit pas se terminer pendant la mesure", simulateFrame());
+        }
+        assertTrue("Aucun ennemi n'est apparu : le tick mesuré serait incomplet",
+            world.getEntityFactory().getActiveEnemies().size() > 0 || world.getPlayer().getMobKilled() > 0);
+
+        long threadId = Thread.currentThread().getId();
+        int steadyWindows = 0;
+        int growingWindows = 0;
+        for (int w = 0; w < WINDOWS; w++) {
+            int highWater = totalHighWater();
+            long before = threadBean.getThreadAllocatedBytes(threadId);
+            for (int i = 0; i < WINDOW_FRAMES; i++) {
+                assertTrue("La partie ne doit pas se terminer pendant la mesure", simulateFrame());
+            }
+            long allocated = threadBean.getThreadAllocatedBytes(threadId) - before;
+            if (totalHighWater() != highWater) {
+                growingWindows++;
+                continue;
+            }
+
+            steadyWindows++;
+            assertTrue("La frame alloue encore " + allocated + " octets sur " + WINDOW_FRAMES + " frames",
+                allocated <= MAX_ALLOCATED_BYTES);
+        }
+        assertTrue("Aucune fenêtre sans croissance des pools : régime établi jamais atteint", steadyWindows > 0);
+        assertTrue("Les pools grandissent encore dans " + growingWindows + " fenêtres sur " + WINDOWS,
+            growingWindows <= MAX_GROWING_WINDOWS);
+    }
+
+    /**
+     * Une frame de Gameplay.render sans le rendu : un tick, l'interpolation et les valeurs du HUD
+     * lues comme dans {@link Hud#render(float)}, avec remise en page des lignes quand elles changent.
+     */
+    private boolean simulateFrame() {
+        boolean running = world.tick(DELTA);
+        frame++;
+        world.interpolate(0.5f);
+
+        Player player = world.getPlayer();
+        float xpPercent = (float) player.getXpactual() / Math.max(player.getExperienceToNextLevel(), 1);
+        if (hudText.update(player.getDescription(), player.getLevel(), player.getHp(),
+                Math.max(player.getMaxHp(), 1f), (int) (xpPercent * 100))) {
+            hudText.build();
+        }
+        return running;
+    }
+
+    /** Somme des pics d'utilisation des pools : change dès qu'un pool doit créer un objet. */
+    private int totalHighWater() {
+        ArrayList<PoolStats> stats = world.getEntityFactory().getPoolStats();
+        int total = 0;
+        for (int i = 0; i < stats.size(); i++) {
+            total += stats.get(i).getHighWater();
+        }
+        return total;
+    }
+
+    /** Carte de 100x100 cases : point de départ, un mur sur le trajet, interrupteur de lumières et zone d'apparition. */
+    private static TiledMap buildMap() {
+        TiledMap map = new TiledMap();
+
+        MapLayer spawnLayer = new MapLayer();
+        spawnLayer.setName("spawn");
+        MapObject spawnObj = new MapObject();
+        spawnObj.setName("spawnpoint");
+        spawnObj.getProperties().put("x", 600f);
+        spawnObj.getProperties().put("y", 600f);
+        spawnLayer.getObjects().add(spawnObj);
+        map.getLayers().add(spawnLayer);
+
+        MapLayer collisionsLayer = new MapLayer();
+        collisionsLayer.setName("collisions");
+        collisionsLayer.getObjects().add(new RectangleMapObject(800, 500, 32, 200));
+        map.getLayers().add(collisionsLayer);
+
+        MapLayer togglerLayer = new MapLayer();
+        togglerLayer.setName("lightstoggler");
+        togglerLayer.getObjects().add(named(new RectangleMapObject(700, 0, 16, 3200), "lightstoggler"));
+        togglerLayer.getObjects().add(named(new RectangleMapObject(600, 0, 100, 3200), "comingfromr1"));
+        togglerLayer.getObjects().add(named(new RectangleMapObject(716, 0, 100, 3200), "comingfromr2"));
+        map.getLayers().add(togglerLayer);
+
+        MapLayer mobSpawnLayer = new MapLayer();
+        mobSpawnLayer.setName("mobspawn");
+        mobSpawnLayer.getObjects().add(named(new RectangleMapObject(400, 400, 700, 700), "room1"));
+        map.getLayers().add(mobSpawnLayer);
+        return map;
+    }
+
+    private static MapObject named(MapObject obj, String name) {
+        obj.setName(name);
+        return obj;
+    }
+}
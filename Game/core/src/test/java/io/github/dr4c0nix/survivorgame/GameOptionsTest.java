@@ -86,6 +86,28 @@ public class GameOptionsTest {
         assertEquals(0, opts.getMusicVolume());
     }
 
+    /**
+     * Vérifie que la fréquence de simulation est bornée et qu'une valeur invalide revient au défaut.
+     */
+    @Test
+    public void testSetTickRate_ClampsValues() {
+        GameOptions opts = GameOptions.getInstance();
+        assertEquals(GameOptions.DEFAULT_TICK_RATE, opts.getTickRate());
+
+        opts.setTickRate(120);
+        assertEquals(120, opts.getTickRate());
+        verify(mockPrefs).putInteger("tickRate", 120);
+
+        opts.setTickRate(1000);
+        assertEquals(GameOptions.MAX_TICK_RATE, opts.getTickRate());
+
+        opts.setTickRate(5);
+        assertEquals(GameOptions.MIN_TICK_RATE, opts.getTickRate());
+
+        opts.setTickRate(0);
+        assertEquals(GameOptions.DEFAULT_TICK_RATE, opts.getTickRate());
+    }
+
     /**
      * Vérifie que resetToDefault restaure les valeurs par défaut et flush des prefs.
      */
@@ -129,4 +151,43 @@ public class GameOptionsTest {
         assertEquals("Z", GameOptions.getKeyName(Keys.Z));
         assertEquals("Space", GameOptions.getKeyName(Keys.SPACE));
     }
-}
\ No newline at end of file
+
+    /**
+     * Vérifie que la qualité d'éclairage vaut HIGH par défaut, est sauvegardée et relue.
+     *
+     * @throws Exception si la réflexion échoue
+     */
+    @Test
+    public void testLightingQuality_DefaultsToHighAndPersists() throws Exception {
+        GameOptions opts = GameOptions.getInstance();
+        assertEquals(LightingQuality.HIGH, opts.getLightingQuality());
+
+        opts.setLightingQuality(LightingQuality.LOW);
+        assertEquals(LightingQuality.LOW, opts.getLightingQuality());
+        verify(mockPrefs).putString("lightingQuality", "LOW");
+
+        when(mockPrefs.getString(eq("lightingQuality"), anyString())).thenReturn("MEDIUM");
+        resetSingleton();
+        assertEquals(LightingQuality.MEDIUM, GameOptions.getInstance().getLightingQuality());
+    }
+
+    /**
+     * Vérifie que l'échelle de rendu garde le mode automatique et borne les pourcentages.
+     */
+    @Test
+    public void testRenderScale_KeepsAutoAndClamps() throws Exception {
+        GameOptions opts = GameOptions.getInstance();
+        assertEquals(GameOptions.MAX_RENDER_SCALE, opts.getRenderScale());
+
+        opts.setRenderScale(GameOptions.RENDER_SCALE_AUTO);
+        assertEquals(GameOptions.RENDER_SCALE_AUTO, opts.getRenderScale());
+        verify(mockPrefs).putInteger("renderScale", GameOptions.RENDER_SCALE_AUTO);
+
+        opts.setRenderScale(10);
+        assertEquals(GameOptions.MIN_RENDER_SCALE, opts.getRenderScale());
+        opts.setRenderScale(150);
+        assertEquals(GameOptions.MAX_RENDER_SCALE, opts.getRenderScale());
+        opts.setRenderScale(-5);
+        assertEquals(GameOptions.MAX_RENDER_SCALE, opts.getRenderScale());
+    }
+}
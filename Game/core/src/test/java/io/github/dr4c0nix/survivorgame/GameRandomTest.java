@@ -0,0 +1,51 @@
+package io.github.dr4c0nix.survivorgame;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests unitaires pour {@link GameRandom}.
+ */
+public class GameRandomTest {
+
+    /**
+     * Vérifie qu'une même graine rejoue exactement les mêmes tirages dans chaque flux.
+     */
+    @Test
+    public void testSameSeed_ReproducesAllStreams() {
+        GameRandom a = new GameRandom(42L);
+        GameRandom b = new GameRandom(42L);
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals(a.spawn().nextLong(), b.spawn().nextLong());
+            assertEquals(a.combat().nextFloat(), b.combat().nextFloat(), 0f);
+            assertEquals(a.upgrades().nextInt(10), b.upgrades().nextInt(10));
+        }
+        assertEquals(42L, a.getSeed());
+    }
+
+    /**
+     * Vérifie que les flux sont indépendants : tirer dans l'un ne décale pas les autres.
+     */
+    @Test
+    public void testStreams_AreIndependent() {
+        GameRandom a = new GameRandom(7L);
+        GameRandom b = new GameRandom(7L);
+
+        for (int i = 0; i < 50; i++) {
+            a.combat().nextFloat();
+        }
+
+        assertEquals(b.spawn().nextLong(), a.spawn().nextLong());
+        assertNotEquals(new GameRandom(7L).spawn().nextLong(), new GameRandom(7L).combat().nextLong());
+    }
+
+    /**
+     * Vérifie que deux graines différentes donnent des parties différentes.
+     */
+    @Test
+    public void testDifferentSeeds_Diverge() {
+        assertNotEquals(new GameRandom(1L).spawn().nextLong(), new GameRandom(2L).spawn().nextLong());
+    }
+}
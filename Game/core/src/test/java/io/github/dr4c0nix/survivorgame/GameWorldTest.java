@@ -0,0 +1,218 @@
+package io.github.dr4c0nix.survivorgame;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.maps.MapLayer;
+import com.badlogic.gdx.maps.MapObject;
+import com.badlogic.gdx.maps.objects.RectangleMapObject;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import io.github.dr4c0nix.survivorgame.entities.PoolSizing;
+import io.github.dr4c0nix.survivorgame.entities.SpawnManager;
+import io.github.dr4c0nix.survivorgame.entities.player.Player;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitaires pour {@link GameWorld}.
+ * Le monde est construit sans aucun contexte graphique, à partir d'une carte créée en mémoire.
+ */
+public class GameWorldTest {
+
+    private GameWorld world;
+
+    /**
+     * Construit une carte minimale (point d'apparition + un obstacle) et le monde associé.
+     */
+    @Before
+    public void setUp() {
+        Gdx.app = null;
+        Gdx.files = null;
+        Gdx.graphics = null;
+
+        TiledMap map = new TiledMap();
+
+        MapLayer spawnLayer = new MapLayer();
+        spawnLayer.setName("spawn");
+        MapObject spawnObj = new MapObject();
+        spawnObj.setName("spawnpoint");
+        spawnObj.getProperties().put("x", 200f);
+        spawnObj.getProperties().put("y", 300f);
+        spawnLayer.getObjects().add(spawnObj);
+        map.getLayers().add(spawnLayer);
+
+        MapLayer collisionsLayer = new MapLayer();
+        collisionsLayer.setName("collisions");
+        collisionsLayer.getObjects().add(new RectangleMapObject(0, 0, 32, 32));
+        map.getLayers().add(collisionsLayer);
+
+        world = new GameWorld(map, 60f, new PoolSizing(null));
+    }
+
+    /**
+     * Vérifie que le joueur est créé au point d'apparition de la carte et lié au monde.
+     */
+    @Test
+    public void testConstructor_PlacesPlayerAtSpawnPoint() {
+        Player player = world.getPlayer();
+
+        assertNotNull(player);
+        assertEquals(200f, player.getPosition().x, 0.001f);
+        assertEquals(300f, player.getPosition().y, 0.001f);
+        assertNotNull("Le joueur doit avoir son arme de départ", player.getCurrentWeapon());
+    }
+
+    /**
+     * Vérifie la détection de collision contre les obstacles de la carte.
+     */
+    @Test
+    public void testIsColliding_UsesMapCollisions() {
+        assertTrue(world.isColliding(new Rectangle(10, 10, 10, 10)));
+        assertFalse(world.isColliding(new Rectangle(50, 50, 10, 10)));
+    }
+
+    /**
+     * Vérifie que isColliding gère une liste nulle sans lancer d'exception.
+     *
+     * @throws Exception si l'injection de champs échoue
+     */
+    @Test
+    public void testIsColliding_HandlesNullList() throws Exception {
+        injectField("collisionRectangles", null);
+        assertFalse(world.isColliding(new Rectangle(0, 0, 10, 10)));
+    }
+
+    /**
+     * Vérifie que la difficulté met à jour l'intervalle de spawn selon le temps écoulé.
+     *
+     * @throws Exception si l'injection de champs échoue
+     */
+    @Test
+    public void testUpdateDifficulty_IncreasesSpawnRate() throws Exception {
+        SpawnManager spawnManager = mock(SpawnManager.class);
+        injectField("spawnManager", spawnManager);
+        injectField("elapsedTime", 600f);
+
+        world.updateDifficulty(0.1f);
+
+        verify(spawnManager).setSpawnInterval(1.0f);
+    }
+
+    /**
+     * Vérifie que getDirection délègue au pathfinding avec la conversion pixels -> cases.
+     *
+     * @throws Exception si l'injection de champs échoue
+     */
+    @Test
+    public void testGetDirection_DelegatesToPathfinding() throws Exception {
+        PathfindingMap pathfindingMap = mock(PathfindingMap.class);
+        Vector2 expectedDir = new Vector2(1, 0);
+        when(pathfindingMap.getDirection(2, 1)).thenReturn(expectedDir);
+        injectField("pathfindingMap", pathfindingMap);
+
+        assertSame(expectedDir, world.getDirection(64, 32));
+    }
+
+    /**
+     * Vérifie que la victoire est signalée une fois la durée atteinte et que le monde s'arrête.
+     */
+    @Test
+    public void testTick_ReportsVictoryAtMaxTime() {
+        GameWorld.Listener listener = mock(GameWorld.Listener.class);
+        world.setListener(listener);
+
+        assertFalse(world.tick(61f));
+        assertTrue(world.isOver());
+        verify(listener).onVictory();
+
+        assertFalse("Un monde terminé ne doit plus avancer", world.tick(0.1f));
+        verify(listener, times(1)).onVictory();
+    }
+
+    /**
+     * Vérifie que la mort du joueur n'est signalée qu'une seule fois.
+     */
+    @Test
+    public void testOnGameOver_NotifiesOnce() {
+        GameWorld.Listener listener = mock(GameWorld.Listener.class);
+        world.setListener(listener);
+
+        world.onGameOver();
+        world.onGameOver();
+
+        assertTrue(world.isOver());
+        verify(listener, times(1)).onGameOver();
+    }
+
+    /**
+     * Vérifie qu'un level-up est transmis au listener (et ignoré sans listener).
+     */
+    @Test
+    public void testShowLevelUpScreen_ForwardsToListener() {
+        world.showLevelUpScreen();
+
+        GameWorld.Listener listener = mock(GameWorld.Listener.class);
+        world.setListener(listener);
+        world.showLevelUpScreen();
+
+        verify(listener).onLevelUp();
+    }
+
+    /**
+     * Vérifie que la graine imposée est conservée et alimente le hasard du monde.
+     */
+    @Test
+    public void testSeededConstructor_KeepsSeed() {
+        GameWorld seeded = new GameWorld(new TiledMap(), 60f, new PoolSizing(null), 1234L);
+
+        assertEquals(1234L, seeded.getSeed());
+        assertEquals(new GameRandom(1234L).upgrades().nextLong(), seeded.getRandom().upgrades().nextLong());
+    }
+
+    /**
+     * Vérifie le graphe des systèmes : un job par système mesuré, le champ de flux indépendant
+     * des apparitions, et les systèmes qui préviennent le listener ou font grandir un pool liés au thread appelant.
+     */
+    @Test
+    public void testJobGraph_SchedulesSystems() {
+        JobGraph jobs = world.getJobs();
+
+        assertEquals(SystemTimings.COUNT, jobs.getJobCount());
+        assertFalse(jobs.dependsOn(SystemTimings.FLOW_FIELD, SystemTimings.SPAWN));
+        assertFalse(jobs.dependsOn(SystemTimings.FLOW_FIELD, SystemTimings.DIFFICULTY));
+        assertTrue(jobs.dependsOn(SystemTimings.ENEMIES, SystemTimings.FLOW_FIELD));
+        assertTrue(jobs.dependsOn(SystemTimings.COMMANDS, SystemTimings.COALESCE));
+        assertTrue(jobs.isOnMainThread(SystemTimings.HITS));
+        assertTrue(jobs.isOnMainThread(SystemTimings.CONTACTS));
+        assertTrue(jobs.isOnMainThread(SystemTimings.SPAWN));
+        assertTrue(jobs.isOnMainThread(SystemTimings.COALESCE));
+        assertTrue(jobs.isOnMainThread(SystemTimings.COMMANDS));
+        assertFalse(jobs.isOnMainThread(SystemTimings.FLOW_FIELD));
+        assertFalse(jobs.isOnMainThread(SystemTimings.ENEMIES));
+    }
+
+    /**
+     * Vérifie qu'interpolate range les entités actives dans les grilles de rendu.
+     */
+    @Test
+    public void testInterpolate_FillsRenderGrids() {
+        world.getEntityFactory().obtainOrbXp(new Vector2(220f, 310f), 5, 8f);
+
+        world.interpolate(1f);
+
+        assertEquals(1, world.getOrbGrid().size());
+        assertEquals(world.getEntityFactory().getActiveEnemies().size(), world.getEnemyGrid().size());
+        assertEquals(world.getEntityFactory().getActiveProjectiles().size(), world.getProjectileGrid().size());
+    }
+
+    private void injectField(String fieldName, Object value) throws Exception {
+        Field field = GameWorld.class.getDeclaredField(fieldName);
+        field.setAccessible(true);
+        field.set(world, value);
+    }
+}
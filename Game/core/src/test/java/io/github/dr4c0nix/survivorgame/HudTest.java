@@ -13,6 +13,8 @@ import org.mockito.MockitoAnnotations;
 import java.lang.reflect.Field;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.*;
 
 @RunWith(JUnit4.class)
@@ -51,6 +53,46 @@ public class HudTest {
         assertEquals(mockPlayer, getField("player"));
     }
 
+    @Test
+    public void testAppendTwoDecimals() {
+        StringBuilder sb = new StringBuilder();
+
+        Hud.appendTwoDecimals(sb, 87.5f);
+        sb.append('|');
+        Hud.appendTwoDecimals(sb, 100f);
+        sb.append('|');
+        Hud.appendTwoDecimals(sb, 3.057f);
+        sb.append('|');
+        Hud.appendTwoDecimals(sb, -1.5f);
+
+        assertEquals("87.50|100.00|3.06|-1.50", sb.toString());
+    }
+
+    @Test
+    public void testTextLinesUpdate_OnlyReportsVisibleChanges() {
+        Hud.TextLines text = new Hud.TextLines();
+
+        assertTrue(text.update("Player", 1, 50f, 100f, 10));
+        // mêmes valeurs à l'affichage (PV arrondis au centième) : pas de remise en page
+        assertFalse(text.update("Player", 1, 50.001f, 100f, 10));
+        assertTrue(text.update("Player", 1, 49.5f, 100f, 10));
+        assertTrue(text.update("Player", 2, 49.5f, 100f, 10));
+        assertTrue(text.update("Player", 2, 49.5f, 100f, 11));
+        assertFalse(text.update("Player", 2, 49.5f, 100f, 11));
+    }
+
+    @Test
+    public void testTextLinesBuild() {
+        Hud.TextLines text = new Hud.TextLines();
+        text.update("Player", 3, 87.5f, 100f, 42);
+
+        text.build();
+
+        assertEquals("Player  (Lvl 3)", text.name.toString());
+        assertEquals("HP: 87.50 / 100.00", text.hp.toString());
+        assertEquals("XP: 42%", text.xp.toString());
+    }
+
     @Test
     public void testDispose() throws Exception {
         injectField("shape", mockShape);
@@ -0,0 +1,200 @@
+package io.github.dr4c0nix.survivorgame;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests unitaires pour {@link JobGraph}.
+ */
+public class JobGraphTest {
+    private static final int A = 1;
+    private static final int B = 1 << 1;
+    private static final int C = 1 << 2;
+
+    private JobGraph graph;
+
+    @After
+    public void tearDown() {
+        if (graph != null) graph.dispose();
+    }
+
+    /** Travail qui ne fait rien. */
+    private static final JobGraph.Work NOTHING = new JobGraph.Work() {
+        @Override
+        public void run(float delta) {
+        }
+    };
+
+    /**
+     * Vérifie les dépendances dérivées des ressources : lectures partagées libres,
+     * écriture puis lecture, lecture puis écriture et écritures concurrentes ordonnées.
+     */
+    @Test
+    public void testAdd_DerivesDependenciesFromResources() {
+        graph = new JobGraph(1);
+        int readA1 = graph.add("readA1", A, 0, NOTHING);
+        int readA2 = graph.add("readA2", A, 0, NOTHING);
+        int writeA = graph.add("writeA", 0, A, NOTHING);
+        int writeB = graph.add("writeB", 0, B, NOTHING);
+        int readAB = graph.add("readAB", A | B, 0, NOTHING);
+        int writeB2 = graph.add("writeB2", 0, B, NOTHING);
+
+        assertFalse(graph.dependsOn(readA2, readA1));
+        assertTrue(graph.dependsOn(writeA, readA1));
+        assertTrue(graph.dependsOn(writeA, readA2));
+        assertFalse(graph.dependsOn(writeB, writeA));
+        assertTrue(graph.dependsOn(readAB, writeA));
+        assertTrue(graph.dependsOn(readAB, writeB));
+        assertTrue(graph.dependsOn(writeB2, writeB));
+        assertTrue(graph.dependsOn(writeB2, readAB));
+        assertEquals(6, graph.getJobCount());
+        assertEquals("readAB", graph.getName(readAB));
+    }
+
+    /**
+     * Vérifie que seuls les jobs qui touchent MAIN_THREAD sont liés au thread appelant.
+     */
+    @Test
+    public void testMainThreadJobs_AreFlagged() {
+        graph = new JobGraph(4);
+        int worker = graph.add("worker", A, B, NOTHING);
+        int main = graph.add("main", 0, C | JobGraph.MAIN_THREAD, NOTHING);
+
+        assertFalse(graph.isOnMainThread(worker));
+        assertTrue(graph.isOnMainThread(main));
+    }
+
+    /**
+     * Vérifie que le pool n'existe qu'en mode parallèle et qu'il est unique pour le graphe.
+     */
+    @Test
+    public void testGetPool_SharedAndAbsentWhenSerial() {
+        assertNull(new JobGraph(1).getPool());
+
+        graph = new JobGraph(3);
+        assertNotNull(graph.getPool());
+        assertSame(graph.getPool(), graph.getPool());
+        assertEquals(3, graph.getPool().getParallelism());
+    }
+
+    /**
+     * Vérifie que deux jobs indépendants tournent en même temps : chacun attend l'autre,
+     * ce qui ne peut réussir que s'ils s'exécutent sur des threads différents.
+     */
+    @Test
+    public void testRun_IndependentJobsRunConcurrently() {
+        graph = new JobGraph(2);
+        final CountDownLatch bothStarted = new CountDownLatch(2);
+        final boolean[] met = new boolean[2];
+        graph.add("left", 0, A, new RendezVous(bothStarted, met, 0));
+        graph.add("right", 0, B, new RendezVous(bothStarted, met, 1));
+
+        graph.run(0.016f, null);
+
+        assertTrue(met[0]);
+        assertTrue(met[1]);
+    }
+
+    /**
+     * Vérifie que les jobs dépendants s'exécutent dans l'ordre de déclaration, que les jobs
+     * MAIN_THREAD tournent sur le thread appelant et que chaque job est mesuré.
+     */
+    @Test
+    public void testRun_RespectsOrderThreadAffinityAndRecordsTimings() {
+        graph = new JobGraph(4);
+        final StringBuilder order = new StringBuilder();
+        final Thread caller = Thread.currentThread();
+        final Thread[] mainJobThread = new Thread[1];
+        graph.add("first", 0, A, new JobGraph.Work() {
+            @Override
+            public void run(float delta) {
+                order.append('1');
+                spin();
+            }
+        });
+        graph.add("second", A, A | JobGraph.MAIN_THREAD, new JobGraph.Work() {
+            @Override
+            public void run(float delta) {
+                mainJobThread[0] = Thread.currentThread();
+                order.append('2');
+                spin();
+            }
+        });
+        graph.add("third", A, 0, new JobGraph.Work() {
+            @Override
+            public void run(float delta) {
+                order.append('3');
+                spin();
+            }
+        });
+        SystemTimings timings = new SystemTimings();
+
+        for (int tick = 0; tick < 3; tick++) {
+            graph.run(0.016f, timings);
+        }
+
+        assertEquals("123123123", order.toString());
+        assertSame(caller, mainJobThread[0]);
+        for (int job = 0; job < graph.getJobCount(); job++) {
+            assertTrue(timings.getMaxNanos(job) > 0L);
+        }
+    }
+
+    /**
+     * Vérifie qu'en série (un seul thread) tout tourne sur le thread appelant, dans l'ordre.
+     */
+    @Test
+    public void testRun_SerialGraphStaysOnCallerThread() {
+        graph = new JobGraph(1);
+        final Thread caller = Thread.currentThread();
+        final boolean[] onCaller = {true};
+        JobGraph.Work check = new JobGraph.Work() {
+            @Override
+            public void run(float delta) {
+                onCaller[0] &= Thread.currentThread() == caller;
+            }
+        };
+        graph.add("a", 0, A, check);
+        graph.add("b", 0, B, check);
+
+        graph.run(0.016f, null);
+
+        assertTrue(onCaller[0]);
+    }
+
+    /** Occupe le thread jusqu'à ce que l'horloge avance (durée mesurée non nulle). */
+    private static void spin() {
+        long start = System.nanoTime();
+        while (System.nanoTime() == start) {
+            Thread.yield();
+        }
+    }
+
+    /** Job qui signale son démarrage et attend celui de son partenaire. */
+    private static final class RendezVous implements JobGraph.Work {
+        private final CountDownLatch latch;
+        private final boolean[] met;
+        private final int slot;
+
+        RendezVous(CountDownLatch latch, boolean[] met, int slot) {
+            this.latch = latch;
+            this.met = met;
+            this.slot = slot;
+        }
+
+        @Override
+        public void run(float delta) {
+            latch.countDown();
+            try {
+                met[slot] = latch.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
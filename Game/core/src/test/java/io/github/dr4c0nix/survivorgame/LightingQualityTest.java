@@ -0,0 +1,38 @@
+package io.github.dr4c0nix.survivorgame;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests unitaires pour {@link LightingQuality}.
+ */
+public class LightingQualityTest {
+
+    /**
+     * Vérifie la lecture d'un niveau par son nom, avec retour à HIGH pour une valeur inconnue.
+     */
+    @Test
+    public void testFromName_IgnoresCaseAndFallsBackToHigh() {
+        assertEquals(LightingQuality.LOW, LightingQuality.fromName("low"));
+        assertEquals(LightingQuality.MEDIUM, LightingQuality.fromName(" Medium "));
+        assertEquals(LightingQuality.HIGH, LightingQuality.fromName("ultra"));
+        assertEquals(LightingQuality.HIGH, LightingQuality.fromName(null));
+    }
+
+    /**
+     * Vérifie que chaque niveau coûte moins que le suivant et que HIGH garde le rendu d'origine.
+     */
+    @Test
+    public void testTiers_CostIncreasesWithQuality() {
+        assertTrue(LightingQuality.LOW.getRays() < LightingQuality.MEDIUM.getRays());
+        assertTrue(LightingQuality.MEDIUM.getRays() < LightingQuality.HIGH.getRays());
+        assertTrue(LightingQuality.LOW.getLightmapDivisor() > LightingQuality.HIGH.getLightmapDivisor());
+        assertEquals(0, LightingQuality.LOW.getBlurPasses());
+        assertFalse(LightingQuality.LOW.isSoft());
+
+        assertEquals(64, LightingQuality.HIGH.getRays());
+        assertEquals(4, LightingQuality.HIGH.getLightmapDivisor());
+        assertTrue(LightingQuality.HIGH.isSoft());
+    }
+}
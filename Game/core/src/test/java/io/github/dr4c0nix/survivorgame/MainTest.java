@@ -0,0 +1,30 @@
+package io.github.dr4c0nix.survivorgame;
+
+import com.badlogic.gdx.Screen;
+import io.github.dr4c0nix.survivorgame.screens.GameOverScreen;
+import io.github.dr4c0nix.survivorgame.screens.Gameplay;
+import io.github.dr4c0nix.survivorgame.screens.Menu;
+import io.github.dr4c0nix.survivorgame.screens.PauseScreen;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests unitaires pour {@link Main}.
+ */
+public class MainTest {
+
+    /**
+     * Vérifie que seule la partie est rendue en continu ; les interfaces statiques le sont à la demande.
+     */
+    @Test
+    public void testNeedsContinuousRendering_OnlyForGameplay() {
+        assertTrue(Main.needsContinuousRendering(mock(Gameplay.class)));
+        assertFalse(Main.needsContinuousRendering(mock(Menu.class)));
+        assertFalse(Main.needsContinuousRendering(mock(PauseScreen.class)));
+        assertFalse(Main.needsContinuousRendering(mock(GameOverScreen.class)));
+        assertFalse(Main.needsContinuousRendering(mock(Screen.class)));
+        assertFalse(Main.needsContinuousRendering(null));
+    }
+}
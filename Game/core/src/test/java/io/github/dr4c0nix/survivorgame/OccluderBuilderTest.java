@@ -0,0 +1,89 @@
+package io.github.dr4c0nix.survivorgame;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests unitaires pour {@link OccluderBuilder}.
+ */
+public class OccluderBuilderTest {
+
+    private static float area(List<Rectangle> rects) {
+        float total = 0f;
+        for (Rectangle r : rects) total += r.area();
+        return total;
+    }
+
+    /**
+     * Vérifie qu'une rangée de tuiles de mur devient une seule forme.
+     */
+    @Test
+    public void testMerge_AdjacentTilesBecomeOneShape() {
+        List<Rectangle> walls = new ArrayList<Rectangle>();
+        for (int i = 0; i < 10; i++) {
+            walls.add(new Rectangle(i * 32f, 64f, 32f, 32f));
+            walls.add(new Rectangle(i * 32f, 96f, 32f, 32f));
+        }
+
+        ArrayList<Rectangle> merged = OccluderBuilder.merge(walls);
+
+        assertEquals(1, merged.size());
+        Rectangle r = merged.get(0);
+        assertEquals(0f, r.x, 0f);
+        assertEquals(64f, r.y, 0f);
+        assertEquals(320f, r.width, 0f);
+        assertEquals(64f, r.height, 0f);
+    }
+
+    /**
+     * Vérifie que des rectangles qui se chevauchent, non alignés, donnent des formes disjointes
+     * couvrant exactement la même surface.
+     */
+    @Test
+    public void testMerge_OverlappingUnalignedKeepsExactUnion() {
+        List<Rectangle> walls = Arrays.asList(
+            new Rectangle(10.5f, 0f, 50f, 20f),
+            new Rectangle(30f, 10f, 50f, 20f),
+            new Rectangle(200f, 200f, 5f, 5f));
+
+        ArrayList<Rectangle> merged = OccluderBuilder.merge(walls);
+
+        // union : 1000 + 1000 - chevauchement (30.5 x 10) + 25
+        assertEquals(2000f - 305f + 25f, area(merged), 0.01f);
+        for (int i = 0; i < merged.size(); i++) {
+            for (int j = i + 1; j < merged.size(); j++) {
+                Rectangle a = merged.get(i);
+                Rectangle b = merged.get(j);
+                boolean overlap = a.x < b.x + b.width && b.x < a.x + a.width
+                    && a.y < b.y + b.height && b.y < a.y + a.height;
+                assertFalse("Formes disjointes", overlap);
+            }
+        }
+        assertTrue(merged.size() <= 4);
+        assertTrue(OccluderBuilder.merge(new ArrayList<Rectangle>()).isEmpty());
+    }
+
+    /**
+     * Vérifie qu'une torche posée dans un mur est sortie par le bord le plus proche.
+     */
+    @Test
+    public void testMoveOutside_PushesThroughNearestEdge() {
+        List<Rectangle> walls = Arrays.asList(new Rectangle(0f, 100f, 200f, 32f));
+        Vector2 torch = new Vector2(50f, 104f);
+
+        assertTrue(OccluderBuilder.moveOutside(walls, torch, 2f));
+        assertEquals(50f, torch.x, 0f);
+        assertEquals(98f, torch.y, 0f);
+
+        Vector2 free = new Vector2(50f, 10f);
+        assertTrue(OccluderBuilder.moveOutside(walls, free, 2f));
+        assertEquals(10f, free.y, 0f);
+    }
+}
@@ -226,4 +226,30 @@ public class PathfindingTest {
         for (int x = 0; x < 4; x++) for (int y = 0; y < 4; y++)
             assertEquals("calculateFlow avec joueur hors limites doit laisser distances INF", DISTANCE_INFINIE, m.getDistance(x, y));
     }
+
+    /**
+     * Test : le champ n'est recalculé que si la cible ou les murs changent.
+     *
+     * Objectif : la version ne bouge pas tant que le joueur reste dans sa cellule,
+     * et augmente dès qu'il en change ou qu'un nouveau mur est posé.
+     */
+    @Test
+    public void testVersion_ChangeSeulementSiCibleOuMursChangent() {
+        PathfindingMap carte = new PathfindingMap(5, 5);
+        carte.calculateFlow(0, 0);
+        int version = carte.getVersion();
+
+        carte.calculateFlow(0, 0);
+        assertEquals("Même cellule, mêmes murs : pas de recalcul", version, carte.getVersion());
+
+        carte.calculateFlow(1, 0);
+        assertEquals("Nouvelle cellule : recalcul", version + 1, carte.getVersion());
+        assertEquals(1, carte.getDistance(0, 0));
+
+        carte.setWall(1, 1);
+        carte.setWall(1, 1);
+        carte.calculateFlow(1, 0);
+        assertEquals("Nouveau mur : recalcul", version + 2, carte.getVersion());
+        assertEquals(DISTANCE_INFINIE, carte.getDistance(1, 1));
+    }
 }
@@ -0,0 +1,112 @@
+package io.github.dr4c0nix.survivorgame;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Vector2;
+import io.github.dr4c0nix.survivorgame.entities.enemy.Skull;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitaires pour {@link RenderQueue}.
+ */
+public class RenderQueueTest {
+
+    private RenderQueue queue;
+
+    @Before
+    public void setUp() {
+        Gdx.app = null;
+        Gdx.files = null;
+        queue = new RenderQueue();
+    }
+
+    private Skull skullAt(float y, TextureRegion frame) {
+        Skull skull = new Skull();
+        skull.setAlive(true);
+        skull.setPosition(new Vector2(0f, y));
+        skull.setCurrentFrame(frame);
+        return skull;
+    }
+
+    private TextureRegion frameOf(Texture texture) {
+        TextureRegion frame = mock(TextureRegion.class);
+        when(frame.getTexture()).thenReturn(texture);
+        return frame;
+    }
+
+    /**
+     * Vérifie l'ordre des clés : couche d'abord, puis y décroissant, y compris autour de zéro.
+     */
+    @Test
+    public void testSortKey_OrdersLayerThenDepth() {
+        long ground = RenderQueue.sortKey(0, -500f, 0);
+        long high = RenderQueue.sortKey(1, 300f, 0);
+        long low = RenderQueue.sortKey(1, -10f, 0);
+
+        assertTrue(Long.compareUnsigned(ground, high) < 0);
+        assertTrue("Le plus haut à l'écran est dessiné d'abord", Long.compareUnsigned(high, low) < 0);
+        assertTrue(Long.compareUnsigned(RenderQueue.sortKey(1, 10f, 5), RenderQueue.sortKey(1, 10.5f, 2)) > 0);
+    }
+
+    /**
+     * Vérifie le tri par couche et profondeur, au-delà de la capacité initiale.
+     */
+    @Test
+    public void testSort_ByLayerThenDepth() {
+        for (int i = 0; i < 600; i++) {
+            queue.submit(skullAt((i * 37) % 1000, null), i % 2);
+        }
+
+        queue.sort();
+
+        assertEquals(600, queue.size());
+        float previousY = Float.MAX_VALUE;
+        boolean inSecondLayer = false;
+        for (int i = 0; i < queue.size(); i++) {
+            float y = queue.get(i).getRenderY();
+            if (i == 300) {
+                inSecondLayer = true;
+                previousY = Float.MAX_VALUE;
+            }
+            assertTrue("Profondeur décroissante dans la couche", y <= previousY);
+            previousY = y;
+        }
+        assertTrue(inSecondLayer);
+    }
+
+    /**
+     * Vérifie qu'à profondeur égale les entités d'une même texture se suivent.
+     */
+    @Test
+    public void testDraw_GroupsTexturesWithinDepthBand() {
+        Texture a = mock(Texture.class);
+        Texture b = mock(Texture.class);
+        SpriteBatch batch = mock(SpriteBatch.class);
+        for (int i = 0; i < 6; i++) {
+            queue.submit(skullAt(100f, frameOf(i % 2 == 0 ? a : b)), 1);
+        }
+
+        queue.sort();
+        queue.draw(batch);
+
+        assertEquals(1, queue.getTextureSwitches());
+        assertSame(a, queue.get(0).getCurrentFrame().getTexture());
+        assertSame(b, queue.get(5).getCurrentFrame().getTexture());
+    }
+
+    /**
+     * Vérifie que clear vide la file.
+     */
+    @Test
+    public void testClear_EmptiesQueue() {
+        queue.submit(skullAt(0f, null), 0);
+        queue.clear();
+        assertEquals(0, queue.size());
+    }
+}
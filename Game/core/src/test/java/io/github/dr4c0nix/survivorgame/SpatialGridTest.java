@@ -0,0 +1,87 @@
+package io.github.dr4c0nix.survivorgame;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.math.Vector2;
+import io.github.dr4c0nix.survivorgame.entities.Entity;
+import io.github.dr4c0nix.survivorgame.entities.enemy.Skull;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests unitaires pour {@link SpatialGrid}.
+ */
+public class SpatialGridTest {
+
+    private SpatialGrid<Skull> grid;
+    private ArrayList<Entity> out;
+
+    @Before
+    public void setUp() {
+        Gdx.app = null;
+        Gdx.files = null;
+        grid = new SpatialGrid<Skull>(128f, 1024f, 1024f);
+        out = new ArrayList<Entity>();
+    }
+
+    private Skull skullAt(float x, float y) {
+        Skull skull = new Skull();
+        skull.setAlive(true);
+        skull.setPosition(new Vector2(x, y));
+        grid.insert(skull);
+        return skull;
+    }
+
+    /**
+     * Vérifie que seules les entités qui touchent le rectangle sont retournées,
+     * y compris celle rangée dans une case voisine mais qui déborde dans la vue.
+     */
+    @Test
+    public void testQuery_ReturnsOnlyOverlappingEntities() {
+        Skull inside = skullAt(300f, 300f);
+        Skull straddling = skullAt(250f, 300f);
+        Skull outside = skullAt(900f, 900f);
+
+        int found = grid.query(260f, 260f, 200f, 150f, out);
+
+        assertEquals(2, found);
+        assertTrue(out.contains(inside));
+        assertTrue("Déborde de la case de gauche dans la vue", out.contains(straddling));
+        assertFalse(out.contains(outside));
+    }
+
+    /**
+     * Vérifie que les entités hors de la zone couverte sont rangées au bord et restent trouvables.
+     */
+    @Test
+    public void testInsert_OutsideBoundsClampsToEdgeCells() {
+        Skull beyond = skullAt(1100f, -40f);
+
+        assertEquals(1, grid.query(1050f, -100f, 200f, 200f, out));
+        assertSame(beyond, out.get(0));
+
+        out.clear();
+        assertEquals(0, grid.query(0f, 0f, 200f, 200f, out));
+    }
+
+    /**
+     * Vérifie que la grille grandit au-delà de sa capacité initiale et se vide avec clear.
+     */
+    @Test
+    public void testInsert_GrowsAndClears() {
+        for (int i = 0; i < 200; i++) {
+            skullAt((i % 20) * 40f, (i / 20) * 40f);
+        }
+
+        assertEquals(200, grid.size());
+        assertEquals(200, grid.query(-100f, -100f, 2000f, 2000f, out));
+
+        grid.clear();
+        out.clear();
+        assertEquals(0, grid.size());
+        assertEquals(0, grid.query(-100f, -100f, 2000f, 2000f, out));
+    }
+}
@@ -0,0 +1,59 @@
+package io.github.dr4c0nix.survivorgame;
+
+import com.badlogic.gdx.Files;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitaires pour {@link Sprites}.
+ */
+public class SpritesTest {
+
+    @Before
+    public void setUp() {
+        Gdx.app = null;
+        Gdx.files = null;
+    }
+
+    /**
+     * Vérifie que le nom de région correspond au chemin sans extension, sous-dossiers compris.
+     */
+    @Test
+    public void testRegionName_StripsExtensionKeepsFolders() {
+        assertEquals("Entity/Enemy/Orc/orcface", Sprites.regionName("Entity/Enemy/Orc/orcface.png"));
+        assertEquals("xporb", Sprites.regionName("xporb.png"));
+        assertEquals("Weapon/Sword/sword-effect", Sprites.regionName("Weapon\\Sword\\sword-effect.png"));
+        assertEquals("Entity/Player/static1", Sprites.regionName("Entity/Player/static1"));
+    }
+
+    /**
+     * Vérifie qu'aucun sprite n'est chargé sans contexte graphique (tests, simulation sans fichiers).
+     */
+    @Test
+    public void testGet_WithoutFiles_ReturnsNull() {
+        assertNull(Sprites.get("Entity/Enemy/Orc/orcface.png"));
+        assertNull(Sprites.get(null));
+        Sprites.dispose();
+    }
+
+    /**
+     * Vérifie qu'un sprite introuvable n'est cherché qu'une fois : les entités suivantes ne relisent pas le disque.
+     */
+    @Test
+    public void testGet_CachesFailure() {
+        Files files = mock(Files.class);
+        when(files.internal(anyString())).thenReturn(mock(FileHandle.class));
+        Gdx.files = files;
+
+        assertNull(Sprites.get("Entity/missing.png"));
+        assertNull(Sprites.get("Entity/missing.png"));
+
+        verify(files, times(1)).internal("Entity/missing.png");
+        Sprites.dispose();
+    }
+}
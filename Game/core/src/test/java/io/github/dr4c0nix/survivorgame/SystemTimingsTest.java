@@ -0,0 +1,61 @@
+package io.github.dr4c0nix.survivorgame;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests unitaires pour {@link SystemTimings}.
+ */
+public class SystemTimingsTest {
+
+    /**
+     * Vérifie que mark cumule le temps du système et renvoie l'instant courant.
+     */
+    @Test
+    public void testMark_AccumulatesElapsedTime() {
+        SystemTimings timings = new SystemTimings();
+        long start = System.nanoTime() - 5_000L;
+
+        long now = timings.mark(SystemTimings.ENEMIES, start);
+
+        assertTrue(now >= start + 5_000L);
+        assertTrue(timings.getTotalNanos(SystemTimings.ENEMIES) >= 5_000L);
+        assertEquals(timings.getTotalNanos(SystemTimings.ENEMIES), timings.getMaxNanos(SystemTimings.ENEMIES));
+        assertEquals(0L, timings.getTotalNanos(SystemTimings.SPAWN));
+    }
+
+    /**
+     * Vérifie que la moyenne est calculée par tick et que reset remet tout à zéro.
+     */
+    @Test
+    public void testAverageAndReset() {
+        SystemTimings timings = new SystemTimings();
+        assertEquals(0.0, timings.getAverageMicros(SystemTimings.ORBS), 0.0);
+
+        timings.mark(SystemTimings.ORBS, System.nanoTime() - 4_000L);
+        timings.endTick();
+        timings.endTick();
+
+        assertEquals(2L, timings.getTicks());
+        assertTrue(timings.getAverageMicros(SystemTimings.ORBS) >= 2.0);
+
+        timings.reset();
+
+        assertEquals(0L, timings.getTicks());
+        assertEquals(0L, timings.getTotalNanos(SystemTimings.ORBS));
+        assertEquals(0L, timings.getMaxNanos(SystemTimings.ORBS));
+    }
+
+    /**
+     * Vérifie que le tableau lisible contient une ligne par système.
+     */
+    @Test
+    public void testDescribe_ListsEverySystem() {
+        String text = new SystemTimings().describe();
+
+        for (int i = 0; i < SystemTimings.COUNT; i++) {
+            assertTrue(text.contains(SystemTimings.getName(i)));
+        }
+    }
+}
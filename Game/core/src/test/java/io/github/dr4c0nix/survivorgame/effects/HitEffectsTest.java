@@ -0,0 +1,88 @@
+package io.github.dr4c0nix.survivorgame.effects;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitaires pour {@link HitEffects}.
+ * Vérifient la durée de vie des effets, la capacité fixe et le dessin des étincelles (sans police).
+ */
+public class HitEffectsTest {
+
+    private HitEffects effects;
+
+    @Before
+    public void setUp() {
+        effects = new HitEffects(4, 2);
+    }
+
+    /**
+     * Vérifie qu'un chiffre normal expire avant un chiffre critique.
+     */
+    @Test
+    public void testUpdate_CritNumbersLiveLonger() {
+        effects.spawnDamageNumber(0f, 0f, 12, false);
+        effects.spawnDamageNumber(0f, 0f, 30, true);
+        assertEquals(2, effects.getActiveNumberCount());
+
+        effects.update(0.7f);
+
+        assertEquals(1, effects.getActiveNumberCount());
+        assertTrue("Seul le critique doit rester", effects.isNumberCrit(0));
+        assertEquals(30, effects.getNumberValue(0));
+
+        effects.update(0.3f);
+        assertEquals(0, effects.getActiveNumberCount());
+    }
+
+    /**
+     * Vérifie que la capacité est fixe : au-delà, les effets existants sont remplacés.
+     */
+    @Test
+    public void testSpawn_CapacityIsFixed() {
+        for (int i = 0; i < 10; i++) {
+            effects.spawnDamageNumber(0f, 0f, i, false);
+            effects.spawnSpark(0f, 0f, null, 0f, false);
+        }
+
+        assertEquals(4, effects.getActiveNumberCount());
+        assertEquals(2, effects.getActiveSparkCount());
+    }
+
+    /**
+     * Vérifie que les étincelles sont dessinées avec leur texture et que la couleur du batch est restaurée.
+     */
+    @Test
+    public void testDraw_DrawsSparksAndRestoresColor() {
+        SpriteBatch batch = mock(SpriteBatch.class);
+        when(batch.getColor()).thenReturn(new Color(Color.WHITE));
+        TextureRegion region = mock(TextureRegion.class);
+
+        effects.spawnSpark(10f, 20f, region, 45f, true);
+        effects.draw(batch);
+
+        verify(batch).draw(eq(region), anyFloat(), anyFloat(), anyFloat(), anyFloat(), anyFloat(), anyFloat(), eq(1f), eq(1f), eq(45f));
+        verify(batch).setColor(1f, 1f, 1f, 1f);
+    }
+
+    /**
+     * Vérifie que clear supprime tous les effets.
+     */
+    @Test
+    public void testClear() {
+        effects.spawnDamageNumber(0f, 0f, 5, false);
+        effects.spawnSpark(0f, 0f, null, 0f, false);
+
+        effects.clear();
+
+        assertEquals(0, effects.getActiveNumberCount());
+        assertEquals(0, effects.getActiveSparkCount());
+    }
+}
@@ -0,0 +1,177 @@
+package io.github.dr4c0nix.survivorgame.entities;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import io.github.dr4c0nix.survivorgame.JobGraph;
+import io.github.dr4c0nix.survivorgame.WorldContext;
+import io.github.dr4c0nix.survivorgame.entities.enemy.ClassicEnemy;
+import io.github.dr4c0nix.survivorgame.entities.enemy.Orc;
+import io.github.dr4c0nix.survivorgame.entities.player.Player;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests unitaires pour {@link EnemyUpdater}.
+ * Le monde est un contexte minimal écrit à la main (sans mock) car il est lu par plusieurs threads.
+ */
+public class EnemyUpdaterTest {
+    private static final float DELTA = 1f / 60f;
+
+    private EnemyUpdater parallel;
+
+    @Before
+    public void setUp() {
+        Gdx.files = null;
+        Gdx.graphics = null;
+        parallel = new EnemyUpdater(4);
+    }
+
+    @After
+    public void tearDown() {
+        parallel.dispose();
+    }
+
+    /**
+     * Vérifie qu'une foule mise à jour en parallèle finit exactement aux mêmes positions qu'en série.
+     */
+    @Test
+    public void testParallelUpdate_MatchesSerialUpdate() {
+        ArrayList<ClassicEnemy> serialCrowd = crowd(200);
+        ArrayList<ClassicEnemy> parallelCrowd = crowd(200);
+        EnemyUpdater serial = new EnemyUpdater(1);
+
+        for (int tick = 0; tick < 30; tick++) {
+            serial.update(serialCrowd, DELTA);
+            parallel.update(parallelCrowd, DELTA);
+        }
+
+        assertEquals(7, parallel.getLastChunkCount());
+        assertEquals(0, serial.getLastChunkCount());
+        for (int i = 0; i < serialCrowd.size(); i++) {
+            assertEquals(serialCrowd.get(i).getPosition().x, parallelCrowd.get(i).getPosition().x, 0f);
+            assertEquals(serialCrowd.get(i).getPosition().y, parallelCrowd.get(i).getPosition().y, 0f);
+        }
+    }
+
+    /**
+     * Vérifie qu'une petite foule reste sur le thread appelant.
+     */
+    @Test
+    public void testSmallCrowd_StaysSerial() {
+        ArrayList<ClassicEnemy> enemies = crowd(EnemyUpdater.PARALLEL_THRESHOLD - 1);
+        Vector2 before = new Vector2(enemies.get(0).getPosition());
+
+        parallel.update(enemies, DELTA);
+
+        assertEquals(0, parallel.getLastChunkCount());
+        assertNotEquals("Les ennemis doivent quand même avancer", before, enemies.get(0).getPosition());
+    }
+
+    /**
+     * Vérifie qu'un updater branché sur le pool du graphe de jobs, appelé depuis un job,
+     * découpe la foule dans ce pool, donne le même résultat qu'en série et ne l'arrête pas.
+     */
+    @Test
+    public void testSharedPool_MatchesSerialAndIsNotShutDown() {
+        final ArrayList<ClassicEnemy> serialCrowd = crowd(200);
+        final ArrayList<ClassicEnemy> sharedCrowd = crowd(200);
+        EnemyUpdater serial = new EnemyUpdater(1);
+        JobGraph graph = new JobGraph(4);
+        final EnemyUpdater shared = new EnemyUpdater(graph.getPool());
+        graph.add("enemies", 0, 1, new JobGraph.Work() {
+            @Override
+            public void run(float delta) {
+                shared.update(sharedCrowd, delta);
+            }
+        });
+
+        try {
+            for (int tick = 0; tick < 30; tick++) {
+                serial.update(serialCrowd, DELTA);
+                graph.run(DELTA, null);
+            }
+
+            assertEquals(7, shared.getLastChunkCount());
+            for (int i = 0; i < serialCrowd.size(); i++) {
+                assertEquals(serialCrowd.get(i).getPosition().x, sharedCrowd.get(i).getPosition().x, 0f);
+                assertEquals(serialCrowd.get(i).getPosition().y, sharedCrowd.get(i).getPosition().y, 0f);
+            }
+            shared.dispose();
+            assertFalse("Le pool partagé appartient au graphe", graph.getPool().isShutdown());
+        } finally {
+            graph.dispose();
+        }
+    }
+
+    /** Foule serrée (séparation active) d'orcs marchant vers un joueur fixe. */
+    private static ArrayList<ClassicEnemy> crowd(int count) {
+        ArrayList<ClassicEnemy> enemies = new ArrayList<>();
+        StaticWorld world = new StaticWorld(enemies);
+        for (int i = 0; i < count; i++) {
+            Orc orc = new Orc();
+            orc.activate(new Vector2((i % 20) * 12f, (i / 20) * 12f));
+            orc.setGameplay(world);
+            enemies.add(orc);
+        }
+        return enemies;
+    }
+
+    /** Monde en lecture seule : joueur immobile, pas de champ de flux ni d'obstacle. */
+    private static class StaticWorld implements WorldContext {
+        private final Player player = new Player(new Vector2(600, 400));
+        private final ArrayList<ClassicEnemy> enemies;
+
+        StaticWorld(ArrayList<ClassicEnemy> enemies) {
+            this.enemies = enemies;
+        }
+
+        @Override
+        public boolean isColliding(Rectangle rect) {
+            return false;
+        }
+
+        @Override
+        public Player getPlayer() {
+            return player;
+        }
+
+        @Override
+        public Vector2 getDirection(int x, int y) {
+            return null;
+        }
+
+        @Override
+        public int getFlowVersion() {
+            return 0;
+        }
+
+        @Override
+        public ArrayList<ClassicEnemy> getActiveClassicEnemies() {
+            return enemies;
+        }
+
+        @Override
+        public float getElapsedTime() {
+            return 0f;
+        }
+
+        @Override
+        public EntityFactory getEntityFactory() {
+            return null;
+        }
+
+        @Override
+        public void showLevelUpScreen() {
+        }
+
+        @Override
+        public void onGameOver() {
+        }
+    }
+}
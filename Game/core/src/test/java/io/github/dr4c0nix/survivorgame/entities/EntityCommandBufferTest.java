@@ -0,0 +1,114 @@
+package io.github.dr4c0nix.survivorgame.entities;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.math.Vector2;
+import io.github.dr4c0nix.survivorgame.entities.enemy.ClassicEnemy;
+import io.github.dr4c0nix.survivorgame.screens.Gameplay;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests unitaires pour {@link EntityCommandBuffer}.
+ * Vérifient que les commandes sont différées jusqu'au flush puis appliquées à la factory.
+ */
+public class EntityCommandBufferTest {
+
+    private EntityFactory entityFactory;
+    private EntityCommandBuffer commandBuffer;
+
+    /**
+     * Prépare une factory réelle (sans textures) et le tampon associé.
+     */
+    @Before
+    public void setUp() {
+        Gdx.files = null;
+        entityFactory = new EntityFactory(mock(Gameplay.class));
+        commandBuffer = new EntityCommandBuffer(entityFactory);
+    }
+
+    @After
+    public void tearDown() {
+        Gdx.files = null;
+    }
+
+    /**
+     * Vérifie qu'un despawn d'ennemi n'est appliqué qu'au flush.
+     */
+    @Test
+    public void testDespawnEnemy_AppliedOnFlush() {
+        ClassicEnemy enemy = entityFactory.obtainEnemy("Orc", new Vector2(10, 10));
+
+        commandBuffer.despawnEnemy(enemy);
+        assertTrue("L'ennemi doit rester actif avant le flush", entityFactory.getActiveEnemies().contains(enemy));
+        assertEquals(1, commandBuffer.getPendingCount());
+
+        commandBuffer.flush();
+        assertFalse("L'ennemi doit être libéré après le flush", entityFactory.getActiveEnemies().contains(enemy));
+        assertTrue("Le tampon doit être vide après le flush", commandBuffer.isEmpty());
+    }
+
+    /**
+     * Vérifie qu'une orbe demandée apparaît au flush avec la bonne valeur et position.
+     */
+    @Test
+    public void testSpawnOrb_AppliedOnFlush() {
+        commandBuffer.spawnOrb(40f, 60f, 25, 8f);
+        assertEquals("Aucune orbe ne doit exister avant le flush", 0, entityFactory.getActiveOrbs().size());
+
+        commandBuffer.flush();
+
+        assertEquals(1, entityFactory.getActiveOrbs().size());
+        OrbXp orb = entityFactory.getActiveOrbs().get(0);
+        assertEquals(25, orb.getXpValue());
+        assertEquals(8f, orb.getOrbSize(), 0.001f);
+        assertEquals(40f, orb.getPosition().x, 0.001f);
+        assertEquals(60f, orb.getPosition().y, 0.001f);
+    }
+
+    /**
+     * Vérifie que les despawns de projectiles et d'orbes sont appliqués au flush.
+     */
+    @Test
+    public void testDespawnProjectileAndOrb_AppliedOnFlush() {
+        Projectile projectile = entityFactory.obtainProjectile(new Vector2(0, 0), new Vector2(1, 0), 100, 200, 10, 1f, 16, 16, "proj.png", null);
+        OrbXp orb = entityFactory.obtainOrbXp(5f, 5f, 10, OrbXp.getDefaultOrbSize());
+
+        commandBuffer.despawnProjectile(projectile);
+        commandBuffer.despawnOrb(orb);
+        commandBuffer.flush();
+
+        assertTrue(entityFactory.getActiveProjectiles().isEmpty());
+        assertTrue(entityFactory.getActiveOrbs().isEmpty());
+    }
+
+    /**
+     * Vérifie que le tampon grandit au-delà de sa capacité initiale sans perdre de commande.
+     */
+    @Test
+    public void testSpawnOrb_GrowsBeyondInitialCapacity() {
+        for (int i = 0; i < 200; i++) {
+            commandBuffer.spawnOrb(i, i, i, 6f);
+        }
+        commandBuffer.flush();
+
+        assertEquals(200, entityFactory.getActiveOrbs().size());
+        assertEquals(199, entityFactory.getActiveOrbs().get(199).getXpValue());
+    }
+
+    /**
+     * Vérifie que clear abandonne les commandes sans les appliquer.
+     */
+    @Test
+    public void testClear_DropsPendingCommands() {
+        commandBuffer.spawnOrb(1f, 1f, 1, 6f);
+        commandBuffer.clear();
+        commandBuffer.flush();
+
+        assertTrue(commandBuffer.isEmpty());
+        assertEquals(0, entityFactory.getActiveOrbs().size());
+    }
+}
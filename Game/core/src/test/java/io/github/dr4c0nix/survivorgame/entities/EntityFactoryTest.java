@@ -1,6 +1,7 @@
 package io.github.dr4c0nix.survivorgame.entities;
 
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Preferences;
 import com.badlogic.gdx.math.Vector2;
 import io.github.dr4c0nix.survivorgame.entities.enemy.ClassicEnemy;
 import io.github.dr4c0nix.survivorgame.screens.Gameplay;
@@ -14,6 +15,7 @@ import java.util.ArrayList;
 
 import static org.junit.Assert.*;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 /**
  * Classe de test pour EntityFactory.
@@ -157,4 +159,68 @@ public class EntityFactoryTest {
         ArrayList<String> after = entityFactory.getAvailableEnemyTypes();
         assertTrue("Après dispose, il ne doit plus y avoir de types disponibles", after.isEmpty());
     }
-}
\ No newline at end of file
+
+    /**
+     * Vérifie que les compteurs de pool suivent obtains, frees et high-water mark.
+     */
+    @Test
+    public void testPoolStats_TrackEnemyPoolUsage() {
+        ClassicEnemy first = entityFactory.obtainEnemy("Orc", new Vector2(0, 0));
+        ClassicEnemy second = entityFactory.obtainEnemy("Orc", new Vector2(10, 0));
+        entityFactory.releaseEnemy(first);
+        entityFactory.releaseEnemy(second);
+        entityFactory.obtainEnemy("Orc", new Vector2(20, 0));
+
+        PoolStats orcStats = null;
+        for (PoolStats stats : entityFactory.getPoolStats()) {
+            if ("enemy:Orc".equals(stats.getName())) orcStats = stats;
+        }
+        assertNotNull("Le pool des Orcs doit avoir ses compteurs", orcStats);
+        assertEquals(3, orcStats.getObtains());
+        assertEquals(2, orcStats.getFrees());
+        assertEquals("Seuls les deux premiers obtains créent un objet", 2, orcStats.getMisses());
+        assertEquals(2, orcStats.getHighWater());
+    }
+
+    /**
+     * Vérifie que le mode adaptatif pré-remplit les pools d'après le pic précédent.
+     */
+    @Test
+    public void testAdaptiveSizing_PrewarmsPoolsFromPreviousHighWater() {
+        Preferences prefs = mock(Preferences.class);
+        when(prefs.getBoolean("adaptive", true)).thenReturn(true);
+        when(prefs.getInteger("orb", 0)).thenReturn(8);
+
+        EntityFactory adaptiveFactory = new EntityFactory(mockGameplay, new PoolSizing(prefs));
+
+        assertEquals(10, adaptiveFactory.getOrbXpPool().getFree());
+        adaptiveFactory.obtainOrbXp(0f, 0f, 1, 12f);
+        assertEquals("Un pool pré-rempli ne doit pas créer d'objet", 0, adaptiveFactory.getPoolStats().get(0).getMisses());
+    }
+
+    /**
+     * Vérifie que les pools des types de projectiles sont créés et pré-remplis à la construction,
+     * pour que le premier tir de la partie ne crée pas d'objets.
+     */
+    @Test
+    public void testAdaptiveSizing_PrewarmsProjectilePoolsAtConstruction() {
+        String poolName = "projectile:" + ProjectileType.WOOD_STICK.getTexturePath();
+        Preferences prefs = mock(Preferences.class);
+        when(prefs.getBoolean("adaptive", true)).thenReturn(true);
+        when(prefs.getInteger(poolName, 0)).thenReturn(8);
+
+        EntityFactory adaptiveFactory = new EntityFactory(mockGameplay, new PoolSizing(prefs));
+
+        PoolStats stickStats = null;
+        for (PoolStats stats : adaptiveFactory.getPoolStats()) {
+            if (poolName.equals(stats.getName())) stickStats = stats;
+        }
+        assertNotNull("Le pool du projectile du WoodStick doit exister avant le premier tir", stickStats);
+
+        for (int i = 0; i < 8; i++) {
+            adaptiveFactory.obtainProjectile(new Vector2(0, 0), new Vector2(1, 0), 100f, 50f, 10, 1f,
+                ProjectileType.WOOD_STICK.getWidth(), ProjectileType.WOOD_STICK.getHeight(), ProjectileType.WOOD_STICK.getTexturePath(), null);
+        }
+        assertEquals("Un pool pré-rempli ne doit pas créer d'objet", 0, stickStats.getMisses());
+    }
+}
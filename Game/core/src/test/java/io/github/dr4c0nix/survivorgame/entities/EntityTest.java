@@ -205,4 +205,24 @@ public class EntityTest {
         testEntity.setTexture(mockTexture);
         assertEquals("La texture doit être récupérable", mockTexture, testEntity.getTexture());
     }
-}
\ No newline at end of file
+
+    /**
+     * Vérifie que la position de rendu est interpolée entre le tick précédent et le tick courant,
+     * et qu'une téléportation (setPosition) annule l'interpolation.
+     */
+    @Test
+    public void testInterpolate_BlendsPreviousAndCurrentPosition() {
+        assertEquals(100f, testEntity.getRenderX(), 0.001f);
+
+        testEntity.savePreviousPosition();
+        testEntity.getPosition().add(10f, -20f);
+        testEntity.interpolate(0.5f);
+
+        assertEquals(105f, testEntity.getRenderX(), 0.001f);
+        assertEquals(190f, testEntity.getRenderY(), 0.001f);
+
+        testEntity.setPosition(0f, 0f);
+        assertEquals(0f, testEntity.getRenderX(), 0.001f);
+        assertEquals(0f, testEntity.getRenderY(), 0.001f);
+    }
+}
@@ -0,0 +1,174 @@
+package io.github.dr4c0nix.survivorgame.entities;
+
+import com.badlogic.gdx.Gdx;
+import io.github.dr4c0nix.survivorgame.screens.Gameplay;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests unitaires pour {@link OrbCoalescer}.
+ * Vérifient la fusion des orbes proches, la conservation de l'XP et le respect du plafond.
+ */
+public class OrbCoalescerTest {
+
+    private EntityFactory entityFactory;
+    private EntityCommandBuffer commandBuffer;
+    private OrbCoalescer coalescer;
+
+    /**
+     * Prépare une factory réelle (sans textures), son tampon de commandes et le coalesceur.
+     */
+    @Before
+    public void setUp() {
+        Gdx.files = null;
+        entityFactory = new EntityFactory(mock(Gameplay.class));
+        commandBuffer = new EntityCommandBuffer(entityFactory);
+        coalescer = new OrbCoalescer(commandBuffer);
+    }
+
+    @After
+    public void tearDown() {
+        Gdx.files = null;
+    }
+
+    /**
+     * Vérifie que deux orbes proches fusionnent en une seule portant la somme de l'XP.
+     */
+    @Test
+    public void testCoalesce_MergesCloseOrbs() {
+        OrbXp first = entityFactory.obtainOrbXp(100f, 100f, 10, 12f);
+        entityFactory.obtainOrbXp(110f, 100f, 30, 12f);
+
+        int alive = coalescer.coalesce(entityFactory.getActiveOrbs(), 40f);
+        commandBuffer.flush();
+
+        assertEquals(1, alive);
+        assertEquals(1, entityFactory.getActiveOrbs().size());
+        assertSame(first, entityFactory.getActiveOrbs().get(0));
+        assertEquals(40, first.getXpValue());
+        assertTrue("La taille doit croître avec la fusion", first.getOrbSize() > 12f);
+        // centre pondéré par l'XP : 106 + 0.75 * 10 = 113.5
+        float centerX = first.getPosition().x + first.getOrbSize() * 0.5f;
+        assertEquals(113.5f, centerX, 0.01f);
+    }
+
+    /**
+     * Vérifie que des orbes éloignées ne sont pas fusionnées.
+     */
+    @Test
+    public void testCoalesce_KeepsDistantOrbs() {
+        entityFactory.obtainOrbXp(0f, 0f, 10, 12f);
+        entityFactory.obtainOrbXp(500f, 500f, 10, 12f);
+
+        int alive = coalescer.coalesce(entityFactory.getActiveOrbs(), 40f);
+        commandBuffer.flush();
+
+        assertEquals(2, alive);
+        assertEquals(2, entityFactory.getActiveOrbs().size());
+    }
+
+    /**
+     * Vérifie que la passe ne tourne qu'à l'intervalle prévu quand le plafond n'est pas atteint.
+     */
+    @Test
+    public void testUpdate_WaitsForIntervalBelowCap() {
+        entityFactory.obtainOrbXp(100f, 100f, 10, 12f);
+        entityFactory.obtainOrbXp(105f, 100f, 10, 12f);
+
+        coalescer.update(coalescer.getInterval() * 0.5f, entityFactory.getActiveOrbs());
+        commandBuffer.flush();
+        assertEquals(2, entityFactory.getActiveOrbs().size());
+
+        coalescer.update(coalescer.getInterval(), entityFactory.getActiveOrbs());
+        commandBuffer.flush();
+        assertEquals(1, entityFactory.getActiveOrbs().size());
+    }
+
+    /**
+     * Vérifie qu'au-delà du plafond la fusion est immédiate, ramène le nombre d'orbes
+     * sous le plafond et conserve l'XP totale.
+     */
+    @Test
+    public void testUpdate_OverCapMergesImmediatelyAndKeepsTotalXp() {
+        coalescer.setMaxOrbs(20);
+        int totalXp = 0;
+        for (int x = 0; x < 10; x++) {
+            for (int y = 0; y < 10; y++) {
+                entityFactory.obtainOrbXp(x * 30f, y * 30f, 5, 12f);
+                totalXp += 5;
+            }
+        }
+
+        coalescer.update(0f, entityFactory.getActiveOrbs());
+        commandBuffer.flush();
+
+        assertTrue("Le nombre d'orbes doit repasser sous le plafond", entityFactory.getActiveOrbs().size() <= 20);
+        int remainingXp = 0;
+        for (OrbXp orb : entityFactory.getActiveOrbs()) {
+            remainingXp += orb.getXpValue();
+            assertTrue(orb.getOrbSize() <= coalescer.getMaxOrbSize());
+        }
+        assertEquals(totalXp, remainingXp);
+    }
+
+    /**
+     * Vérifie que les orbes déjà ramassées (inactives) sont ignorées.
+     */
+    @Test
+    public void testCoalesce_IgnoresDeadOrbs() {
+        OrbXp picked = entityFactory.obtainOrbXp(100f, 100f, 10, 12f);
+        OrbXp other = entityFactory.obtainOrbXp(105f, 100f, 10, 12f);
+        picked.setAlive(false);
+
+        coalescer.coalesce(entityFactory.getActiveOrbs(), 40f);
+
+        assertEquals(10, other.getXpValue());
+        assertTrue(commandBuffer.isEmpty());
+    }
+
+    /**
+     * Vérifie que des orbes trop dispersées pour fusionner ne déclenchent pas une passe à chaque tick
+     * quand le plafond est dépassé.
+     */
+    @Test
+    public void testUpdate_OverCapWithSpreadOrbsIsRateLimited() {
+        // 13 x 13 = 169 orbes (plafond 150), espacées de plus de 8 fois le rayon de fusion
+        float spacing = coalescer.getMergeRadius() * 8f + 80f;
+        for (int x = 0; x < 13; x++) {
+            for (int y = 0; y < 13; y++) {
+                entityFactory.obtainOrbXp(x * spacing, y * spacing, 5, 12f);
+            }
+        }
+
+        final float delta = 1f / 60f;
+        final int ticks = 60;
+        for (int i = 0; i < ticks; i++) {
+            coalescer.update(delta, entityFactory.getActiveOrbs());
+        }
+        commandBuffer.flush();
+
+        assertEquals("Aucune orbe ne doit fusionner", 169, entityFactory.getActiveOrbs().size());
+        assertTrue("Une passe a tourné presque à chaque tick : " + coalescer.getPassCount(),
+            coalescer.getPassCount() <= (int) (ticks * delta / OrbCoalescer.FORCED_COOLDOWN) + 1);
+    }
+
+    /**
+     * Vérifie que les orbes mortes en attente de flush ne comptent pas dans le plafond.
+     */
+    @Test
+    public void testUpdate_DeadOrbsDoNotTripCap() {
+        coalescer.setMaxOrbs(5);
+        for (int i = 0; i < 8; i++) {
+            OrbXp orb = entityFactory.obtainOrbXp(i * 500f, 0f, 5, 12f);
+            if (i < 4) orb.setAlive(false);
+        }
+
+        coalescer.update(1f / 60f, entityFactory.getActiveOrbs());
+
+        assertEquals("4 orbes vivantes sous le plafond : pas de passe forcée", 0, coalescer.getPassCount());
+    }
+}
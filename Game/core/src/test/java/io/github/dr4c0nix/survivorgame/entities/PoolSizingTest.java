@@ -0,0 +1,116 @@
+package io.github.dr4c0nix.survivorgame.entities;
+
+import com.badlogic.gdx.Preferences;
+import com.badlogic.gdx.utils.Pool;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.HashMap;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitaires pour {@link PoolSizing}.
+ * Les Preferences sont mockées.
+ */
+public class PoolSizingTest {
+
+    private Preferences mockPrefs;
+
+    @Before
+    public void setUp() {
+        mockPrefs = mock(Preferences.class);
+        when(mockPrefs.getBoolean("adaptive", true)).thenReturn(true);
+    }
+
+    /**
+     * Vérifie que le pré-remplissage suit le pic précédent avec marge, plafonné au max.
+     */
+    @Test
+    public void testGetPrewarmSize_UsesPreviousHighWater() {
+        when(mockPrefs.getInteger("enemy:Orc", 0)).thenReturn(40);
+        when(mockPrefs.getInteger("orb", 0)).thenReturn(1000);
+        PoolSizing sizing = new PoolSizing(mockPrefs);
+
+        assertEquals(50, sizing.getPrewarmSize("enemy:Orc", 512));
+        assertEquals(512, sizing.getPrewarmSize("orb", 512));
+        assertEquals(0, sizing.getPrewarmSize("projectile:inconnu", 256));
+    }
+
+    /**
+     * Vérifie qu'aucun pré-remplissage n'a lieu sans Preferences ou en mode non adaptatif.
+     */
+    @Test
+    public void testGetPrewarmSize_DisabledWithoutAdaptiveMode() {
+        assertEquals(0, new PoolSizing(null).getPrewarmSize("orb", 512));
+
+        when(mockPrefs.getBoolean("adaptive", true)).thenReturn(false);
+        when(mockPrefs.getInteger("orb", 0)).thenReturn(100);
+        assertEquals(0, new PoolSizing(mockPrefs).getPrewarmSize("orb", 512));
+    }
+
+    /**
+     * Vérifie que record enregistre le high-water mark et que save écrit sur disque.
+     */
+    @Test
+    public void testRecordAndSave() {
+        PoolSizing sizing = new PoolSizing(mockPrefs);
+        PoolStats stats = new PoolStats("orb");
+        stats.recordObtain(new com.badlogic.gdx.utils.Pool<Object>() {
+            @Override
+            protected Object newObject() {
+                return new Object();
+            }
+        });
+
+        sizing.record(stats);
+        sizing.save();
+
+        verify(mockPrefs).putInteger("orb", 1);
+        verify(mockPrefs).flush();
+    }
+
+    /**
+     * Vérifie qu'une petite partie après une grosse ne fait pas retomber le pré-remplissage :
+     * le pic précédent ne perd que 10 % par partie.
+     */
+    @Test
+    public void testRecord_SmallRunAfterLargeRunKeepsPrewarm() {
+        final HashMap<String, Integer> stored = new HashMap<>();
+        when(mockPrefs.getInteger(anyString(), anyInt())).thenAnswer(invocation -> {
+            Integer value = stored.get(invocation.getArgument(0));
+            return value != null ? value : (Integer) invocation.getArgument(1);
+        });
+        when(mockPrefs.putInteger(anyString(), anyInt())).thenAnswer(invocation -> {
+            stored.put(invocation.getArgument(0), invocation.getArgument(1));
+            return mockPrefs;
+        });
+        PoolSizing sizing = new PoolSizing(mockPrefs);
+
+        sizing.record(statsWithHighWater("orb", 200));
+        assertEquals(250, sizing.getPrewarmSize("orb", 512));
+
+        sizing.record(statsWithHighWater("orb", 10));
+        assertEquals(180, stored.get("orb").intValue());
+        assertEquals(225, sizing.getPrewarmSize("orb", 512));
+
+        sizing.record(statsWithHighWater("orb", 300));
+        assertEquals(300, stored.get("orb").intValue());
+    }
+
+    /** Compteurs d'un pool dont le pic d'utilisation vaut {@code highWater}. */
+    private static PoolStats statsWithHighWater(String name, int highWater) {
+        Pool<Object> pool = new Pool<Object>() {
+            @Override
+            protected Object newObject() {
+                return new Object();
+            }
+        };
+        PoolStats stats = new PoolStats(name);
+        for (int i = 0; i < highWater; i++) {
+            stats.recordObtain(pool);
+        }
+        return stats;
+    }
+}
@@ -0,0 +1,86 @@
+package io.github.dr4c0nix.survivorgame.entities;
+
+import com.badlogic.gdx.utils.Pool;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests unitaires pour {@link PoolStats}.
+ * Vérifient les compteurs obtains / frees / misses / high-water / discarded sur un vrai Pool.
+ */
+public class PoolStatsTest {
+
+    private Pool<Object> pool;
+    private PoolStats stats;
+
+    @Before
+    public void setUp() {
+        pool = new Pool<Object>(4, 2) {
+            @Override
+            protected Object newObject() {
+                return new Object();
+            }
+        };
+        stats = new PoolStats("test");
+    }
+
+    private Object obtain() {
+        stats.recordObtain(pool);
+        return pool.obtain();
+    }
+
+    private void free(Object object) {
+        stats.recordFree(pool);
+        pool.free(object);
+    }
+
+    /**
+     * Vérifie qu'un obtain sur pool vide compte comme un miss, et plus après recyclage.
+     */
+    @Test
+    public void testMisses_CountOnlyWhenPoolIsEmpty() {
+        Object first = obtain();
+        free(first);
+        obtain();
+
+        assertEquals(2, stats.getObtains());
+        assertEquals(1, stats.getMisses());
+        assertEquals(1, stats.getFrees());
+    }
+
+    /**
+     * Vérifie le high-water mark et les objets jetés quand le pool est plein (max = 2).
+     */
+    @Test
+    public void testHighWaterAndDiscarded() {
+        Object a = obtain();
+        Object b = obtain();
+        Object c = obtain();
+        assertEquals(3, stats.getHighWater());
+        assertEquals(3, stats.getInUse());
+
+        free(a);
+        free(b);
+        free(c);
+
+        assertEquals(1, stats.getDiscarded());
+        assertEquals(0, stats.getInUse());
+        assertEquals(3, stats.getHighWater());
+    }
+
+    /**
+     * Vérifie que reset remet tous les compteurs à zéro.
+     */
+    @Test
+    public void testReset() {
+        free(obtain());
+        stats.reset();
+
+        assertEquals(0, stats.getObtains());
+        assertEquals(0, stats.getFrees());
+        assertEquals(0, stats.getMisses());
+        assertEquals(0, stats.getHighWater());
+    }
+}
@@ -185,4 +185,91 @@ public class EnemyTest {
         assertNotNull("xpDrop ne doit pas être nul", enemy.getXpDrop());
         assertEquals("getXpValue doit renvoyer la valeur attendue", enemy.getXpValue(), enemy.getXpDrop().getXpValue());
     }
-}
\ No newline at end of file
+
+    /**
+     * Vérifie que computeSteering ne déplace pas l'ennemi et que applyMovement applique la direction calculée une seule fois.
+     */
+    @Test
+    public void testTwoPhaseUpdate_MovesOnlyOnApply() {
+        when(mockGameplay.getDirection(anyInt(), anyInt())).thenReturn(null);
+        Vector2 initialPos = new Vector2(enemy.getPosition());
+
+        enemy.computeSteering();
+        assertEquals("La phase d'orientation ne doit pas déplacer l'ennemi", initialPos.x, enemy.getPosition().x, DELTA);
+
+        enemy.applyMovement(1.0f);
+        assertEquals(initialPos.x + enemy.getMovementSpeed(), enemy.getPosition().x, DELTA);
+
+        enemy.applyMovement(1.0f);
+        assertEquals("Sans nouvelle orientation, l'ennemi ne bouge plus", initialPos.x + enemy.getMovementSpeed(), enemy.getPosition().x, DELTA);
+    }
+
+    /**
+     * Vérifie qu'un ennemi lointain n'avance qu'un tick sur FAR_INTERVAL, en rattrapant le temps accumulé.
+     * Pas de 1/64 s (proche d'un vrai tick, exact en float) : le temps accumulé reste sous le plafond.
+     */
+    @Test
+    public void testFarEnemy_UpdatesAtReducedRateWithAccumulatedDelta() {
+        final float tick = 1f / 64f;
+        when(mockPlayer.getPosition()).thenReturn(new Vector2(2000, 100));
+        when(mockPlayer.getHitbox()).thenReturn(new Rectangle(2000, 100, 10, 10));
+        when(mockGameplay.getDirection(anyInt(), anyInt())).thenReturn(null);
+        float startX = enemy.getPosition().x;
+        float firstMove = 50f * tick;
+
+        enemy.update(tick);
+        assertTrue("L'ennemi doit être hors du rayon de simulation complète", enemy.isFar());
+        assertEquals("Le premier tick lointain déplace l'ennemi", startX + firstMove, enemy.getPosition().x, DELTA);
+
+        for (int i = 1; i < Enemy.FAR_INTERVAL; i++) {
+            enemy.update(tick);
+        }
+        assertEquals("Les ticks sautés ne déplacent pas l'ennemi", startX + firstMove, enemy.getPosition().x, DELTA);
+
+        enemy.update(tick);
+        assertEquals("Le temps des ticks sautés est rattrapé",
+            startX + firstMove + 50f * tick * Enemy.FAR_INTERVAL, enemy.getPosition().x, DELTA);
+    }
+
+    /**
+     * Vérifie que le temps rattrapé par un ennemi lointain est plafonné (ticks longs, par ex. après un ralentissement).
+     */
+    @Test
+    public void testFarEnemy_CapsAccumulatedDelta() {
+        when(mockPlayer.getPosition()).thenReturn(new Vector2(2000, 100));
+        when(mockPlayer.getHitbox()).thenReturn(new Rectangle(2000, 100, 10, 10));
+        when(mockGameplay.getDirection(anyInt(), anyInt())).thenReturn(null);
+        float startX = enemy.getPosition().x;
+
+        // premier tick déplacé, puis FAR_INTERVAL - 1 ticks sautés : 0.3 s accumulées, au-delà du plafond
+        for (int i = 0; i < Enemy.FAR_INTERVAL; i++) {
+            enemy.update(0.1f);
+        }
+        assertEquals(startX + 5f, enemy.getPosition().x, 1e-4f);
+
+        enemy.update(0.1f);
+        assertEquals("Seul le temps plafonné est rattrapé",
+            startX + 5f + 50f * (0.1f + Enemy.MAX_PENDING_DELTA), enemy.getPosition().x, 1e-4f);
+    }
+
+    /**
+     * Vérifie qu'un ennemi lointain ignore la séparation.
+     */
+    @Test
+    public void testFarEnemy_SkipsSeparation() {
+        Skull otherEnemy = new Skull();
+        otherEnemy.setPosition(new Vector2(101, 101));
+        otherEnemy.setAlive(true);
+        ArrayList<ClassicEnemy> enemyList = new ArrayList<>();
+        enemyList.add(otherEnemy);
+        when(mockGameplay.getActiveClassicEnemies()).thenReturn(enemyList);
+        when(mockPlayer.getHitbox()).thenReturn(new Rectangle(2000, 100, 10, 10));
+        when(mockGameplay.getDirection(anyInt(), anyInt())).thenReturn(new Vector2(1f, 0f));
+        Vector2 initialPos = new Vector2(enemy.getPosition());
+
+        enemy.update(0.1f);
+
+        assertEquals(initialPos.x + 5f, enemy.getPosition().x, DELTA);
+        assertEquals("Aucune poussée des voisins hors de la vue", initialPos.y, enemy.getPosition().y, DELTA);
+    }
+}
@@ -0,0 +1,112 @@
+package io.github.dr4c0nix.survivorgame.entities.enemy;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import io.github.dr4c0nix.survivorgame.WorldContext;
+import io.github.dr4c0nix.survivorgame.entities.player.Player;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitaires pour {@link Steering}.
+ */
+public class SteeringTest {
+
+    private static final float DELTA = 1e-6f;
+    private Steering steering;
+    private Skull self;
+    private WorldContext world;
+    private Player player;
+
+    @Before
+    public void setUp() {
+        steering = new Steering();
+        self = new Skull();
+        self.setAlive(true);
+        world = Mockito.mock(WorldContext.class);
+        player = Mockito.mock(Player.class);
+        when(player.getPosition()).thenReturn(new Vector2(500, 100));
+        when(player.getHitbox()).thenReturn(new Rectangle(500, 100, 10, 10));
+        when(world.getActiveClassicEnemies()).thenReturn(new ArrayList<ClassicEnemy>());
+        when(world.getDirection(anyInt(), anyInt())).thenReturn(new Vector2(0f, 1f));
+    }
+
+    /**
+     * Vérifie qu'un ennemi qui reste dans sa case ne redemande pas le champ de flux.
+     */
+    @Test
+    public void testSameTileAndVersion_QueriesFlowOnce() {
+        for (int i = 0; i < 10; i++) {
+            steering.steer(self, world, player, 40f + i, 40f, true);
+        }
+
+        assertEquals(1, steering.getFlowQueries());
+        verify(world, times(1)).getDirection(anyInt(), anyInt());
+        assertEquals(1f, steering.getVelocity().y, DELTA);
+    }
+
+    /**
+     * Vérifie que le changement de case ou de version du champ invalide le cache.
+     */
+    @Test
+    public void testTileOrVersionChange_RequeriesFlow() {
+        steering.steer(self, world, player, 40f, 40f, true);
+        steering.steer(self, world, player, 70f, 40f, true);
+        assertEquals("Nouvelle case : nouvelle requête", 2, steering.getFlowQueries());
+
+        when(world.getFlowVersion()).thenReturn(1);
+        when(world.getDirection(anyInt(), anyInt())).thenReturn(new Vector2(-1f, 0f));
+        steering.steer(self, world, player, 70f, 40f, true);
+
+        assertEquals("Nouveau champ : nouvelle requête", 3, steering.getFlowQueries());
+        assertEquals(-1f, steering.getVelocity().x, DELTA);
+
+        steering.invalidate();
+        steering.steer(self, world, player, 70f, 40f, true);
+        assertEquals(4, steering.getFlowQueries());
+    }
+
+    /**
+     * Vérifie que l'absence de direction est aussi mise en cache et que l'ennemi vise alors le joueur.
+     */
+    @Test
+    public void testMissingFlow_FallsBackToPlayerAndIsCached() {
+        when(world.getDirection(anyInt(), anyInt())).thenReturn(null);
+
+        steering.steer(self, world, player, 40f, 105f, true);
+        steering.steer(self, world, player, 41f, 105f, true);
+
+        assertEquals(1, steering.getFlowQueries());
+        assertEquals(1f, steering.getVelocity().x, DELTA);
+        assertEquals(0f, steering.getVelocity().y, DELTA);
+    }
+
+    /**
+     * Vérifie que la séparation écarte l'ennemi d'un voisin proche, sauf si elle est désactivée.
+     */
+    @Test
+    public void testSeparation_BlendedOnlyWhenRequested() {
+        self.setPosition(new Vector2(100, 100));
+        Skull neighbour = new Skull();
+        neighbour.setPosition(new Vector2(100, 101));
+        neighbour.setAlive(true);
+        ArrayList<ClassicEnemy> enemies = new ArrayList<ClassicEnemy>();
+        enemies.add(neighbour);
+        when(world.getActiveClassicEnemies()).thenReturn(enemies);
+        when(world.getDirection(anyInt(), anyInt())).thenReturn(new Vector2(1f, 0f));
+
+        steering.steer(self, world, player, 110f, 110f, false);
+        assertEquals(0f, steering.getVelocity().y, DELTA);
+
+        steering.steer(self, world, player, 110f, 110f, true);
+        assertTrue("Le voisin au-dessus doit repousser vers le bas", steering.getVelocity().y < 0f);
+        assertEquals(1f, steering.getVelocity().len(), 1e-5f);
+    }
+}
@@ -0,0 +1,88 @@
+package io.github.dr4c0nix.survivorgame.replay;
+
+import io.github.dr4c0nix.survivorgame.GameRandom;
+import io.github.dr4c0nix.survivorgame.GameWorld;
+import io.github.dr4c0nix.survivorgame.entities.player.Player;
+import io.github.dr4c0nix.survivorgame.screens.UpgradeOption;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitaires pour {@link AutoLevelUp}.
+ */
+public class AutoLevelUpTest {
+
+    private GameWorld world;
+    private Player player;
+
+    /**
+     * Monde simulé avec une graine fixe et un joueur au niveau 5 (améliorations numériques).
+     */
+    @Before
+    public void setUp() {
+        world = mock(GameWorld.class);
+        player = mock(Player.class);
+        when(player.getLevel()).thenReturn(5);
+        when(world.getPlayer()).thenReturn(player);
+        when(world.getRandom()).thenReturn(new GameRandom(99L));
+        when(world.getTickCount()).thenReturn(120);
+    }
+
+    /**
+     * Vérifie que le choix enregistré est appliqué après le tick puis réenregistré à l'identique.
+     */
+    @Test
+    public void testReplaying_AppliesRecordedChoice() {
+        Replay replay = new Replay(99L, 60, 60f);
+        replay.addChoice(120, 1);
+        Replay copy = new Replay(99L, 60, 60f);
+        AutoLevelUp levelUps = AutoLevelUp.replaying(world, replay);
+        levelUps.setRecording(copy);
+
+        levelUps.onLevelUp();
+        assertTrue(levelUps.hasPending());
+        levelUps.applyPending();
+
+        assertFalse(levelUps.hasPending());
+        assertEquals(1, copy.getChoice(120));
+    }
+
+    /**
+     * Vérifie que le chooser reçoit les options tirées dans le flux des améliorations du monde.
+     */
+    @Test
+    public void testOnLevelUp_DrawsFromUpgradeStream() {
+        final int[] seenSize = {0};
+        AutoLevelUp levelUps = new AutoLevelUp(world, new AutoLevelUp.Chooser() {
+            @Override
+            public int choose(List<UpgradeOption> options, int tick) {
+                seenSize[0] = options.size();
+                return -1;
+            }
+        });
+        Replay recording = new Replay(99L, 60, 60f);
+        levelUps.setRecording(recording);
+
+        levelUps.onLevelUp();
+        levelUps.applyPending();
+
+        assertEquals(3, seenSize[0]);
+        assertEquals("Aucun choix : rien n'est enregistré", 0, recording.getChoiceCount());
+    }
+
+    /**
+     * Vérifie qu'applyPending ne fait rien sans level-up en attente.
+     */
+    @Test
+    public void testApplyPending_NoopWithoutLevelUp() {
+        AutoLevelUp.Chooser chooser = mock(AutoLevelUp.Chooser.class);
+        new AutoLevelUp(world, chooser).applyPending();
+
+        verifyNoInteractions(chooser);
+    }
+}
@@ -0,0 +1,35 @@
+package io.github.dr4c0nix.survivorgame.replay;
+
+import io.github.dr4c0nix.survivorgame.entities.player.Player;
+import io.github.dr4c0nix.survivorgame.entities.player.PlayerInput;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitaires pour {@link InputRecorder}.
+ */
+public class InputRecorderTest {
+
+    /**
+     * Vérifie que les directions de la source sont transmises telles quelles et enregistrées dans l'ordre.
+     */
+    @Test
+    public void testPollDirections_ForwardsAndRecords() {
+        PlayerInput source = mock(PlayerInput.class);
+        Player player = mock(Player.class);
+        when(source.pollDirections(player)).thenReturn(PlayerInput.UP, PlayerInput.LEFT | PlayerInput.DOWN, 0);
+        Replay replay = new Replay(0L, 60, 60f);
+        InputRecorder recorder = new InputRecorder(source, replay);
+
+        assertEquals(PlayerInput.UP, recorder.pollDirections(player));
+        assertEquals(PlayerInput.LEFT | PlayerInput.DOWN, recorder.pollDirections(player));
+        assertEquals(0, recorder.pollDirections(player));
+
+        assertEquals(3, replay.getTickCount());
+        assertEquals(PlayerInput.UP, replay.getMask(0));
+        assertEquals(PlayerInput.LEFT | PlayerInput.DOWN, replay.getMask(1));
+        assertEquals(0, replay.getMask(2));
+    }
+}
@@ -0,0 +1,30 @@
+package io.github.dr4c0nix.survivorgame.replay;
+
+import io.github.dr4c0nix.survivorgame.entities.player.PlayerInput;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests unitaires pour {@link ReplayInput}.
+ */
+public class ReplayInputTest {
+
+    /**
+     * Vérifie que les directions sont rejouées tick par tick, puis que le joueur s'arrête.
+     */
+    @Test
+    public void testPollDirections_ReplaysThenIdles() {
+        Replay replay = new Replay(0L, 60, 60f);
+        replay.addTick(PlayerInput.RIGHT);
+        replay.addTick(PlayerInput.UP);
+        ReplayInput input = new ReplayInput(replay);
+
+        assertEquals(PlayerInput.RIGHT, input.pollDirections(null));
+        assertEquals(PlayerInput.UP, input.pollDirections(null));
+        assertFalse("Tous les ticks rejoués ne signifient pas encore un dépassement", input.isExhausted());
+
+        assertEquals(0, input.pollDirections(null));
+        assertTrue(input.isExhausted());
+    }
+}
@@ -0,0 +1,86 @@
+package io.github.dr4c0nix.survivorgame.replay;
+
+import io.github.dr4c0nix.survivorgame.entities.player.PlayerInput;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests unitaires pour {@link Replay}.
+ */
+public class ReplayTest {
+
+    /**
+     * Vérifie qu'un enregistrement écrit puis relu est identique (en-tête, directions, choix).
+     *
+     * @throws IOException si la sérialisation échoue
+     */
+    @Test
+    public void testWriteRead_RoundTrip() throws IOException {
+        Replay replay = new Replay(-42L, 120, 1800f);
+        for (int i = 0; i < 1000; i++) {
+            replay.addTick(i < 600 ? PlayerInput.UP : PlayerInput.DOWN | PlayerInput.LEFT);
+        }
+        replay.addTick(0);
+        replay.addChoice(300, 2);
+        replay.addChoice(900, 0);
+
+        Replay copy = Replay.read(new ByteArrayInputStream(toBytes(replay)));
+
+        assertEquals(-42L, copy.getSeed());
+        assertEquals(120, copy.getTickRate());
+        assertEquals(1800f, copy.getMaxTime(), 0f);
+        assertEquals(1001, copy.getTickCount());
+        for (int i = 0; i < replay.getTickCount(); i++) {
+            assertEquals(replay.getMask(i), copy.getMask(i));
+        }
+        assertEquals(2, copy.getChoice(300));
+        assertEquals(0, copy.getChoice(900));
+        assertEquals(-1, copy.getChoice(301));
+    }
+
+    /**
+     * Vérifie que les plages de directions identiques sont compactées.
+     *
+     * @throws IOException si la sérialisation échoue
+     */
+    @Test
+    public void testWrite_RunLengthEncodesTicks() throws IOException {
+        Replay replay = new Replay(1L, 60, 60f);
+        for (int i = 0; i < 3600; i++) {
+            replay.addTick(PlayerInput.RIGHT);
+        }
+
+        assertTrue("Une minute immobile doit tenir en quelques octets", toBytes(replay).length < 40);
+    }
+
+    /**
+     * Vérifie qu'un tick hors de l'enregistrement rend un joueur immobile.
+     */
+    @Test
+    public void testGetMask_OutOfRangeIsIdle() {
+        Replay replay = new Replay(1L, 60, 60f);
+        replay.addTick(PlayerInput.UP);
+
+        assertEquals(0, replay.getMask(-1));
+        assertEquals(0, replay.getMask(1));
+    }
+
+    /**
+     * Vérifie qu'un fichier qui n'est pas un enregistrement est refusé.
+     */
+    @Test(expected = IOException.class)
+    public void testRead_RejectsForeignData() throws IOException {
+        Replay.read(new ByteArrayInputStream(new byte[] {1, 2, 3, 4, 5, 6, 7, 8}));
+    }
+
+    private static byte[] toBytes(Replay replay) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        replay.write(out);
+        return out.toByteArray();
+    }
+}
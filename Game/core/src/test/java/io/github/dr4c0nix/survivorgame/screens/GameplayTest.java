@@ -4,8 +4,7 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
-import io.github.dr4c0nix.survivorgame.PathfindingMap;
-import io.github.dr4c0nix.survivorgame.entities.SpawnManager;
+import io.github.dr4c0nix.survivorgame.GameWorld;
 import io.github.dr4c0nix.survivorgame.entities.player.Player;
 import org.junit.Before;
 import org.junit.Test;
@@ -13,7 +12,6 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
 import java.lang.reflect.Field;
-import java.util.ArrayList;
 
 import static org.junit.Assert.*;
 import static org.mockito.Mockito.*;
@@ -28,9 +26,7 @@ public class GameplayTest {
     @Mock
     private Player mockPlayer;
     @Mock
-    private SpawnManager mockSpawnManager;
-    @Mock
-    private PathfindingMap mockPathfindingMap;
+    private GameWorld mockWorld;
     @Mock
     private Input mockInput;
     @Mock
@@ -53,14 +49,13 @@ public class GameplayTest {
         doCallRealMethod().when(gameplay).setIsPaused(anyBoolean());
         doCallRealMethod().when(gameplay).getIsPaused();
         doCallRealMethod().when(gameplay).isColliding(any(Rectangle.class));
-        doCallRealMethod().when(gameplay).updateDifficulty(anyFloat());
         doCallRealMethod().when(gameplay).getDirection(anyInt(), anyInt());
+        doCallRealMethod().when(gameplay).getPlayer();
         doCallRealMethod().when(gameplay).onLevelUpOverlayClosed();
         doCallRealMethod().when(gameplay).showLevelUpScreen();
 
-        injectField("player", mockPlayer);
-        injectField("spawnManager", mockSpawnManager);
-        injectField("pathfindingMap", mockPathfindingMap);
+        when(mockWorld.getPlayer()).thenReturn(mockPlayer);
+        injectField("world", mockWorld);
         injectField("levelUpOverlay", mockLevelUp);
     }
 
@@ -77,104 +72,47 @@ public class GameplayTest {
     }
 
     /**
-     * Vérifie qu'une collision est détectée quand les rectangles s'intersectent.
-     *
-     * @throws Exception si l'injection de champs échoue
-     */
-    @Test
-    public void testIsColliding_ReturnsTrueOnIntersection() throws Exception {
-        ArrayList<Rectangle> collisions = new ArrayList<>();
-        collisions.add(new Rectangle(0, 0, 32, 32));
-        collisions.add(new Rectangle(100, 100, 32, 32));
-        injectField("collisionRectangles", collisions);
-
-        Rectangle playerRect = new Rectangle(10, 10, 10, 10);
-        assertTrue("Le joueur devrait être en collision", gameplay.isColliding(playerRect));
-    }
-
-    /**
-     * Vérifie qu'aucune collision n'est signalée quand l'espace est libre.
-     *
-     * @throws Exception si l'injection de champs échoue
-     */
-    @Test
-    public void testIsColliding_ReturnsFalseOnFreeSpace() throws Exception {
-        ArrayList<Rectangle> collisions = new ArrayList<>();
-        collisions.add(new Rectangle(0, 0, 32, 32));
-        injectField("collisionRectangles", collisions);
-
-        Rectangle playerRect = new Rectangle(50, 50, 10, 10);
-        assertFalse("Le joueur ne devrait pas être en collision", gameplay.isColliding(playerRect));
-    }
-
-    /**
-     * Vérifie que isColliding gère une liste nulle sans lancer d'exception.
-     *
-     * @throws Exception si l'injection de champs échoue
+     * Vérifie que les services du monde (collisions, pathfinding, joueur) sont délégués au GameWorld.
      */
     @Test
-    public void testIsColliding_HandlesNullList() throws Exception {
-        injectField("collisionRectangles", null);
-        Rectangle rect = new Rectangle(0, 0, 10, 10);
-        assertFalse(gameplay.isColliding(rect));
-    }
-
-    /**
-     * Vérifie que la difficulté augmente (ex. appel de setSpawnInterval) selon le temps écoulé.
-     *
-     * @throws Exception si l'injection de champs échoue
-     */
-    @Test
-    public void testUpdateDifficulty_IncreasesSpawnRate() throws Exception {
-        injectField("elapsedTime", 60f);
-        when(mockPlayer.getDifficulter()).thenReturn(1.0f);
-
-        gameplay.updateDifficulty(0.1f);
+    public void testWorldContext_DelegatesToWorld() {
+        Rectangle rect = new Rectangle(10, 10, 10, 10);
+        Vector2 expectedDir = new Vector2(1, 0);
+        when(mockWorld.isColliding(rect)).thenReturn(true);
+        when(mockWorld.getDirection(64, 32)).thenReturn(expectedDir);
 
-        verify(mockSpawnManager).setSpawnInterval(anyFloat());
+        assertTrue(gameplay.isColliding(rect));
+        assertSame(expectedDir, gameplay.getDirection(64, 32));
+        assertSame(mockPlayer, gameplay.getPlayer());
     }
 
     /**
-     * Vérifie que updateDifficulty fonctionne même pour de grandes valeurs de temps (pas d'exception).
-     *
-     * @throws Exception si l'injection de champs échoue
+     * Vérifie les accesseurs setIsPaused / getIsPaused.
      */
     @Test
-    public void testUpdateDifficulty_CapsMinimumInterval() throws Exception {
-        injectField("elapsedTime", 6000f);
-        when(mockPlayer.getDifficulter()).thenReturn(100f);
-
-        gameplay.updateDifficulty(0.1f);
+    public void testSetIsPaused() {
+        gameplay.setIsPaused(true);
+        assertTrue(gameplay.getIsPaused());
 
-        // Vérifie simplement que ça ne plante pas
+        gameplay.setIsPaused(false);
+        assertFalse(gameplay.getIsPaused());
     }
 
     /**
-     * Vérifie que getDirection délègue au pathfinding avec la bonne conversion de coordonnées.
+     * Vérifie que la reprise de la partie abandonne l'image figée capturée pendant la pause.
      *
      * @throws Exception si l'injection de champs échoue
      */
     @Test
-    public void testGetDirection_DelegatesToPathfinding() throws Exception {
-        Vector2 expectedDir = new Vector2(1, 0);
-        when(mockPathfindingMap.getDirection(anyInt(), anyInt())).thenReturn(expectedDir);
-
-        Vector2 result = gameplay.getDirection(64, 32);
-
-        verify(mockPathfindingMap).getDirection(2, 1);
-        assertEquals(expectedDir, result);
-    }
+    public void testSetIsPaused_FalseDropsFreezeFrame() throws Exception {
+        doCallRealMethod().when(gameplay).hasFreezeFrame();
+        injectField("freezeFrameValid", true);
 
-    /**
-     * Vérifie les accesseurs setIsPaused / getIsPaused.
-     */
-    @Test
-    public void testSetIsPaused() {
         gameplay.setIsPaused(true);
-        assertTrue(gameplay.getIsPaused());
+        assertTrue(gameplay.hasFreezeFrame());
 
         gameplay.setIsPaused(false);
-        assertFalse(gameplay.getIsPaused());
+        assertFalse(gameplay.hasFreezeFrame());
     }
 
     /**
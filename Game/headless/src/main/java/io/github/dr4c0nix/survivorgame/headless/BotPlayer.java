@@ -0,0 +1,210 @@
+package io.github.dr4c0nix.survivorgame.headless;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import io.github.dr4c0nix.survivorgame.GameWorld;
+import io.github.dr4c0nix.survivorgame.PathfindingMap;
+import io.github.dr4c0nix.survivorgame.entities.OrbXp;
+import io.github.dr4c0nix.survivorgame.entities.enemy.ClassicEnemy;
+import io.github.dr4c0nix.survivorgame.entities.player.Player;
+import io.github.dr4c0nix.survivorgame.entities.player.PlayerInput;
+import io.github.dr4c0nix.survivorgame.screens.LevelUp;
+import io.github.dr4c0nix.survivorgame.screens.UpgradeOption;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Joueur scripté pour les parties simulées.
+ *
+ * Tant que la salle de départ est ouverte, le bot suit un champ de flux calculé vers la sortie.
+ * Ensuite il fuit les ennemis proches en suivant le champ de flux qui les guide (il recule
+ * dans le sens où ils avancent), ramasse les orbes quand la voie est libre et erre sinon.
+ * Chaque direction candidate est testée contre les collisions pour glisser le long des murs.
+ */
+public class BotPlayer implements PlayerInput {
+    private static final float THREAT_RADIUS = 180f;
+    private static final float ORB_RADIUS = 400f;
+    // distance testée devant les pieds pour éviter de foncer dans un mur
+    private static final float PROBE_DISTANCE = 12f;
+    private static final float FEET_HEIGHT = 10f;
+    // distance visée au-delà de la sortie de la salle de départ
+    private static final float EXIT_OVERSHOOT = 96f;
+    private static final float WANDER_TURN_RATE = 0.01f;
+
+    // 8 directions candidates (axes puis diagonales) et masques correspondants
+    private static final float[][] DIRECTIONS = {
+        {0, 1}, {0, -1}, {-1, 0}, {1, 0},
+        {-0.7071f, 0.7071f}, {0.7071f, 0.7071f}, {-0.7071f, -0.7071f}, {0.7071f, -0.7071f}
+    };
+    private static final int[] MASKS = {
+        UP, DOWN, LEFT, RIGHT,
+        UP | LEFT, UP | RIGHT, DOWN | LEFT, DOWN | RIGHT
+    };
+
+    // ordre de préférence des améliorations (la difficulté en dernier)
+    private static final String[] UPGRADE_PRIORITY = {
+        "Max Health", "HP Regeneration", "Armor", "Weapon Level", "Speed",
+        "Critical Chance", "Critical Damage", "Difficulty"
+    };
+
+    private final GameWorld world;
+    private PathfindingMap exitMap;
+    private final Vector2 exitTarget = new Vector2();
+    private final Vector2 playerCenter = new Vector2();
+    private final Vector2 desired = new Vector2();
+    private final Vector2 offset = new Vector2();
+    private final Rectangle probe = new Rectangle();
+    private float wanderAngle = 0f;
+
+    /**
+     * Crée un bot pour le monde donné.
+     *
+     * @param world monde simulé (ennemis, orbes, collisions, champ de flux)
+     */
+    public BotPlayer(GameWorld world) {
+        this.world = world;
+    }
+
+    @Override
+    public int pollDirections(Player player) {
+        Rectangle box = player.getHitbox();
+        playerCenter.set(box.x + box.width * 0.5f, box.y + FEET_HEIGHT * 0.5f);
+        desired.setZero();
+
+        if (world.getTriggerRect() != null) {
+            steerToExit();
+        } else if (!steerAwayFromThreats()) {
+            if (!steerToOrb()) {
+                wanderAngle += WANDER_TURN_RATE;
+                desired.set((float) Math.cos(wanderAngle), (float) Math.sin(wanderAngle));
+            }
+        }
+        return pickDirection(player);
+    }
+
+    /** Suit le champ de flux vers un point situé juste après la sortie de la salle de départ. */
+    private void steerToExit() {
+        if (exitMap == null) buildExitMap();
+        int gx = (int) (playerCenter.x / GameWorld.TILE_SIZE);
+        int gy = (int) (playerCenter.y / GameWorld.TILE_SIZE);
+        Vector2 flow = exitMap.getDirection(gx, gy);
+        if (flow != null) {
+            desired.set(flow);
+        } else {
+            desired.set(exitTarget).sub(playerCenter);
+        }
+    }
+
+    /** Copie les murs du monde et calcule un champ de flux vers la sortie de la salle de départ. */
+    private void buildExitMap() {
+        PathfindingMap source = world.getPathfindingMap();
+        exitMap = new PathfindingMap(source.getWidth(), source.getHeight());
+        for (int x = 0; x < source.getWidth(); x++) {
+            for (int y = 0; y < source.getHeight(); y++) {
+                if (source.isWall(x, y)) exitMap.setWall(x, y);
+            }
+        }
+        Rectangle trigger = world.getTriggerRect();
+        float cx = trigger.x + trigger.width * 0.5f;
+        float cy = trigger.y + trigger.height * 0.5f;
+        offset.set(cx, cy).sub(world.getSpawnPoint());
+        if (offset.isZero()) offset.set(0, -1);
+        offset.nor().scl(EXIT_OVERSHOOT);
+        exitTarget.set(cx + offset.x, cy + offset.y);
+        exitMap.calculateFlow((int) (exitTarget.x / GameWorld.TILE_SIZE), (int) (exitTarget.y / GameWorld.TILE_SIZE));
+    }
+
+    /**
+     * Recule devant les ennemis proches : s'éloigne d'eux et suit le champ de flux là où ils se trouvent.
+     *
+     * @return true si au moins un ennemi menace le joueur
+     */
+    private boolean steerAwayFromThreats() {
+        ArrayList<ClassicEnemy> enemies = world.getActiveClassicEnemies();
+        boolean threatened = false;
+        for (int i = 0; i < enemies.size(); i++) {
+            ClassicEnemy enemy = enemies.get(i);
+            if (!enemy.isAlive()) continue;
+            Rectangle eb = enemy.getHitbox();
+            float ex = eb.x + eb.width * 0.5f;
+            float ey = eb.y + eb.height * 0.5f;
+            offset.set(playerCenter.x - ex, playerCenter.y - ey);
+            float dist = offset.len();
+            if (dist > THREAT_RADIUS || dist < 0.001f) continue;
+            threatened = true;
+            float weight = 1f / dist;
+            desired.mulAdd(offset.scl(1f / dist), weight);
+            Vector2 flow = world.getDirection((int) ex, (int) ey);
+            if (flow != null) desired.mulAdd(flow, weight);
+        }
+        return threatened && !desired.isZero(0.0001f);
+    }
+
+    /**
+     * Se dirige vers l'orbe d'XP la plus proche.
+     *
+     * @return true si une orbe est à portée
+     */
+    private boolean steerToOrb() {
+        ArrayList<OrbXp> orbs = world.getEntityFactory().getActiveOrbs();
+        float best = ORB_RADIUS * ORB_RADIUS;
+        boolean found = false;
+        for (int i = 0; i < orbs.size(); i++) {
+            OrbXp orb = orbs.get(i);
+            if (!orb.isAlive()) continue;
+            Rectangle ob = orb.getHitbox();
+            float dx = ob.x + ob.width * 0.5f - playerCenter.x;
+            float dy = ob.y + ob.height * 0.5f - playerCenter.y;
+            float d2 = dx * dx + dy * dy;
+            if (d2 < best) {
+                best = d2;
+                desired.set(dx, dy);
+                found = true;
+            }
+        }
+        return found;
+    }
+
+    /** Choisit la direction libre la plus proche de la direction voulue. */
+    private int pickDirection(Player player) {
+        if (desired.isZero(0.0001f)) return 0;
+        desired.nor();
+        Rectangle box = player.getHitbox();
+        int bestMask = 0;
+        float bestScore = -2f;
+        for (int i = 0; i < DIRECTIONS.length; i++) {
+            float dx = DIRECTIONS[i][0];
+            float dy = DIRECTIONS[i][1];
+            float score = dx * desired.x + dy * desired.y;
+            if (score <= bestScore) continue;
+            probe.set(box.x + dx * PROBE_DISTANCE, box.y + dy * PROBE_DISTANCE, box.width, FEET_HEIGHT);
+            if (world.isColliding(probe)) continue;
+            bestScore = score;
+            bestMask = MASKS[i];
+        }
+        return bestMask;
+    }
+
+    /**
+     * Choisit une option de montée de niveau.
+     *
+     * Au niveau 2 (choix d'arme) l'épée est préférée ; sinon les améliorations de survie passent
+     * avant les dégâts, et la difficulté n'est prise qu'en dernier recours.
+     *
+     * @param options options tirées par {@link LevelUp#drawUpgrades}
+     * @return option retenue (null si la liste est vide)
+     */
+    public UpgradeOption chooseUpgrade(List<UpgradeOption> options) {
+        if (options == null || options.isEmpty()) return null;
+        for (int i = 0; i < options.size(); i++) {
+            if (LevelUp.SWORD_CHOICE.equals(options.get(i).getDisplayName())) return options.get(i);
+        }
+        for (String name : UPGRADE_PRIORITY) {
+            for (int i = 0; i < options.size(); i++) {
+                if (name.equals(options.get(i).getDisplayName())) return options.get(i);
+            }
+        }
+        return options.get(0);
+    }
+}
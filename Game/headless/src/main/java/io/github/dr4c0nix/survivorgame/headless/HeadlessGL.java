@@ -0,0 +1,38 @@
+package io.github.dr4c0nix.survivorgame.headless;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+
+/**
+ * Implémentation vide de GL20 pour le backend headless.
+ *
+ * Le backend headless ne fournit pas de contexte OpenGL ; la carte Tiled et les entités
+ * créent pourtant des Texture au chargement. Ce proxy accepte tous les appels et renvoie
+ * des valeurs neutres (0, false, null), ce qui suffit puisque rien n'est jamais dessiné.
+ */
+public final class HeadlessGL {
+
+    private HeadlessGL() {
+    }
+
+    /** Installe le GL vide si aucun contexte n'est présent. */
+    public static void install() {
+        if (Gdx.gl != null) return;
+        InvocationHandler handler = (proxy, method, args) -> defaultValue(method.getReturnType());
+        GL20 gl = (GL20) Proxy.newProxyInstance(GL20.class.getClassLoader(), new Class<?>[] { GL20.class }, handler);
+        Gdx.gl = gl;
+        Gdx.gl20 = gl;
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (type == boolean.class) return Boolean.FALSE;
+        if (type == int.class) return 0;
+        if (type == float.class) return 0f;
+        if (type == long.class) return 0L;
+        if (type == String.class) return "";
+        return null;
+    }
+}
@@ -0,0 +1,36 @@
+package io.github.dr4c0nix.survivorgame.headless;
+
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+
+/**
+ * Lance une partie simulée en ligne de commande et affiche son rapport.
+ *
+ * Code de sortie : 0 si la partie respecte le budget, 1 si elle le dépasse, 2 si les arguments sont invalides.
+ */
+public class HeadlessLauncher {
+    private static final String USAGE =
+        "Usage: headless [--minutes N] [--tick-rate HZ] [--budget-us MICROS] [--map PATH] [--seed N]\n"
+        + "                [--record FILE | --replay FILE] [--time-scale X]";
+
+    public static void main(String[] args) throws InterruptedException {
+        MatchSettings settings;
+        try {
+            settings = MatchSettings.fromArgs(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USAGE);
+            System.exit(2);
+            return;
+        }
+
+        MatchRunner runner = new MatchRunner(settings);
+        HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+        config.updatesPerSecond = -1;
+        new HeadlessApplication(runner, config);
+
+        MatchReport report = runner.awaitReport();
+        System.out.print(report.describe());
+        System.exit(report.isWithinBudget() ? 0 : 1);
+    }
+}
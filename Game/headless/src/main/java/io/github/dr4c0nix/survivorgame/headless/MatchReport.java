@@ -0,0 +1,179 @@
+package io.github.dr4c0nix.survivorgame.headless;
+
+import io.github.dr4c0nix.survivorgame.SystemTimings;
+
+/**
+ * Résultat d'une partie simulée : issue, débit de simulation, pics d'entités et temps par système.
+ */
+public class MatchReport {
+    /** Issue possible d'une partie. */
+    public enum Outcome { VICTORY, DEATH, ABORTED }
+
+    private Outcome outcome = Outcome.ABORTED;
+    private float simulatedSeconds;
+    private long ticks;
+    private long wallNanos;
+    private long worstTickNanos;
+    private int peakEnemies;
+    private int peakProjectiles;
+    private int peakOrbs;
+    private int level;
+    private int kills;
+    private long budgetMicros;
+    private long seed;
+    private SystemTimings timings;
+
+    /** Ticks simulés par seconde réelle. */
+    public double getTicksPerSecond() {
+        if (wallNanos <= 0) return 0.0;
+        return ticks * 1e9 / wallNanos;
+    }
+
+    /** Durée moyenne d'un tick (microsecondes). */
+    public double getAverageTickMicros() {
+        if (ticks == 0) return 0.0;
+        return wallNanos / 1000.0 / ticks;
+    }
+
+    /** Rapport entre le temps simulé et le temps réel (ex: 40x). */
+    public double getSpeedFactor() {
+        if (wallNanos <= 0) return 0.0;
+        return simulatedSeconds / (wallNanos / 1e9);
+    }
+
+    /**
+     * Vérifie le budget par tick (moyenne).
+     *
+     * @return true si aucun budget n'est fixé ou si la moyenne le respecte
+     */
+    public boolean isWithinBudget() {
+        return budgetMicros <= 0 || getAverageTickMicros() <= budgetMicros;
+    }
+
+    /** Rapport lisible pour la console. */
+    public String describe() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("Outcome        : %s after %.1f s (level %d, %d kills)%n",
+            outcome, simulatedSeconds, level, kills));
+        sb.append(String.format("Seed           : %d%n", seed));
+        sb.append(String.format("Ticks          : %d in %.2f s (%.0f ticks/s, %.1fx real time)%n",
+            ticks, wallNanos / 1e9, getTicksPerSecond(), getSpeedFactor()));
+        sb.append(String.format("Tick time      : avg %.2f us, worst %.2f us%n",
+            getAverageTickMicros(), worstTickNanos / 1000.0));
+        sb.append(String.format("Peak entities  : %d enemies, %d projectiles, %d orbs%n",
+            peakEnemies, peakProjectiles, peakOrbs));
+        if (timings != null) {
+            sb.append("Systems:").append(System.lineSeparator());
+            sb.append(timings.describe());
+        }
+        if (budgetMicros > 0) {
+            sb.append(String.format("Budget         : %d us/tick -> %s%n",
+                budgetMicros, isWithinBudget() ? "OK" : "EXCEEDED"));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Met à jour les pics d'entités actives.
+     *
+     * @param enemies ennemis actifs
+     * @param projectiles projectiles actifs
+     * @param orbs orbes actives
+     */
+    public void samplePeaks(int enemies, int projectiles, int orbs) {
+        if (enemies > peakEnemies) peakEnemies = enemies;
+        if (projectiles > peakProjectiles) peakProjectiles = projectiles;
+        if (orbs > peakOrbs) peakOrbs = orbs;
+    }
+
+    /**
+     * Enregistre la durée d'un tick.
+     *
+     * @param nanos durée du tick (nanosecondes)
+     */
+    public void recordTick(long nanos) {
+        ticks++;
+        wallNanos += nanos;
+        if (nanos > worstTickNanos) worstTickNanos = nanos;
+    }
+
+    public Outcome getOutcome() {
+        return outcome;
+    }
+
+    public void setOutcome(Outcome outcome) {
+        this.outcome = outcome;
+    }
+
+    public float getSimulatedSeconds() {
+        return simulatedSeconds;
+    }
+
+    public void setSimulatedSeconds(float simulatedSeconds) {
+        this.simulatedSeconds = simulatedSeconds;
+    }
+
+    public long getTicks() {
+        return ticks;
+    }
+
+    public long getWallNanos() {
+        return wallNanos;
+    }
+
+    public long getWorstTickNanos() {
+        return worstTickNanos;
+    }
+
+    public int getPeakEnemies() {
+        return peakEnemies;
+    }
+
+    public int getPeakProjectiles() {
+        return peakProjectiles;
+    }
+
+    public int getPeakOrbs() {
+        return peakOrbs;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    public void setLevel(int level) {
+        this.level = level;
+    }
+
+    public int getKills() {
+        return kills;
+    }
+
+    public void setKills(int kills) {
+        this.kills = kills;
+    }
+
+    public long getBudgetMicros() {
+        return budgetMicros;
+    }
+
+    public void setBudgetMicros(long budgetMicros) {
+        this.budgetMicros = budgetMicros;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    public SystemTimings getTimings() {
+        return timings;
+    }
+
+    public void setTimings(SystemTimings timings) {
+        this.timings = timings;
+    }
+}
@@ -0,0 +1,205 @@
+package io.github.dr4c0nix.survivorgame.headless;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TmxMapLoader;
+import io.github.dr4c0nix.survivorgame.GameWorld;
+import io.github.dr4c0nix.survivorgame.SystemTimings;
+import io.github.dr4c0nix.survivorgame.entities.EntityFactory;
+import io.github.dr4c0nix.survivorgame.entities.PoolSizing;
+import io.github.dr4c0nix.survivorgame.entities.Projectile;
+import io.github.dr4c0nix.survivorgame.entities.enemy.ClassicEnemy;
+import io.github.dr4c0nix.survivorgame.entities.player.Player;
+import io.github.dr4c0nix.survivorgame.replay.AutoLevelUp;
+import io.github.dr4c0nix.survivorgame.replay.InputRecorder;
+import io.github.dr4c0nix.survivorgame.replay.Replay;
+import io.github.dr4c0nix.survivorgame.replay.ReplayInput;
+import io.github.dr4c0nix.survivorgame.screens.UpgradeOption;
+
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Joue une partie complète sans rendu, aussi vite que possible (ou cadencée, voir {@link MatchSettings#getTimeScale()}).
+ *
+ * La partie est lancée dans {@link #create()} (thread du backend headless) : le monde est
+ * avancé à pas fixe jusqu'à la victoire ou la mort, le bot (ou un enregistrement rejoué) pilote
+ * le joueur et choisit les améliorations. Le rapport est ensuite disponible via {@link #awaitReport()}.
+ */
+public class MatchRunner extends ApplicationAdapter implements GameWorld.Listener {
+    private final MatchSettings settings;
+    private final CountDownLatch done = new CountDownLatch(1);
+    private final MatchReport report = new MatchReport();
+    private final SystemTimings timings = new SystemTimings();
+
+    private GameWorld world;
+    private AutoLevelUp levelUps;
+    private RuntimeException failure;
+
+    /**
+     * @param settings paramètres de la partie (durée, fréquence de simulation, carte, budget)
+     */
+    public MatchRunner(MatchSettings settings) {
+        this.settings = settings;
+    }
+
+    @Override
+    public void create() {
+        try {
+            run();
+        } catch (RuntimeException e) {
+            failure = e;
+        } finally {
+            done.countDown();
+            if (Gdx.app != null) Gdx.app.exit();
+        }
+    }
+
+    /**
+     * Joue la partie et remplit le rapport.
+     *
+     * @return rapport de la partie
+     */
+    public MatchReport run() {
+        HeadlessGL.install();
+        TiledMap map = new TmxMapLoader().load(settings.getMapPath());
+        Replay replay = settings.getReplayPath() != null ? readReplay(settings.getReplayPath()) : null;
+        Replay recording = null;
+        ReplayInput replayInput = null;
+        float step;
+        if (replay != null) {
+            world = new GameWorld(map, replay.getMaxTime(), new PoolSizing(null), replay.getSeed());
+            replayInput = new ReplayInput(replay);
+            world.getPlayer().setInput(replayInput);
+            levelUps = AutoLevelUp.replaying(world, replay);
+            step = 1f / replay.getTickRate();
+        } else {
+            float maxTime = settings.getMinutes() * 60f;
+            world = new GameWorld(map, maxTime, new PoolSizing(null), settings.getSeed());
+            final BotPlayer bot = new BotPlayer(world);
+            world.getPlayer().setInput(bot);
+            levelUps = new AutoLevelUp(world, new AutoLevelUp.Chooser() {
+                @Override
+                public int choose(List<UpgradeOption> options, int tick) {
+                    return options.indexOf(bot.chooseUpgrade(options));
+                }
+            });
+            if (settings.getRecordPath() != null) {
+                recording = new Replay(world.getSeed(), settings.getTickRate(), maxTime);
+                world.getPlayer().setInput(new InputRecorder(bot, recording));
+                levelUps.setRecording(recording);
+            }
+            step = 1f / settings.getTickRate();
+        }
+        world.setListener(this);
+        world.setTimings(timings);
+
+        report.setBudgetMicros(settings.getBudgetMicros());
+        report.setSeed(world.getSeed());
+        report.setTimings(timings);
+
+        EntityFactory factory = world.getEntityFactory();
+        List<ClassicEnemy> enemies = world.getActiveClassicEnemies();
+        List<Projectile> projectiles = factory.getActiveProjectiles();
+        // cadence optionnelle : durée réelle visée d'un tick (0 : aussi vite que possible)
+        long pacingNanos = settings.getTimeScale() > 0f ? (long) (step * 1e9 / settings.getTimeScale()) : 0L;
+        long deadline = System.nanoTime();
+        boolean running = true;
+        while (running) {
+            long start = System.nanoTime();
+            running = world.tick(step);
+            levelUps.applyPending();
+            report.recordTick(System.nanoTime() - start);
+            if (pacingNanos > 0) {
+                deadline += pacingNanos;
+                waitUntil(deadline);
+            }
+            report.samplePeaks(enemies.size(), projectiles.size(), factory.getActiveOrbs().size());
+            // enregistrement épuisé (partie quittée en cours) : le rejeu s'arrête là
+            if (replayInput != null && replayInput.isExhausted()) running = false;
+        }
+        if (recording != null) writeReplay(recording, settings.getRecordPath());
+
+        Player player = world.getPlayer();
+        report.setSimulatedSeconds(world.getElapsedTime());
+        report.setLevel(player.getLevel());
+        report.setKills(player.getMobKilled());
+        world.dispose();
+        map.dispose();
+        return report;
+    }
+
+    /** Attend l'instant donné ({@link System#nanoTime()}) ; ne fait rien si la partie est en retard. */
+    private static void waitUntil(long deadline) {
+        long remaining = deadline - System.nanoTime();
+        if (remaining <= 0) return;
+        try {
+            Thread.sleep(remaining / 1_000_000L, (int) (remaining % 1_000_000L));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Replay readReplay(String path) {
+        try (InputStream in = new FileInputStream(path)) {
+            return Replay.read(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read replay " + path, e);
+        }
+    }
+
+    private static void writeReplay(Replay replay, String path) {
+        try (OutputStream out = new FileOutputStream(path)) {
+            replay.write(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write replay " + path, e);
+        }
+    }
+
+    /**
+     * Attend la fin de la partie.
+     *
+     * @return rapport de la partie
+     * @throws InterruptedException si l'attente est interrompue
+     */
+    public MatchReport awaitReport() throws InterruptedException {
+        done.await();
+        if (failure != null) throw failure;
+        return report;
+    }
+
+    @Override
+    public void onEnemyHit(Projectile projectile, ClassicEnemy enemy, float damageDealt, boolean crit) {
+    }
+
+    @Override
+    public void onArenaSealed() {
+    }
+
+    @Override
+    public void onLightsToggled(boolean enabled) {
+    }
+
+    /** Tire les options comme l'écran de level-up ; le choix est appliqué après le tick, comme en jeu. */
+    @Override
+    public void onLevelUp() {
+        levelUps.onLevelUp();
+    }
+
+    @Override
+    public void onGameOver() {
+        report.setOutcome(MatchReport.Outcome.DEATH);
+    }
+
+    @Override
+    public void onVictory() {
+        report.setOutcome(MatchReport.Outcome.VICTORY);
+    }
+}
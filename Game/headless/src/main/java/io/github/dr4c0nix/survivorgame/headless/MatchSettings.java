@@ -0,0 +1,171 @@
+package io.github.dr4c0nix.survivorgame.headless;
+
+import io.github.dr4c0nix.survivorgame.FixedTimestep;
+import io.github.dr4c0nix.survivorgame.GameRandom;
+
+/**
+ * Paramètres d'une partie simulée en ligne de commande.
+ *
+ * Options reconnues :
+ * --minutes N       durée de la partie (1..60, comme GameOptions.setGameDuration), défaut 30
+ * --tick-rate N     fréquence de simulation en Hz (20..240), défaut 60
+ * --budget-us N     budget moyen par tick en microsecondes (0 = pas de contrôle), défaut 0
+ * --map CHEMIN      carte Tiled à charger (relative au dossier assets), défaut Map/map.tmx
+ * --seed N          graine de la partie (même graine, même partie), défaut tirée au hasard
+ * --record FICHIER  enregistre la partie du bot (rejouable en client ou ici)
+ * --replay FICHIER  rejoue un enregistrement au lieu du bot (graine, durée et fréquence de l'enregistrement)
+ * --time-scale X    cadence la partie à X fois le temps réel (0.25..16), défaut 0 = aussi vite que possible
+ */
+public class MatchSettings {
+    public static final String DEFAULT_MAP = "Map/map.tmx";
+
+    private int minutes = 30;
+    private int tickRate = 60;
+    private long budgetMicros = 0;
+    private String mapPath = DEFAULT_MAP;
+    private long seed = GameRandom.newSeed();
+    private String recordPath;
+    private String replayPath;
+    private float timeScale = 0f;
+
+    /**
+     * Lit les paramètres depuis les arguments de la ligne de commande.
+     *
+     * @param args arguments (options inconnues ignorées)
+     * @return paramètres validés
+     * @throws IllegalArgumentException si une valeur est absente ou non numérique
+     */
+    public static MatchSettings fromArgs(String[] args) {
+        MatchSettings settings = new MatchSettings();
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            switch (arg) {
+                case "--minutes":
+                    settings.setMinutes(parseInt(arg, args, ++i));
+                    break;
+                case "--tick-rate":
+                    settings.setTickRate(parseInt(arg, args, ++i));
+                    break;
+                case "--budget-us":
+                    settings.setBudgetMicros(parseInt(arg, args, ++i));
+                    break;
+                case "--seed":
+                    settings.setSeed(parseLong(arg, args, ++i));
+                    break;
+                case "--record":
+                    settings.recordPath = value(arg, args, ++i);
+                    break;
+                case "--replay":
+                    settings.replayPath = value(arg, args, ++i);
+                    break;
+                case "--time-scale":
+                    settings.setTimeScale(parseFloat(arg, args, ++i));
+                    break;
+                case "--map":
+                    settings.mapPath = value(arg, args, ++i);
+                    break;
+                default:
+                    break;
+            }
+        }
+        return settings;
+    }
+
+    private static String value(String name, String[] args, int index) {
+        if (index >= args.length) throw new IllegalArgumentException("Valeur manquante pour " + name);
+        return args[index];
+    }
+
+    private static int parseInt(String name, String[] args, int index) {
+        String raw = value(name, args, index);
+        try {
+            return Integer.parseInt(raw);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Valeur invalide pour " + name + " : " + raw);
+        }
+    }
+
+    private static float parseFloat(String name, String[] args, int index) {
+        String raw = value(name, args, index);
+        try {
+            return Float.parseFloat(raw);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Valeur invalide pour " + name + " : " + raw);
+        }
+    }
+
+    private static long parseLong(String name, String[] args, int index) {
+        String raw = value(name, args, index);
+        try {
+            return Long.parseLong(raw);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Valeur invalide pour " + name + " : " + raw);
+        }
+    }
+
+    /** Durée de la partie (minutes). */
+    public int getMinutes() {
+        return minutes;
+    }
+
+    /** Définit la durée de la partie (clamp 1..60 minutes). */
+    public void setMinutes(int minutes) {
+        this.minutes = Math.max(1, Math.min(60, minutes));
+    }
+
+    /** Fréquence de simulation (Hz). */
+    public int getTickRate() {
+        return tickRate;
+    }
+
+    /** Définit la fréquence de simulation (clamp 20..240 Hz). */
+    public void setTickRate(int tickRate) {
+        this.tickRate = Math.max(20, Math.min(240, tickRate));
+    }
+
+    /** Budget moyen par tick (microsecondes, 0 = aucun). */
+    public long getBudgetMicros() {
+        return budgetMicros;
+    }
+
+    /** Définit le budget moyen par tick (microsecondes, 0 = aucun). */
+    public void setBudgetMicros(long budgetMicros) {
+        this.budgetMicros = Math.max(0, budgetMicros);
+    }
+
+    /** Chemin de la carte. */
+    public String getMapPath() {
+        return mapPath;
+    }
+
+    /** Graine de la partie. */
+    public long getSeed() {
+        return seed;
+    }
+
+    /** Définit la graine de la partie. */
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    /** Fichier où enregistrer la partie (null : aucun). */
+    public String getRecordPath() {
+        return recordPath;
+    }
+
+    /** Enregistrement à rejouer (null : partie pilotée par le bot). */
+    public String getReplayPath() {
+        return replayPath;
+    }
+
+    /** Échelle de temps de la partie (0 : aussi vite que possible). */
+    public float getTimeScale() {
+        return timeScale;
+    }
+
+    /** Définit l'échelle de temps (0 ou moins : aucune cadence, sinon clamp comme FixedTimestep). */
+    public void setTimeScale(float timeScale) {
+        this.timeScale = timeScale <= 0f ? 0f
+            : Math.max(FixedTimestep.MIN_TIME_SCALE, Math.min(FixedTimestep.MAX_TIME_SCALE, timeScale));
+    }
+}
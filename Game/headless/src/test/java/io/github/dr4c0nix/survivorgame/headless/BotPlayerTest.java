@@ -0,0 +1,119 @@
+package io.github.dr4c0nix.survivorgame.headless;
+
+import com.badlogic.gdx.math.Rectangle;
+import io.github.dr4c0nix.survivorgame.GameWorld;
+import io.github.dr4c0nix.survivorgame.entities.EntityFactory;
+import io.github.dr4c0nix.survivorgame.entities.OrbXp;
+import io.github.dr4c0nix.survivorgame.entities.enemy.ClassicEnemy;
+import io.github.dr4c0nix.survivorgame.entities.player.Player;
+import io.github.dr4c0nix.survivorgame.entities.player.PlayerInput;
+import io.github.dr4c0nix.survivorgame.screens.LevelUp;
+import io.github.dr4c0nix.survivorgame.screens.UpgradeOption;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitaires pour {@link BotPlayer}.
+ * Le monde et les entités sont simulés : seules les décisions du bot sont vérifiées.
+ */
+public class BotPlayerTest {
+
+    private GameWorld world;
+    private Player player;
+    private ArrayList<ClassicEnemy> enemies;
+    private ArrayList<OrbXp> orbs;
+    private BotPlayer bot;
+
+    /**
+     * Place le joueur en (500, 500) dans une arène déjà scellée et sans obstacle.
+     */
+    @Before
+    public void setUp() {
+        world = mock(GameWorld.class);
+        player = mock(Player.class);
+        when(player.getHitbox()).thenReturn(new Rectangle(500, 500, 20, 30));
+
+        enemies = new ArrayList<>();
+        orbs = new ArrayList<>();
+        EntityFactory factory = mock(EntityFactory.class);
+        when(factory.getActiveOrbs()).thenReturn(orbs);
+        when(world.getActiveClassicEnemies()).thenReturn(enemies);
+        when(world.getEntityFactory()).thenReturn(factory);
+        when(world.getTriggerRect()).thenReturn(null);
+        when(world.isColliding(any(Rectangle.class))).thenReturn(false);
+
+        bot = new BotPlayer(world);
+    }
+
+    /**
+     * Vérifie que le bot s'éloigne d'un ennemi proche.
+     */
+    @Test
+    public void testPollDirections_FleesNearbyEnemy() {
+        enemies.add(enemyAt(580, 495));
+
+        int mask = bot.pollDirections(player);
+
+        assertEquals(PlayerInput.LEFT, mask);
+    }
+
+    /**
+     * Vérifie que le bot contourne une direction bloquée par un mur.
+     */
+    @Test
+    public void testPollDirections_AvoidsBlockedDirection() {
+        enemies.add(enemyAt(580, 495));
+        // mur à gauche : seules les sondes qui partent vers la gauche sans monter ni descendre sont bloquées
+        when(world.isColliding(argThat(r -> r != null && r.x < 500 && r.y == 500))).thenReturn(true);
+
+        int mask = bot.pollDirections(player);
+
+        assertTrue((mask & PlayerInput.LEFT) != 0);
+        assertTrue((mask & (PlayerInput.UP | PlayerInput.DOWN)) != 0);
+    }
+
+    /**
+     * Vérifie que le bot ramasse les orbes quand aucun ennemi n'est proche.
+     */
+    @Test
+    public void testPollDirections_SeeksOrbWhenSafe() {
+        OrbXp orb = mock(OrbXp.class);
+        when(orb.isAlive()).thenReturn(true);
+        when(orb.getHitbox()).thenReturn(new Rectangle(505, 300, 10, 10));
+        orbs.add(orb);
+
+        int mask = bot.pollDirections(player);
+
+        assertEquals(PlayerInput.DOWN, mask);
+    }
+
+    /**
+     * Vérifie la préférence pour l'épée au choix d'arme puis pour la survie.
+     */
+    @Test
+    public void testChooseUpgrade_FollowsPriority() {
+        UpgradeOption dagger = new UpgradeOption(LevelUp.DAGGER_CHOICE, 0, 0, UpgradeOption.StatType.INT);
+        UpgradeOption sword = new UpgradeOption(LevelUp.SWORD_CHOICE, 0, 0, UpgradeOption.StatType.INT);
+        assertSame(sword, bot.chooseUpgrade(Arrays.asList(dagger, sword)));
+
+        UpgradeOption speed = new UpgradeOption("Speed", 1, 2, UpgradeOption.StatType.FLOAT);
+        UpgradeOption health = new UpgradeOption("Max Health", 1, 2, UpgradeOption.StatType.INT);
+        UpgradeOption difficulty = new UpgradeOption("Difficulty", 1, 2, UpgradeOption.StatType.FLOAT);
+        assertSame(health, bot.chooseUpgrade(Arrays.asList(difficulty, speed, health)));
+
+        assertNull(bot.chooseUpgrade(new ArrayList<UpgradeOption>()));
+    }
+
+    private ClassicEnemy enemyAt(float x, float y) {
+        ClassicEnemy enemy = mock(ClassicEnemy.class);
+        when(enemy.isAlive()).thenReturn(true);
+        when(enemy.getHitbox()).thenReturn(new Rectangle(x, y, 20, 20));
+        return enemy;
+    }
+}
@@ -0,0 +1,79 @@
+package io.github.dr4c0nix.survivorgame.headless;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests unitaires pour {@link MatchSettings}.
+ */
+public class MatchSettingsTest {
+
+    /**
+     * Vérifie les valeurs par défaut (partie de 30 minutes à 60 Hz, sans budget).
+     */
+    @Test
+    public void testFromArgs_Defaults() {
+        MatchSettings settings = MatchSettings.fromArgs(new String[0]);
+
+        assertEquals(30, settings.getMinutes());
+        assertEquals(60, settings.getTickRate());
+        assertEquals(0L, settings.getBudgetMicros());
+        assertEquals(MatchSettings.DEFAULT_MAP, settings.getMapPath());
+    }
+
+    /**
+     * Vérifie la lecture des options et le bornage des valeurs hors limites.
+     */
+    @Test
+    public void testFromArgs_ParsesAndClamps() {
+        MatchSettings settings = MatchSettings.fromArgs(new String[] {
+            "--minutes", "90", "--tick-rate", "5", "--budget-us", "800", "--map", "Map/test.tmx"
+        });
+
+        assertEquals(60, settings.getMinutes());
+        assertEquals(20, settings.getTickRate());
+        assertEquals(800L, settings.getBudgetMicros());
+        assertEquals("Map/test.tmx", settings.getMapPath());
+    }
+
+    /**
+     * Vérifie que la graine passée en argument est conservée (parties rejouables).
+     */
+    @Test
+    public void testFromArgs_ParsesSeed() {
+        MatchSettings settings = MatchSettings.fromArgs(new String[] {"--seed", "-9876543210"});
+
+        assertEquals(-9876543210L, settings.getSeed());
+    }
+
+    /**
+     * Vérifie qu'une valeur manquante ou non numérique est refusée.
+     */
+    @Test
+    public void testFromArgs_RejectsInvalidValues() {
+        try {
+            MatchSettings.fromArgs(new String[] {"--minutes"});
+            fail("Une valeur manquante doit être refusée");
+        } catch (IllegalArgumentException expected) {
+            assertTrue(expected.getMessage().contains("--minutes"));
+        }
+        try {
+            MatchSettings.fromArgs(new String[] {"--tick-rate", "vite"});
+            fail("Une valeur non numérique doit être refusée");
+        } catch (IllegalArgumentException expected) {
+            assertTrue(expected.getMessage().contains("vite"));
+        }
+    }
+
+    /**
+     * Vérifie l'échelle de temps : aucune cadence par défaut, valeurs bornées comme en jeu.
+     */
+    @Test
+    public void testFromArgs_ParsesTimeScale() {
+        assertEquals(0f, MatchSettings.fromArgs(new String[0]).getTimeScale(), 0f);
+        assertEquals(8f, MatchSettings.fromArgs(new String[] {"--time-scale", "8"}).getTimeScale(), 0f);
+        assertEquals(16f, MatchSettings.fromArgs(new String[] {"--time-scale", "100"}).getTimeScale(), 0f);
+        assertEquals(0.25f, MatchSettings.fromArgs(new String[] {"--time-scale", "0.1"}).getTimeScale(), 0f);
+    }
+}
@@ -23,11 +23,13 @@ public class Lwjgl3Launcher {
      * - Vérifiant la compatibilité avec macOS et Windows
      * - Créant l'application LibGDX avec la configuration appropriée
      * 
-     * @param args Les arguments en ligne de commande (non utilisés)
+     * @param args Les arguments en ligne de commande :
+     *             --record FICHIER enregistre chaque partie, --replay FICHIER rejoue un enregistrement,
+     *             --time-scale X accélère ou ralentit la simulation (0.25 à 16, F7/F8 en jeu)
      */
     public static void main(String[] args) {
         if (StartupHelper.startNewJvmIfRequired()) return; // This handles macOS support and helps on Windows.
-        createApplication();
+        createApplication(args);
     }
 
     /**
@@ -36,10 +38,27 @@ public class Lwjgl3Launcher {
      * Cette méthode instancie l'application principale avec la configuration
      * de la plateforme LWJGL3.
      * 
+     * @param args arguments de la ligne de commande (enregistrement / rejeu)
      * @return L'application LibGDX créée
      */
-    private static Lwjgl3Application createApplication() {
-        return new Lwjgl3Application(new Main(), getDefaultConfiguration());
+    private static Lwjgl3Application createApplication(String[] args) {
+        String recordPath = null;
+        String replayPath = null;
+        float timeScale = 1f;
+        for (int i = 0; i + 1 < args.length; i++) {
+            if ("--record".equals(args[i])) {
+                recordPath = args[++i];
+            } else if ("--replay".equals(args[i])) {
+                replayPath = args[++i];
+            } else if ("--time-scale".equals(args[i])) {
+                try {
+                    timeScale = Float.parseFloat(args[++i]);
+                } catch (NumberFormatException e) {
+                    System.err.println("Invalid --time-scale: " + args[i]);
+                }
+            }
+        }
+        return new Lwjgl3Application(new Main(recordPath, replayPath, timeScale), getDefaultConfiguration());
     }
 
     /**
@@ -0,0 +1,46 @@
+package io.github.dr4c0nix.survivorgame.tools;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.tools.texturepacker.TexturePacker;
+
+/**
+ * Empaquète les sprites du jeu dans un atlas unique (tâche Gradle {@code tools:packTextures}).
+ *
+ * Les noms de régions sont les chemins relatifs sans extension ("Entity/Enemy/Orc/orcface"),
+ * c'est-à-dire ce que cherche {@code Sprites.get} côté jeu.
+ */
+public class AtlasPacker {
+    private static final String USAGE = "Usage: AtlasPacker INPUT_DIR OUTPUT_DIR PACK_NAME";
+
+    public static void main(String[] args) {
+        if (args.length != 3) {
+            System.err.println(USAGE);
+            System.exit(2);
+            return;
+        }
+        TexturePacker.process(createSettings(), args[0], args[1], args[2]);
+    }
+
+    /**
+     * Réglages de l'atlas : pixel art (filtre Nearest), sprites gardés à leur taille exacte
+     * (les hitbox sont calculées à partir de la taille des régions) et bords dupliqués contre le bleeding.
+     *
+     * @return réglages de TexturePacker
+     */
+    static TexturePacker.Settings createSettings() {
+        TexturePacker.Settings settings = new TexturePacker.Settings();
+        settings.combineSubdirectories = true;
+        settings.flattenPaths = false;
+        settings.useIndexes = false;
+        settings.stripWhitespaceX = false;
+        settings.stripWhitespaceY = false;
+        settings.paddingX = 2;
+        settings.paddingY = 2;
+        settings.duplicatePadding = true;
+        settings.filterMin = Texture.TextureFilter.Nearest;
+        settings.filterMag = Texture.TextureFilter.Nearest;
+        settings.maxWidth = 2048;
+        settings.maxHeight = 2048;
+        return settings;
+    }
+}